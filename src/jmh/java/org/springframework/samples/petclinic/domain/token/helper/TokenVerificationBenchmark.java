@@ -0,0 +1,56 @@
+package org.springframework.samples.petclinic.domain.token.helper;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청당 토큰 검증 비용
+ * <ul>
+ *     <li>{@code perRequestKeyAndParser} - 변경 전: 요청마다 키와 파서를 만들고 서명 검증 후 클레임 복사</li>
+ *     <li>{@code prebuiltParser} - 미리 만든 파서로 서명 검증 (캐시 미스 경로)</li>
+ *     <li>{@code cachedVerify} - 검증된 토큰 캐시 적중 (지문 계산 + 조회)</li>
+ * </ul>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+	private static final String SECRET_KEY = "SpringBoot.JWTHelperTokenSecretKeyValue";
+
+	private JwtTokenHelper jwtTokenHelper;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtTokenHelper = new JwtTokenHelper(SECRET_KEY, 1L, 12L, 100_000, new SimpleMeterRegistry());
+		token = jwtTokenHelper.issueAccessToken(Map.of("ownerId", 1)).getToken();
+		jwtTokenHelper.verify(token);
+	}
+
+	@Benchmark
+	public Object perRequestKeyAndParser() {
+		var key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+		var parser = Jwts.parser()
+			.verifyWith(key)
+			.build();
+		return new HashMap<String, Object>(parser.parseSignedClaims(token).getPayload());
+	}
+
+	@Benchmark
+	public Object prebuiltParser() {
+		return jwtTokenHelper.validationTokenWithThrow(token);
+	}
+
+	@Benchmark
+	public Object cachedVerify() {
+		return jwtTokenHelper.verify(token);
+	}
+}
@@ -14,7 +14,8 @@ public enum AppointmentErrorCode implements ErrorCodeInterface {
 	INVALID_APPOINTMENT_DATE(HttpStatus.BAD_REQUEST.value(), 304, "예약 날짜가 과거일 수 없습니다."),
 	INVALID_SYMPTOMS(HttpStatus.BAD_REQUEST.value(), 305, "증상은 필수값입니다."),
 	NULL_APPOINTMENT_STATUS(HttpStatus.BAD_REQUEST.value(), 306, "예약 상태는 필수값입니다."),
-	CONFLICTING_APPOINTMENT(HttpStatus.CONFLICT.value(), 307, "중복된 예약이 존재합니다.");
+	CONFLICTING_APPOINTMENT(HttpStatus.CONFLICT.value(), 307, "중복된 예약이 존재합니다."),
+	INVALID_AVAILABILITY_RANGE(HttpStatus.BAD_REQUEST.value(), 308, "조회 기간이 올바르지 않습니다. (종료 시각은 시작 시각 이후, 최대 31일)");
 
 	private final Integer httpStatusCode;
 	private final Integer errorCode;
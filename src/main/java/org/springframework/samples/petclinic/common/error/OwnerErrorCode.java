@@ -9,7 +9,10 @@ import org.springframework.http.HttpStatus;
 public enum OwnerErrorCode implements ErrorCodeInterface{
 
 	NO_OWNER(HttpStatus.BAD_REQUEST.value(), 601, "해당 유저가 존재하지 않습니다."),
-	INVALID_PASSWORD(HttpStatus.BAD_REQUEST.value(), 602, "비밀번호가 일치하지 않습니다.");
+	INVALID_PASSWORD(HttpStatus.BAD_REQUEST.value(), 602, "비밀번호가 일치하지 않습니다."),
+	PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE.value(), 603, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+	TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS.value(), 604, "로그인 실패가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+	UNAUTHORIZED_OWNER_ACCESS(HttpStatus.FORBIDDEN.value(), 605, "본인의 정보만 조회할 수 있습니다.");
 
 	private final Integer httpStatusCode;
 	private final Integer errorCode;
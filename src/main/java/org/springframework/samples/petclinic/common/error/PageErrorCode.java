@@ -0,0 +1,17 @@
+package org.springframework.samples.petclinic.common.error;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@AllArgsConstructor
+@Getter
+public enum PageErrorCode implements ErrorCodeInterface {
+
+	INVALID_PAGE_LIMIT(HttpStatus.BAD_REQUEST.value(), 901, "조회 개수는 1 이상이어야 합니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST.value(), 902, "잘못된 페이지 커서입니다.");
+
+	private final Integer httpStatusCode;
+	private final Integer errorCode;
+	private final String description;
+}
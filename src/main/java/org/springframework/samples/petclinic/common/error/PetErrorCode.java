@@ -10,7 +10,8 @@ public enum PetErrorCode implements ErrorCodeInterface {
 
 	NO_PET(HttpStatus.NOT_FOUND.value(), 401, "해당 반려동물이 존재하지 않습니다."),
 	INVALID_PET_TYPE(HttpStatus.BAD_REQUEST.value(), 402, "유효하지 않은 PetType ID입니다."),
-	INVALID_OWNER(HttpStatus.BAD_REQUEST.value(), 403, "유효하지 않은 Owner ID입니다.");
+	INVALID_OWNER(HttpStatus.BAD_REQUEST.value(), 403, "유효하지 않은 Owner ID입니다."),
+	INVALID_OWNER_IDS(HttpStatus.BAD_REQUEST.value(), 404, "Owner ID는 1개 이상 100개 이하로 요청해야 합니다.");
 
 	private final Integer httpStatusCode;
 	private final Integer errorCode;
@@ -14,7 +14,8 @@ public enum ReviewErrorCode implements ErrorCodeInterface {
 	REVIEW_CONTENT_TOO_SHORT(HttpStatus.BAD_REQUEST.value(), 704, "리뷰 내용이 너무 짧습니다."),
 	REVIEW_CONTENT_TOO_LONG(HttpStatus.BAD_REQUEST.value(), 705, "리뷰 내용이 너무 깁니다."),
 	DUPLICATE_REVIEW(HttpStatus.BAD_REQUEST.value(), 706, "이미 리뷰를 작성한 사용자입니다."),
-	UNAUTHORIZED_REVIEW_ACCESS(HttpStatus.BAD_REQUEST.value(), 707, "본인의 리뷰만 접근 가능합니다.");
+	UNAUTHORIZED_REVIEW_ACCESS(HttpStatus.BAD_REQUEST.value(), 707, "본인의 리뷰만 접근 가능합니다."),
+	INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST.value(), 708, "검색어가 유효하지 않습니다.");
 
 	private final Integer httpStatusCode;
 	private final Integer errorCode;
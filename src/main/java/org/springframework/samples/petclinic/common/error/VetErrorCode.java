@@ -10,7 +10,9 @@ public enum VetErrorCode implements ErrorCodeInterface {
 
 	NO_VET(HttpStatus.BAD_REQUEST.value(), 201, "해당 수의사가 존재하지 않습니다."),
 	NULL_NAME(HttpStatus.BAD_REQUEST.value(), 203, "이름은 필수값 입니다."),
-	NULL_SPECIALITY(HttpStatus.BAD_REQUEST.value(), 204, "전공분야는 필수값 입니다.");
+	NULL_SPECIALITY(HttpStatus.BAD_REQUEST.value(), 204, "전공분야는 필수값 입니다."),
+	INVALID_SPECIALTY_MATCH(HttpStatus.BAD_REQUEST.value(), 205, "전공분야 조회 조건은 all 또는 any 입니다."),
+	INVALID_VET_IDS(HttpStatus.BAD_REQUEST.value(), 206, "수의사 아이디는 1개 이상 100개 이하로 요청해야 합니다.");
 
 	private final Integer httpStatusCode;
 	private final Integer errorCode;
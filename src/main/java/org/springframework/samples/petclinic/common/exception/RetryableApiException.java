@@ -0,0 +1,23 @@
+package org.springframework.samples.petclinic.common.exception;
+
+import lombok.Getter;
+import org.springframework.samples.petclinic.common.error.ErrorCodeInterface;
+
+import java.time.Duration;
+
+/**
+ * 잠시 후 다시 시도하면 성공할 수 있는 요청 실패 (과부하 등)
+ * <p>
+ * 응답에 {@code Retry-After} 헤더로 {@link #retryAfter} 를 함께 내려준다.
+ * </p>
+ */
+@Getter
+public class RetryableApiException extends ApiException {
+
+	private final Duration retryAfter;
+
+	public RetryableApiException(ErrorCodeInterface errorCodeInterface, Duration retryAfter) {
+		super(errorCodeInterface);
+		this.retryAfter = retryAfter;
+	}
+}
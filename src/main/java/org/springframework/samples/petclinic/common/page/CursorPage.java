@@ -0,0 +1,53 @@
+package org.springframework.samples.petclinic.common.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(seek) 페이지 응답
+ * <p>
+ * nextCursor 를 다음 요청의 after 로 넘기면 이어서 조회한다. 마지막 페이지면 null 이다.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+	private List<T> content;
+
+	private String nextCursor;
+
+	/**
+	 * limit + 1 개까지 조회한 결과로 페이지를 만든다.
+	 * 초과분이 있으면 잘라내고 마지막 항목의 키를 다음 커서로 사용한다.
+	 */
+	public static <T> CursorPage<T> of(List<T> rows, CursorRequest request, Function<T, ?> cursorOf) {
+		return of(rows, request.limit(), cursorOf);
+	}
+
+	public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, ?> cursorOf) {
+		if (rows.size() <= limit) {
+			return new CursorPage<>(rows, null);
+		}
+
+		List<T> content = List.copyOf(rows.subList(0, limit));
+		return new CursorPage<>(content, String.valueOf(cursorOf.apply(content.get(content.size() - 1))));
+	}
+
+	// 항목 단위 변환
+	public <R> CursorPage<R> map(Function<T, R> mapper) {
+		return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor);
+	}
+
+	// 목록 단위 변환 (연관 데이터를 한 번에 조회하는 경우)
+	public <R> CursorPage<R> mapContent(Function<List<T>, List<R>> mapper) {
+		return new CursorPage<>(mapper.apply(content), nextCursor);
+	}
+}
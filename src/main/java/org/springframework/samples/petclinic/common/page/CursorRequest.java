@@ -0,0 +1,45 @@
+package org.springframework.samples.petclinic.common.page;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.common.error.PageErrorCode;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+
+/**
+ * 키셋(seek) 페이지 요청
+ * <p>
+ * after 는 이전 페이지 응답의 nextCursor 로, 이 아이디보다 큰 항목부터 조회한다. 비어 있으면 처음부터 조회한다.<br>
+ * limit 은 기본 {@value #DEFAULT_LIMIT} 개이며 {@value #MAX_LIMIT} 개를 넘게 요청해도 최대치까지만 조회한다.
+ * </p>
+ *
+ * @param after 마지막으로 받은 항목의 아이디 (없으면 null)
+ * @param limit 한 페이지에 담을 항목 수
+ */
+public record CursorRequest(Integer after, int limit) {
+
+	public static final int DEFAULT_LIMIT = 20;
+	public static final int MAX_LIMIT = 100;
+
+	public static CursorRequest of(Integer after, Integer limit) {
+		if (limit == null) {
+			return new CursorRequest(after, DEFAULT_LIMIT);
+		}
+		if (limit < 1) {
+			throw new ApiException(PageErrorCode.INVALID_PAGE_LIMIT);
+		}
+		return new CursorRequest(after, Math.min(limit, MAX_LIMIT));
+	}
+
+	public static CursorRequest first() {
+		return of(null, null);
+	}
+
+	// WHERE id > ? 에 사용할 시작 아이디
+	public int afterId() {
+		return after == null ? 0 : after;
+	}
+
+	// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+	public Limit fetchLimit() {
+		return Limit.of(limit + 1);
+	}
+}
@@ -0,0 +1,67 @@
+package org.springframework.samples.petclinic.common.page;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.common.error.PageErrorCode;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 최신순 키셋(seek) 페이지 요청 - (작성 시각, 아이디) 내림차순
+ * <p>
+ * after 는 이전 페이지 응답의 nextCursor({@code 작성시각_아이디}) 로, 이 항목보다 오래된 항목부터 조회한다.
+ * 비어 있으면 가장 최근 항목부터 조회한다. limit 규칙은 {@link CursorRequest} 와 같다.
+ * </p>
+ *
+ * @param createdAt 마지막으로 받은 항목의 작성 시각 (없으면 null)
+ * @param id        마지막으로 받은 항목의 아이디 (없으면 null)
+ * @param limit     한 페이지에 담을 항목 수
+ */
+public record TimeCursorRequest(LocalDateTime createdAt, Integer id, int limit) {
+
+	private static final String SEPARATOR = "_";
+	// 첫 페이지 조회용 상한 (DATETIME 최대값)
+	private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+	public static TimeCursorRequest of(String after, Integer limit) {
+		int pageLimit = CursorRequest.of(null, limit).limit();
+		if (after == null || after.isBlank()) {
+			return new TimeCursorRequest(null, null, pageLimit);
+		}
+
+		int separator = after.lastIndexOf(SEPARATOR);
+		if (separator < 0) {
+			throw new ApiException(PageErrorCode.INVALID_CURSOR);
+		}
+		try {
+			return new TimeCursorRequest(LocalDateTime.parse(after.substring(0, separator)),
+				Integer.parseInt(after.substring(separator + 1)), pageLimit);
+		} catch (DateTimeParseException | NumberFormatException e) {
+			throw new ApiException(PageErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public static TimeCursorRequest first() {
+		return of(null, null);
+	}
+
+	// 응답 항목으로 다음 커서 생성
+	public static String cursorOf(LocalDateTime createdAt, Integer id) {
+		return createdAt + SEPARATOR + id;
+	}
+
+	// WHERE (created_at, id) < (?, ?) 에 사용할 상한
+	public LocalDateTime createdAtBound() {
+		return createdAt == null ? MAX_CREATED_AT : createdAt;
+	}
+
+	public int idBound() {
+		return id == null ? Integer.MAX_VALUE : id;
+	}
+
+	// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+	public Limit fetchLimit() {
+		return Limit.of(limit + 1);
+	}
+}
@@ -0,0 +1,53 @@
+package org.springframework.samples.petclinic.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 결과에 맞춰 메모리 상태(색인, 큐)를 갱신하기 위한 콜백 등록
+ * <p>
+ * 진행 중인 트랜잭션이 없으면 커밋된 것으로 보고 처리한다.
+ * </p>
+ */
+public final class TransactionCallbacks {
+
+	private TransactionCallbacks() {
+	}
+
+	/**
+	 * 커밋 후 실행 - 트랜잭션 밖이면 바로 실행
+	 *
+	 * @param action 커밋된 변경을 반영하는 작업
+	 */
+	public static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	/**
+	 * 롤백되면 실행 - 트랜잭션 밖이면 되돌릴 일이 없으므로 등록하지 않음
+	 *
+	 * @param compensation 미리 반영한 변경을 되돌리는 작업
+	 */
+	public static void onRollback(Runnable compensation) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					compensation.run();
+				}
+			}
+		});
+	}
+}
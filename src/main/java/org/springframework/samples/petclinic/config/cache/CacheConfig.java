@@ -0,0 +1,55 @@
+package org.springframework.samples.petclinic.config.cache;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정
+ * <p>
+ * 캐시 저장소는 Caffeine 을 사용하며 크기, 만료 정책은 application.properties 의
+ * {@code spring.cache.caffeine.spec} 으로 지정한다.<br>
+ * {@code recordStats} 가 켜져 있으므로 hit/miss/eviction 통계가 actuator 의 {@code cache.*} 메트릭으로 노출된다.<br>
+ * 캐시에는 스레드 간에 공유해도 안전한 응답 DTO 만 담고, 영속성 컨텍스트에 묶인 엔티티는 담지 않는다.
+ * </p>
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+	// 수의사 단건 응답 (vetId)
+	public static final String VET_RESPONSE = "vetResponse";
+
+	// 수의사 평점 분포 응답 (vetId)
+	public static final String VET_RATINGS = "vetRatings";
+
+	// 수의사 전체 목록 응답
+	public static final String VET_LIST = "vetList";
+
+	// 전문분야별 수의사 목록 응답 (specialtyId)
+	public static final String VETS_BY_SPECIALTY = "vetsBySpecialty";
+
+	/**
+	 * 캐시 쓰기/무효화를 트랜잭션 커밋 이후로 미룬다.
+	 * <p>
+	 * 트랜잭션 안에서 바로 evict 하면 커밋 전에 다른 요청이 이전 값을 다시 캐시에 올릴 수 있고,
+	 * 롤백된 변경이 캐시에 남을 수도 있다. 트랜잭션 밖의 호출은 그대로 즉시 반영된다.
+	 * </p>
+	 */
+	@Bean
+	static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof CacheManager cacheManager
+					&& !(bean instanceof TransactionAwareCacheManagerProxy)) {
+					return new TransactionAwareCacheManagerProxy(cacheManager);
+				}
+				return bean;
+			}
+		};
+	}
+}
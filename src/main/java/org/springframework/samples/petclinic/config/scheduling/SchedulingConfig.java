@@ -0,0 +1,15 @@
+package org.springframework.samples.petclinic.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * <p>
+ * 리뷰 평점 반영 등 백그라운드 작업의 주기는 각 작업의 application.properties 설정으로 지정한다.
+ * </p>
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -0,0 +1,141 @@
+package org.springframework.samples.petclinic.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
+import org.springframework.samples.petclinic.common.exception.RetryableApiException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해싱 전용 스레드에서만 BCrypt 를 실행하는 PasswordEncoder
+ * <p>
+ * 해싱은 CPU 를 오래 쓰므로 요청 스레드에서 바로 돌리면 로그인 폭주 때 모든 요청 스레드가 해싱에 묶인다.
+ * 여기서는 코어 수만큼의 전용 스레드와 크기가 정해진 대기열에서만 해싱하고,
+ * 대기열이 가득 차면 기다리지 않고 {@link OwnerErrorCode#PASSWORD_HASHING_BUSY} (503 + Retry-After) 로 실패한다.
+ * </p>
+ * <p>
+ * {@link #upgradeEncoding(String)} 은 저장된 해시의 cost 가 설정값과 다르면 true 를 돌려주며,
+ * 로그인 성공 시 이 값으로 재해싱 여부를 정한다.
+ * </p>
+ * <ul>
+ *     <li>{@code password.hash.duration{operation=encode|matches}} - 해싱 시간 (히스토그램)</li>
+ *     <li>{@code password.hash.queue.wait} - 대기열에서 기다린 시간 (히스토그램)</li>
+ *     <li>{@code password.hash.queue.size} - 대기 중인 작업 수</li>
+ *     <li>{@code password.hash.rejected} - 대기열이 가득 차 거절한 요청 수</li>
+ * </ul>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
+	private final PasswordEncoder delegate;
+	private final int cost;
+	private final Duration retryAfter;
+	private final ThreadPoolExecutor executor;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Timer queueWaitTimer;
+	private final Counter rejected;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int cost, int threads, int queueCapacity,
+								  Duration retryAfter, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.cost = cost;
+		this.retryAfter = retryAfter;
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+		threadFactory.setDaemon(true);
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+		this.encodeTimer = hashTimer("encode", meterRegistry);
+		this.matchesTimer = hashTimer("matches", meterRegistry);
+		this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+			.description("Time a password hashing task waited for a hashing thread")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.rejected = Counter.builder("password.hash.rejected")
+			.description("Password hashing requests rejected because the queue was full")
+			.register(meterRegistry);
+		Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+			.description("Password hashing tasks waiting for a thread")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(() -> delegate.encode(rawPassword), encodeTimer);
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+	}
+
+	// 저장된 해시의 cost 가 설정값과 다르면 재해싱 대상
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (encodedPassword == null) {
+			return false;
+		}
+		var matcher = BCRYPT_COST.matcher(encodedPassword);
+		return matcher.find() && Integer.parseInt(matcher.group(1)) != cost;
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private <T> T run(Supplier<T> task, Timer timer) {
+		long enqueuedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				long startedAt = System.nanoTime();
+				queueWaitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+				try {
+					return task.get();
+				} finally {
+					timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new RetryableApiException(OwnerErrorCode.PASSWORD_HASHING_BUSY, retryAfter);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while hashing password", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Password hashing failed", e.getCause());
+		}
+	}
+
+	private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+		return Timer.builder("password.hash.duration")
+			.description("Time spent hashing or verifying a password")
+			.tag("operation", operation)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+}
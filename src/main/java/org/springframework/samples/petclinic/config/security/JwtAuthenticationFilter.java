@@ -5,11 +5,11 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.samples.petclinic.domain.token.service.TokenService;
 import org.springframework.samples.petclinic.domain.owner.service.BlacklistService;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -17,14 +17,30 @@ import java.io.IOException;
 
 /**
  * JWT 인증을 처리하는 커스텀 필터
+ * <p>
+ * 요청당 토큰 검증은 여기서 한 번만 하고, 결과는 {@link OwnerPrincipal} 로 SecurityContext 에 넣는다.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	private static final RequestMatcher ACTUATOR_ENDPOINTS = EndpointRequest.toAnyEndpoint();
+
 	private final TokenService tokenService;
 	private final BlacklistService blacklistService;
 
+	/**
+	 * actuator 엔드포인트는 운영자 계정으로만 인증하므로 사용자 토큰을 처리하지 않음
+	 *
+	 * @param request HTTP 요청 객체
+	 * @return actuator 경로이면 true
+	 */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return ACTUATOR_ENDPOINTS.matches(request);
+	}
+
 	/**
 	 * HTTP 요청에서 JWT 토큰을 처리하고 인증을 수행
 	 *
@@ -51,10 +67,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 				return;
 			}
 
-			Integer ownerId = tokenService.validationToken(token);
-			UserDetails userDetails = User.withUsername(ownerId.toString()).password("").roles("USER").build();
+			OwnerPrincipal principal = new OwnerPrincipal(tokenService.validationToken(token));
 
-			SecurityContextHolder.getContext().setAuthentication(new TokenBasedAuthentication(userDetails));
+			SecurityContextHolder.getContext().setAuthentication(new TokenBasedAuthentication(principal));
 		} catch (Exception e) {
 			response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 			response.getWriter().write("Invalid or expired token.");
@@ -0,0 +1,29 @@
+package org.springframework.samples.petclinic.config.security;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JWT 인증을 통과한 사용자
+ * <p>
+ * {@link JwtAuthenticationFilter} 가 토큰을 한 번 검증해 SecurityContext 에 넣고,
+ * 컨트롤러와 서비스는 토큰을 다시 검증하지 않고 {@link #current()} 로 꺼내 쓴다.
+ * </p>
+ *
+ * @param ownerId 토큰의 사용자 ID
+ */
+public record OwnerPrincipal(Integer ownerId) {
+
+	/**
+	 * 현재 요청의 인증된 사용자
+	 *
+	 * @return SecurityContext 의 {@link OwnerPrincipal}
+	 * @throws IllegalStateException 인증되지 않은 요청에서 호출한 경우
+	 */
+	public static OwnerPrincipal current() {
+		var authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof OwnerPrincipal principal) {
+			return principal;
+		}
+		throw new IllegalStateException("No authenticated owner");
+	}
+}
@@ -1,14 +1,25 @@
 package org.springframework.samples.petclinic.config.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
 
 /**
  * Spring Security의 설정을 정의
@@ -20,6 +31,45 @@ public class SecurityConfig {
 
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+	/**
+	 * actuator 엔드포인트 전용 필터 체인
+	 * <p>
+	 * - health 는 인증 없이 접근 가능<br>
+	 * - 나머지(메트릭, 정합성 검사, 기준 데이터 재적재 등)는 운영자 계정(ROLE_ADMIN)의 HTTP Basic 인증이 필요<br>
+	 * - 사용자 JWT 로는 접근할 수 없음 ({@link JwtAuthenticationFilter} 가 이 경로를 건너뜀)<br>
+	 * - 운영자 비밀번호({@code actuator.admin.password})를 설정하지 않으면 계정이 없으므로 health 외에는 모두 거절
+	 * </p>
+	 *
+	 * @param http          HttpSecurity 객체를 통해 보안 설정을 정의
+	 * @param adminUsername 운영자 계정 이름
+	 * @param adminPassword 운영자 비밀번호 - 인코딩 방식 접두사 포함 (예: {@code {bcrypt}$2a$10$...})
+	 * @return SecurityFilterChain actuator 경로에만 적용되는 필터 체인을 반환
+	 * @throws Exception 보안 설정 중 발생할 수 있는 예외
+	 */
+	@Bean
+	@Order(1)
+	public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http,
+														   @Value("${actuator.admin.username:admin}") String adminUsername,
+														   @Value("${actuator.admin.password:}") String adminPassword) throws Exception {
+		InMemoryUserDetailsManager admins = new InMemoryUserDetailsManager();
+		if (StringUtils.hasText(adminPassword)) {
+			admins.createUser(User.withUsername(adminUsername).password(adminPassword).roles("ADMIN").build());
+		}
+
+		http
+			.securityMatcher(EndpointRequest.toAnyEndpoint())
+			.csrf(AbstractHttpConfigurer::disable)
+			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+			.authorizeHttpRequests(auth -> auth
+				.requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+				.anyRequest().hasRole("ADMIN")
+			)
+			.userDetailsService(admins)
+			.httpBasic(Customizer.withDefaults());
+
+		return http.build();
+	}
+
 	/**
 	 * Spring Security의 필터 체인을 정의
 	 *  <p>
@@ -33,6 +83,7 @@ public class SecurityConfig {
 	 * @throws Exception 보안 설정 중 발생할 수 있는 예외
 	 */
 	@Bean
+	@Order(2)
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		http
 			.csrf(AbstractHttpConfigurer::disable)
@@ -54,11 +105,24 @@ public class SecurityConfig {
 
 	/**
 	 * 비밀번호 암호화를 위한 PasswordEncoder Bean
+	 * <p>
+	 * BCrypt 해싱은 요청 스레드가 아닌 전용 스레드({@link BoundedPasswordEncoder})에서 실행된다.
+	 * </p>
 	 *
-	 * @return PasswordEncoder BCryptPasswordEncoder 인스턴스를 반환
+	 * @param strength      BCrypt cost - 바꾸면 기존 비밀번호는 다음 로그인 때 새 cost 로 재해싱
+	 * @param threads       해싱 스레드 수 (0 이면 CPU 코어 수)
+	 * @param queueCapacity 해싱 대기열 크기 - 넘치면 503
+	 * @param retryAfter    503 응답의 Retry-After (초)
+	 * @param meterRegistry 해싱/대기 시간 메트릭 등록
+	 * @return PasswordEncoder BoundedPasswordEncoder 인스턴스를 반환
 	 */
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	@Bean(destroyMethod = "shutdown")
+	public BoundedPasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength,
+												  @Value("${password.hashing.threads:0}") int threads,
+												  @Value("${password.hashing.queue-capacity:32}") int queueCapacity,
+												  @Value("${password.hashing.retry-after-seconds:1}") long retryAfter,
+												  MeterRegistry meterRegistry) {
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity,
+			Duration.ofSeconds(retryAfter), meterRegistry);
 	}
 }
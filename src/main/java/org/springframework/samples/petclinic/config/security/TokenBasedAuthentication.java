@@ -2,22 +2,25 @@ package org.springframework.samples.petclinic.config.security;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collection;
+import java.util.List;
 
 public class TokenBasedAuthentication implements Authentication {
 
-	private final UserDetails userDetails;
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+	private final OwnerPrincipal principal;
 	private boolean authenticated = true;
 
-	public TokenBasedAuthentication(UserDetails userDetails) {
-		this.userDetails = userDetails;
+	public TokenBasedAuthentication(OwnerPrincipal principal) {
+		this.principal = principal;
 	}
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
-		return userDetails.getAuthorities();
+		return AUTHORITIES;
 	}
 
 	@Override
@@ -32,7 +35,7 @@ public class TokenBasedAuthentication implements Authentication {
 
 	@Override
 	public Object getPrincipal() {
-		return userDetails;
+		return principal;
 	}
 
 	@Override
@@ -47,6 +50,6 @@ public class TokenBasedAuthentication implements Authentication {
 
 	@Override
 	public String getName() {
-		return userDetails.getUsername();
+		return principal.ownerId().toString();
 	}
 }
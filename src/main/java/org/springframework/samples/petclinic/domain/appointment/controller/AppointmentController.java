@@ -2,18 +2,25 @@ package org.springframework.samples.petclinic.domain.appointment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentRequestDto;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
+import org.springframework.samples.petclinic.domain.appointment.dto.AvailableSlotResponseDto;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
+import org.springframework.samples.petclinic.domain.appointment.service.AppointmentAvailabilityService;
 import org.springframework.samples.petclinic.domain.appointment.service.CreateAppointmentService;
 import org.springframework.samples.petclinic.domain.appointment.service.DeleteAppointmentService;
 import org.springframework.samples.petclinic.domain.appointment.service.ReadAppointmentService;
 import org.springframework.samples.petclinic.domain.appointment.service.UpdateAppointmentService;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/appointment")
@@ -23,6 +30,7 @@ public class AppointmentController {
 	private final ReadAppointmentService readAppointmentService;
 	private final UpdateAppointmentService updateAppointmentService;
 	private final DeleteAppointmentService deleteAppointmentService;
+	private final AppointmentAvailabilityService appointmentAvailabilityService;
 
 	// 예약 생성
 	@PostMapping
@@ -32,10 +40,24 @@ public class AppointmentController {
 		return ResponseEntity.ok(response);
 	}
 
-	// 전체 예약 조회
+	// 전체 예약 조회 (?after=마지막 아이디&limit=개수)
 	@GetMapping
-	public ResponseEntity<List<AppointmentResponseDto>> getAllAppointments() {
-		return ResponseEntity.ok(readAppointmentService.findAllAppointments());
+	public ResponseEntity<CursorPage<AppointmentResponseDto>> getAllAppointments(
+		@RequestParam(value = "after", required = false) Integer after,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		return ResponseEntity.ok(readAppointmentService.findAllAppointments(CursorRequest.of(after, limit)));
+	}
+
+	// 전문분야 수의사들의 예약 가능 시간대 조회 (?specialtyId=&from=&to=&limit=, 일시는 ISO 형식)
+	@GetMapping("/availability")
+	public ResponseEntity<List<AvailableSlotResponseDto>> getAvailableSlots(
+		@RequestParam("specialtyId") Integer specialtyId,
+		@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+		@RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		return ResponseEntity.ok(appointmentAvailabilityService.findAvailableSlots(specialtyId, from, to, limit));
 	}
 
 	// 특정 예약 조회
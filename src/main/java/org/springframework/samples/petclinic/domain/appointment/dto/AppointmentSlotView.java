@@ -0,0 +1,10 @@
+package org.springframework.samples.petclinic.domain.appointment.dto;
+
+import java.time.LocalDateTime;
+
+// 예약 시간대 색인용 (수의사 아이디, 예약 일시)
+public interface AppointmentSlotView {
+	Integer getVetId();
+
+	LocalDateTime getApptDateTime();
+}
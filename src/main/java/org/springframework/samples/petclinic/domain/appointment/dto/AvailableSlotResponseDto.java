@@ -0,0 +1,18 @@
+package org.springframework.samples.petclinic.domain.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 예약 가능한 시간대 (수의사, 시간대 시작 시각)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableSlotResponseDto {
+	private Integer vetId;
+	private LocalDateTime apptDateTime;
+}
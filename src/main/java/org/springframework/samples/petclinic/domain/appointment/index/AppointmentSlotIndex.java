@@ -0,0 +1,180 @@
+package org.springframework.samples.petclinic.domain.appointment.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.samples.petclinic.common.transaction.TransactionCallbacks;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentSlotView;
+import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
+import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
+import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 수의사별 예약 시간대 색인
+ * <p>
+ * 하루를 {@value #SLOT_MINUTES}분 단위 시간대로 나누고, (수의사, 시간대)마다 유효한 예약 수를 기록한다.<br>
+ * 같은 시간대에 속하는 예약은 시각이 정확히 같지 않아도 겹치는 예약으로 본다. 취소된 예약은 시간대를 차지하지 않는다.<br>
+ * 조회와 갱신은 해시 조회 한 번으로 끝난다. 애플리케이션 시작 시 오늘 이후 예약으로 채우고,
+ * 이후에는 예약 생성/수정/삭제 시 갱신한다. 트랜잭션 안에서 갱신되면 롤백 시 되돌린다.
+ * </p>
+ * <p>
+ * 시간대는 날짜별로 묶어 두고, 날짜가 지나면 매일({@code appointment.slot-index.prune-cron}) 지난 날짜를 통째로 버리므로
+ * 색인 크기는 앞으로의 예약 수만큼만 유지된다.<br>
+ * 재구성은 새 색인을 만들어 교체한다. 재구성 중에도 기존 색인으로 조회/갱신하고, 그동안의 갱신은 기록해 두었다가
+ * 교체 직후 새 색인에 다시 적용한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppointmentSlotIndex {
+
+	public static final int SLOT_MINUTES = 30;
+
+	private final AppointmentRepository appointmentRepository;
+
+	// 재구성 교체와 갱신 기록을 맞추는 잠금 - 갱신끼리는 읽기 잠금으로 동시에 진행
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	// 날짜 -> (vetId, 시간대 번호) -> 유효 예약 수
+	private volatile ConcurrentNavigableMap<LocalDate, ConcurrentMap<Long, Integer>> bookings = new ConcurrentSkipListMap<>();
+	// 재구성 중 반영한 갱신 - 교체 직후 새 색인에 다시 적용 (재구성 중이 아니면 null)
+	private Queue<Consumer<ConcurrentNavigableMap<LocalDate, ConcurrentMap<Long, Integer>>>> rebuildMutations;
+
+	// 오늘 이후 유효 예약으로 재구성
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		lock.writeLock().lock();
+		try {
+			rebuildMutations = new ConcurrentLinkedQueue<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		ConcurrentNavigableMap<LocalDate, ConcurrentMap<Long, Integer>> rebuilt = null;
+		try {
+			List<AppointmentSlotView> slots = appointmentRepository.findActiveSlotsFrom(
+				LocalDate.now().atStartOfDay(), ApptStatus.CANCEL);
+			rebuilt = new ConcurrentSkipListMap<>();
+			for (AppointmentSlotView slot : slots) {
+				increment(rebuilt, slot.getVetId(), slot.getApptDateTime());
+			}
+			log.info("Appointment slot index rebuilt: {} appointments", slots.size());
+		} finally {
+			swap(rebuilt);
+		}
+	}
+
+	// 매일 어제까지의 시간대를 버림
+	@Scheduled(cron = "${appointment.slot-index.prune-cron:0 5 0 * * *}")
+	public void pruneExpiredDays() {
+		prune(LocalDate.now());
+	}
+
+	// today 이전 날짜의 시간대를 버림
+	public void prune(LocalDate today) {
+		mutate(index -> index.headMap(today).clear());
+		log.debug("Appointment slot index pruned days before {}", today);
+	}
+
+	// 해당 시간대에 이미 유효한 예약이 있는지
+	public boolean isBooked(int vetId, LocalDateTime apptDateTime) {
+		ConcurrentMap<Long, Integer> day = bookings.get(apptDateTime.toLocalDate());
+		return day != null && day.containsKey(key(vetId, apptDateTime));
+	}
+
+	// 예약이 시간대를 차지하도록 반영 (취소 상태면 무시)
+	public void book(Appointment appointment) {
+		if (!occupiesSlot(appointment)) {
+			return;
+		}
+		int vetId = appointment.getVet().getId();
+		LocalDateTime apptDateTime = appointment.getApptDateTime();
+		mutate(index -> increment(index, vetId, apptDateTime));
+		TransactionCallbacks.onRollback(() -> mutate(index -> decrement(index, vetId, apptDateTime)));
+	}
+
+	// 예약이 차지하던 시간대를 비움 (취소 상태면 무시)
+	public void release(Appointment appointment) {
+		if (!occupiesSlot(appointment)) {
+			return;
+		}
+		int vetId = appointment.getVet().getId();
+		LocalDateTime apptDateTime = appointment.getApptDateTime();
+		mutate(index -> decrement(index, vetId, apptDateTime));
+		TransactionCallbacks.onRollback(() -> mutate(index -> increment(index, vetId, apptDateTime)));
+	}
+
+	// 예약 일시가 속한 시간대의 시작 시각
+	public static LocalDateTime slotStart(LocalDateTime dateTime) {
+		return LocalDateTime.ofEpochSecond(slotNumber(dateTime) * SLOT_MINUTES * 60L, 0, ZoneOffset.UTC);
+	}
+
+	public static boolean occupiesSlot(Appointment appointment) {
+		return appointment.getStatus() != ApptStatus.CANCEL;
+	}
+
+	// 새 색인으로 교체하고 재구성 중 기록한 갱신을 다시 적용 (재구성이 실패하면 기록만 버림)
+	private void swap(ConcurrentNavigableMap<LocalDate, ConcurrentMap<Long, Integer>> rebuilt) {
+		lock.writeLock().lock();
+		try {
+			var mutations = rebuildMutations;
+			rebuildMutations = null;
+			if (rebuilt != null) {
+				mutations.forEach(mutation -> mutation.accept(rebuilt));
+				bookings = rebuilt;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 현재 색인에 바로 반영하고, 재구성 중이면 새 색인에도 적용하도록 기록
+	private void mutate(Consumer<ConcurrentNavigableMap<LocalDate, ConcurrentMap<Long, Integer>>> mutation) {
+		lock.readLock().lock();
+		try {
+			if (rebuildMutations != null) {
+				rebuildMutations.add(mutation);
+			}
+			mutation.accept(bookings);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static void increment(Map<LocalDate, ConcurrentMap<Long, Integer>> index, int vetId, LocalDateTime apptDateTime) {
+		index.computeIfAbsent(apptDateTime.toLocalDate(), day -> new ConcurrentHashMap<>())
+			.merge(key(vetId, apptDateTime), 1, Integer::sum);
+	}
+
+	private static void decrement(Map<LocalDate, ConcurrentMap<Long, Integer>> index, int vetId, LocalDateTime apptDateTime) {
+		ConcurrentMap<Long, Integer> day = index.get(apptDateTime.toLocalDate());
+		if (day != null) {
+			day.computeIfPresent(key(vetId, apptDateTime), (k, count) -> count > 1 ? count - 1 : null);
+		}
+	}
+
+	private static long key(int vetId, LocalDateTime apptDateTime) {
+		return ((long) vetId << 32) | slotNumber(apptDateTime);
+	}
+
+	private static long slotNumber(LocalDateTime dateTime) {
+		return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SLOT_MINUTES * 60L);
+	}
+}
@@ -0,0 +1,58 @@
+package org.springframework.samples.petclinic.domain.appointment.lock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 수의사별 예약 쓰기 잠금
+ * <p>
+ * 수의사 아이디를 {@value #STRIPES}개의 잠금 중 하나에 대응시켜, 같은 수의사의 예약 생성/수정/삭제를 한 번에 하나씩 처리한다.<br>
+ * 다른 잠금에 대응되는 수의사의 예약은 서로 기다리지 않는다.
+ * 잠금은 현재 트랜잭션이 끝날 때(커밋/롤백) 풀리므로, 시간대 확인부터 커밋까지 다른 요청이 끼어들 수 없다.<br>
+ * 여러 수의사를 한 번에 잠글 때는 잠금 번호 순서대로 잡아 교착을 막는다.
+ * </p>
+ */
+@Component
+public class VetBookingLock {
+
+	static final int STRIPES = 64;
+
+	private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+	public VetBookingLock() {
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	// 주어진 수의사들의 잠금을 잡고, 트랜잭션 종료 시 해제
+	public void lockUntilCompletion(int... vetIds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("VetBookingLock must be acquired within a transaction");
+		}
+
+		int[] stripes = Arrays.stream(vetIds).map(VetBookingLock::stripe).distinct().sorted().toArray();
+		for (int stripe : stripes) {
+			locks[stripe].lock();
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				for (int i = stripes.length - 1; i >= 0; i--) {
+					locks[stripes[i]].unlock();
+				}
+			}
+		});
+	}
+
+	private static int stripe(int vetId) {
+		// 연속된 아이디가 고르게 퍼지도록 섞은 뒤 하위 비트 사용
+		int h = vetId * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & (STRIPES - 1);
+	}
+}
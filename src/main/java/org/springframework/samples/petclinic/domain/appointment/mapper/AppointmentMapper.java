@@ -7,11 +7,10 @@ import org.springframework.samples.petclinic.domain.pet.model.Pet;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
 @Component
 public class AppointmentMapper {
 
+	// 수의사/펫은 아이디만 읽음 (지연 로딩 프록시 그대로 사용)
 	public AppointmentResponseDto toDto(Appointment appointment) {
 		return AppointmentResponseDto.builder()
 			.id(appointment.getId())
@@ -27,7 +26,7 @@ public class AppointmentMapper {
 		return Appointment.builder()
 			.pet(pet)
 			.vet(vet)
-			.apptDateTime(LocalDateTime.now())
+			.apptDateTime(request.getApptDateTime())
 			.status(request.getAppStatus())
 			.symptoms(request.getSymptoms())
 			.build();
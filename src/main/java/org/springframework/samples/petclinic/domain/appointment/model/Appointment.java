@@ -28,11 +28,11 @@ public class Appointment extends BaseEntity {
 	@Column(name = "symptoms")
 	private String symptoms;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "pet_id", nullable = false)
 	private Pet pet;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "vet_id", nullable = false)
 	private Vet vet;
 
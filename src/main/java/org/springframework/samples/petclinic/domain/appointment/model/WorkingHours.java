@@ -0,0 +1,20 @@
+package org.springframework.samples.petclinic.domain.appointment.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 가능한 영업 시간 (09시 ~ 18시)
+ */
+public final class WorkingHours {
+
+	public static final int OPEN_HOUR = 9;
+	public static final int CLOSE_HOUR = 18;
+
+	private WorkingHours() {
+	}
+
+	public static boolean contains(LocalDateTime dateTime) {
+		int hour = dateTime.getHour();
+		return hour >= OPEN_HOUR && hour < CLOSE_HOUR;
+	}
+}
@@ -1,12 +1,50 @@
 package org.springframework.samples.petclinic.domain.appointment.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentSlotView;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
-import org.springframework.samples.petclinic.domain.pet.model.Pet;
-import org.springframework.samples.petclinic.domain.vet.model.Vet;
+import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
+import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface AppointmentRepository extends JpaRepository<Appointment, Integer> {
-	boolean existsByPetAndVetAndApptDateTime(Pet pet, Vet vet, LocalDateTime apptDateTime);
+	// 시간대 색인 재구성용: from 이후의 취소되지 않은 예약 (수의사 아이디, 예약 일시)
+	@Query("SELECT a.vet.id AS vetId, a.apptDateTime AS apptDateTime FROM Appointment a " +
+		"WHERE a.apptDateTime >= :from AND (a.status IS NULL OR a.status <> :cancelled)")
+	List<AppointmentSlotView> findActiveSlotsFrom(@Param("from") LocalDateTime from,
+												  @Param("cancelled") ApptStatus cancelled);
+
+	// 빈 시간대 조회용: 수의사들의 [from, to) 구간 취소되지 않은 예약 (idx_appointment_vet_date 사용)
+	@Query("SELECT a.vet.id AS vetId, a.apptDateTime AS apptDateTime FROM Appointment a " +
+		"WHERE a.vet.id IN :vetIds AND a.apptDateTime >= :from AND a.apptDateTime < :to " +
+		"AND (a.status IS NULL OR a.status <> :cancelled)")
+	List<AppointmentSlotView> findActiveSlotsBetween(@Param("vetIds") Collection<Integer> vetIds,
+													 @Param("from") LocalDateTime from,
+													 @Param("to") LocalDateTime to,
+													 @Param("cancelled") ApptStatus cancelled);
+
+	// 회원의 다가오는 예약 (idx_pet_owner_status -> idx_appointment_pet_date)
+	@Query("""
+		SELECT new org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto(
+			a.id, a.apptDateTime, a.status, a.symptoms, a.vet.id, p.id)
+		FROM Appointment a JOIN a.pet p
+		WHERE p.owner.id = :ownerId AND p.status = :petStatus AND a.apptDateTime >= :from
+		AND (a.status IS NULL OR a.status <> :cancelled)
+		ORDER BY a.apptDateTime, a.id
+		""")
+	List<AppointmentResponseDto> findUpcomingByOwnerId(@Param("ownerId") Integer ownerId,
+													   @Param("petStatus") PetStatus petStatus,
+													   @Param("from") LocalDateTime from,
+													   @Param("cancelled") ApptStatus cancelled,
+													   Limit limit);
+
+	// 키셋 페이지 조회: WHERE id > ? ORDER BY id LIMIT ?
+	List<Appointment> findByIdGreaterThanOrderById(Integer id, Limit limit);
 }
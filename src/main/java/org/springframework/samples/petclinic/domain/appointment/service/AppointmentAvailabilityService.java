@@ -0,0 +1,122 @@
+package org.springframework.samples.petclinic.domain.appointment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.samples.petclinic.common.error.AppointmentErrorCode;
+import org.springframework.samples.petclinic.common.error.PageErrorCode;
+import org.springframework.samples.petclinic.common.error.SpecialityErrorCode;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentSlotView;
+import org.springframework.samples.petclinic.domain.appointment.dto.AvailableSlotResponseDto;
+import org.springframework.samples.petclinic.domain.appointment.index.AppointmentSlotIndex;
+import org.springframework.samples.petclinic.domain.appointment.model.WorkingHours;
+import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
+import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
+import org.springframework.samples.petclinic.domain.reference.registry.ReferenceDataRegistry;
+import org.springframework.samples.petclinic.domain.vet.index.SpecialtyVetIndex;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 전문분야별 예약 가능 시간대 조회
+ * <p>
+ * 전문분야 수의사들의 기간 내 예약을 한 번의 범위 조회로 가져와 수의사별 점유 시간대로 모은 뒤,
+ * 영업 시간 안의 {@value AppointmentSlotIndex#SLOT_MINUTES}분 시간대를 앞에서부터 훑으며 빈 (수의사, 시간대)를 찾는다.
+ * 같은 시각이면 수의사 아이디 순으로 반환한다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentAvailabilityService {
+
+	public static final int DEFAULT_LIMIT = 10;
+	static final Duration DEFAULT_RANGE = Duration.ofDays(7);
+	static final Duration MAX_RANGE = Duration.ofDays(31);
+	private static final Duration SLOT = Duration.ofMinutes(AppointmentSlotIndex.SLOT_MINUTES);
+
+	private final AppointmentRepository appointmentRepository;
+	private final SpecialtyVetIndex specialtyVetIndex;
+	private final ReferenceDataRegistry referenceDataRegistry;
+
+	public List<AvailableSlotResponseDto> findAvailableSlots(Integer specialtyId, LocalDateTime from,
+															 LocalDateTime to, Integer limit) {
+		referenceDataRegistry.findSpecialty(specialtyId)
+			.orElseThrow(() -> new ApiException(SpecialityErrorCode.NO_SPECIALITY));
+		int maxResults = resolveLimit(limit);
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime start = from == null || from.isBefore(now) ? now : from;
+		LocalDateTime end = to == null ? start.plus(DEFAULT_RANGE) : to;
+		if (!end.isAfter(start) || Duration.between(start, end).compareTo(MAX_RANGE) > 0)
+			throw new ApiException(AppointmentErrorCode.INVALID_AVAILABILITY_RANGE);
+
+		List<Integer> vetIds = specialtyVetIndex.findVetIds(specialtyId);
+		if (vetIds.isEmpty())
+			return List.of();
+
+		Map<Integer, Set<LocalDateTime>> occupied = findOccupiedSlots(vetIds, start, end);
+		return collectFreeSlots(vetIds, occupied, firstSlotAtOrAfter(start), end, maxResults);
+	}
+
+	// 시작 시각이 걸친 시간대의 예약도 포함하도록 시간대 시작부터 조회
+	private Map<Integer, Set<LocalDateTime>> findOccupiedSlots(List<Integer> vetIds, LocalDateTime start, LocalDateTime end) {
+		List<AppointmentSlotView> booked = appointmentRepository.findActiveSlotsBetween(
+			vetIds, AppointmentSlotIndex.slotStart(start), end, ApptStatus.CANCEL);
+
+		Map<Integer, Set<LocalDateTime>> occupied = new HashMap<>();
+		for (AppointmentSlotView slot : booked) {
+			occupied.computeIfAbsent(slot.getVetId(), id -> new HashSet<>())
+				.add(AppointmentSlotIndex.slotStart(slot.getApptDateTime()));
+		}
+		return occupied;
+	}
+
+	private static List<AvailableSlotResponseDto> collectFreeSlots(List<Integer> vetIds,
+																   Map<Integer, Set<LocalDateTime>> occupied,
+																   LocalDateTime first, LocalDateTime end, int maxResults) {
+		List<AvailableSlotResponseDto> freeSlots = new ArrayList<>();
+		LocalDateTime slot = first;
+		while (slot.isBefore(end) && freeSlots.size() < maxResults) {
+			if (!WorkingHours.contains(slot)) {
+				slot = nextOpening(slot);
+				continue;
+			}
+			for (Integer vetId : vetIds) {
+				if (!occupied.getOrDefault(vetId, Set.of()).contains(slot)) {
+					freeSlots.add(new AvailableSlotResponseDto(vetId, slot));
+					if (freeSlots.size() == maxResults)
+						break;
+				}
+			}
+			slot = slot.plus(SLOT);
+		}
+		return freeSlots;
+	}
+
+	private static LocalDateTime firstSlotAtOrAfter(LocalDateTime dateTime) {
+		LocalDateTime slotStart = AppointmentSlotIndex.slotStart(dateTime);
+		return slotStart.equals(dateTime) ? slotStart : slotStart.plus(SLOT);
+	}
+
+	// 영업 시간 밖이면 다음 영업 시작 시각으로 건너뜀
+	private static LocalDateTime nextOpening(LocalDateTime dateTime) {
+		LocalDateTime todayOpening = dateTime.toLocalDate().atTime(WorkingHours.OPEN_HOUR, 0);
+		return dateTime.isBefore(todayOpening) ? todayOpening : todayOpening.plusDays(1);
+	}
+
+	private static int resolveLimit(Integer limit) {
+		if (limit == null)
+			return DEFAULT_LIMIT;
+		if (limit < 1)
+			throw new ApiException(PageErrorCode.INVALID_PAGE_LIMIT);
+		return Math.min(limit, CursorRequest.MAX_LIMIT);
+	}
+}
@@ -1,12 +1,16 @@
 package org.springframework.samples.petclinic.domain.appointment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.samples.petclinic.common.error.AppointmentErrorCode;
 import org.springframework.samples.petclinic.common.error.PetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentRequestDto;
+import org.springframework.samples.petclinic.domain.appointment.index.AppointmentSlotIndex;
+import org.springframework.samples.petclinic.domain.appointment.lock.VetBookingLock;
 import org.springframework.samples.petclinic.domain.appointment.mapper.AppointmentMapper;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
+import org.springframework.samples.petclinic.domain.appointment.model.WorkingHours;
 import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
 import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
@@ -15,6 +19,7 @@ import org.springframework.samples.petclinic.domain.pet.repository.PetRepository
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -26,16 +31,32 @@ public class CreateAppointmentService {
 	private final VetService vetService;
 	private final PetRepository petRepository;
 	private final AppointmentMapper appointmentMapper;
+	private final AppointmentSlotIndex appointmentSlotIndex;
+	private final VetBookingLock vetBookingLock;
 
+	@Transactional
 	public Appointment createAppointment(AppointmentRequestDto request) {
-		Vet vet = vetService.getVetOrThrow(request.getVetId());
+		Vet vet = vetService.getVetReferenceOrThrow(request.getVetId());
 		Pet pet = getPetOrThrow(request);
 		validateRequestData(request);
 
-		validateDuplicateAppointment(request, pet, vet);
+		vetBookingLock.lockUntilCompletion(vet.getId());
+		validateDuplicateAppointment(request, vet);
 
 		Appointment appointment = appointmentMapper.toEntity(request, pet, vet);
-		return appointmentRepository.save(appointment);
+		Appointment savedAppointment = saveOrThrowConflict(appointment);
+		appointmentSlotIndex.book(savedAppointment);
+		return savedAppointment;
+	}
+
+	// 잠금을 우회한 중복 예약은 DB 유니크 제약 (vet_id, booked_slot)에서 막힘
+	// INSERT 가 커밋까지 미뤄지지 않도록 바로 반영해 위반을 여기서 확인
+	private Appointment saveOrThrowConflict(Appointment appointment) {
+		try {
+			return appointmentRepository.saveAndFlush(appointment);
+		} catch (DataIntegrityViolationException e) {
+			throw new ApiException(AppointmentErrorCode.CONFLICTING_APPOINTMENT);
+		}
 	}
 
 	private void validateRequestData(AppointmentRequestDto request) {
@@ -51,7 +72,7 @@ public class CreateAppointmentService {
 		if (apptDateTime.isBefore(LocalDateTime.now()))
 			throw new ApiException(AppointmentErrorCode.INVALID_APPOINTMENT_DATE);
 
-		if (!isWithinWorkingHours(apptDateTime))
+		if (!WorkingHours.contains(apptDateTime))
 			throw new ApiException(AppointmentErrorCode.OUTSIDE_WORKING_HOURS);
 	}
 
@@ -70,13 +91,10 @@ public class CreateAppointmentService {
 			.orElseThrow(() -> new ApiException(PetErrorCode.NO_PET));
 	}
 
-	private void validateDuplicateAppointment(AppointmentRequestDto request, Pet pet, Vet vet) {
-		if (appointmentRepository.existsByPetAndVetAndApptDateTime(pet, vet, request.getApptDateTime()))
+	// 같은 수의사의 같은 시간대에 유효한 예약이 있으면 충돌 (취소 상태로 만드는 예약은 시간대를 차지하지 않음)
+	private void validateDuplicateAppointment(AppointmentRequestDto request, Vet vet) {
+		if (request.getAppStatus() != ApptStatus.CANCEL
+			&& appointmentSlotIndex.isBooked(vet.getId(), request.getApptDateTime()))
 			throw new ApiException(AppointmentErrorCode.CONFLICTING_APPOINTMENT);
 	}
-
-	private boolean isWithinWorkingHours(LocalDateTime dateTime) {
-		int hour = dateTime.getHour();
-		return hour >= 9 && hour < 18;
-	}
 }
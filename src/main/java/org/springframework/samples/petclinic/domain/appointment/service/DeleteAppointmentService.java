@@ -3,19 +3,27 @@ package org.springframework.samples.petclinic.domain.appointment.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.samples.petclinic.common.error.AppointmentErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.domain.appointment.index.AppointmentSlotIndex;
+import org.springframework.samples.petclinic.domain.appointment.lock.VetBookingLock;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class DeleteAppointmentService {
 
 	private final AppointmentRepository appointmentRepository;
+	private final AppointmentSlotIndex appointmentSlotIndex;
+	private final VetBookingLock vetBookingLock;
 
+	@Transactional
 	public void deleteAppointment(Integer appointmentId) {
 		Appointment appointment = getAppointmentOrThrow(appointmentId);
+		vetBookingLock.lockUntilCompletion(appointment.getVet().getId());
 		appointmentRepository.delete(appointment);
+		appointmentSlotIndex.release(appointment);
 	}
 
 	private Appointment getAppointmentOrThrow(Integer appointmentId) {
@@ -3,6 +3,8 @@ package org.springframework.samples.petclinic.domain.appointment.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.samples.petclinic.common.error.AppointmentErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
 import org.springframework.samples.petclinic.domain.appointment.mapper.AppointmentMapper;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
@@ -10,7 +12,6 @@ import org.springframework.samples.petclinic.domain.appointment.repository.Appoi
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,10 +20,11 @@ public class ReadAppointmentService {
 	private final AppointmentRepository appointmentRepository;
 	private final AppointmentMapper appointmentMapper;
 
-	public List<AppointmentResponseDto> findAllAppointments() {
-		return appointmentRepository.findAll().stream()
-			.map(appointmentMapper::toDto)
-			.collect(Collectors.toList());
+	public CursorPage<AppointmentResponseDto> findAllAppointments(CursorRequest request) {
+		List<Appointment> appointments = appointmentRepository.findByIdGreaterThanOrderById(
+			request.afterId(), request.fetchLimit());
+
+		return CursorPage.of(appointments, request, Appointment::getId).map(appointmentMapper::toDto);
 	}
 
 	public AppointmentResponseDto findAppointment(Integer appointmentId) {
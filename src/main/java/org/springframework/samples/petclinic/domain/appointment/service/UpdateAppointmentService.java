@@ -1,13 +1,17 @@
 package org.springframework.samples.petclinic.domain.appointment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.samples.petclinic.common.error.AppointmentErrorCode;
 import org.springframework.samples.petclinic.common.error.PetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentRequestDto;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
+import org.springframework.samples.petclinic.domain.appointment.index.AppointmentSlotIndex;
+import org.springframework.samples.petclinic.domain.appointment.lock.VetBookingLock;
 import org.springframework.samples.petclinic.domain.appointment.mapper.AppointmentMapper;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
+import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
 import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
 import org.springframework.samples.petclinic.domain.pet.model.Pet;
@@ -15,6 +19,7 @@ import org.springframework.samples.petclinic.domain.pet.repository.PetRepository
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -26,20 +31,37 @@ public class UpdateAppointmentService {
 	private final PetRepository petRepository;
 	private final VetService vetService;
 	private final AppointmentMapper appointmentMapper;
+	private final AppointmentSlotIndex appointmentSlotIndex;
+	private final VetBookingLock vetBookingLock;
 
+	@Transactional
 	public AppointmentResponseDto updateAppointment(Integer appointmentId, AppointmentRequestDto request) {
 		validateRequestData(request);
 		Appointment appointment = getAppointmentOrThrow(appointmentId);
 		Pet pet = getPetOrThrow(request);
-		Vet vet = vetService.getVetOrThrow(request.getVetId());
+		Vet vet = vetService.getVetReferenceOrThrow(request.getVetId());
 
+		vetBookingLock.lockUntilCompletion(appointment.getVet().getId(), vet.getId());
+		validateSlotAvailable(request, appointment, vet);
+
+		appointmentSlotIndex.release(appointment);
 		updateAppointmentDetails(request, appointment, pet, vet);
 
-		Appointment updatedAppointment = appointmentRepository.save(appointment);
+		Appointment updatedAppointment = saveOrThrowConflict(appointment);
+		appointmentSlotIndex.book(updatedAppointment);
 
 		return appointmentMapper.toDto(updatedAppointment);
 	}
 
+	// 변경 내용을 바로 반영하여 DB 유니크 제약 (vet_id, booked_slot) 위반을 여기서 확인
+	private Appointment saveOrThrowConflict(Appointment appointment) {
+		try {
+			return appointmentRepository.saveAndFlush(appointment);
+		} catch (DataIntegrityViolationException e) {
+			throw new ApiException(AppointmentErrorCode.CONFLICTING_APPOINTMENT);
+		}
+	}
+
 	private void validateRequestData(AppointmentRequestDto request) {
 		if (request.getApptDateTime().isBefore(LocalDateTime.now()))
 			throw new ApiException(AppointmentErrorCode.INVALID_APPOINTMENT_DATE);
@@ -48,6 +70,20 @@ public class UpdateAppointmentService {
 			throw new ApiException(AppointmentErrorCode.INVALID_SYMPTOMS);
 	}
 
+	// 변경 후 예약이 차지할 시간대를 다른 예약이 이미 차지하고 있으면 충돌
+	private void validateSlotAvailable(AppointmentRequestDto request, Appointment appointment, Vet vet) {
+		if (request.getAppStatus() == ApptStatus.CANCEL)
+			return;
+
+		boolean sameSlot = AppointmentSlotIndex.occupiesSlot(appointment)
+			&& appointment.getVet().getId().equals(vet.getId())
+			&& AppointmentSlotIndex.slotStart(appointment.getApptDateTime())
+				.equals(AppointmentSlotIndex.slotStart(request.getApptDateTime()));
+
+		if (!sameSlot && appointmentSlotIndex.isBooked(vet.getId(), request.getApptDateTime()))
+			throw new ApiException(AppointmentErrorCode.CONFLICTING_APPOINTMENT);
+	}
+
 	private Pet getPetOrThrow(AppointmentRequestDto request) {
 		return petRepository.findByIdAndStatus(request.getPetId(), PetStatus.REGISTERED)
 			.orElseThrow(() -> new ApiException(PetErrorCode.NO_PET));
@@ -1,5 +1,6 @@
 package org.springframework.samples.petclinic.domain.history.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -7,6 +8,7 @@ import java.util.List;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class HistoryResponseDto {
 
 		private int historyId;
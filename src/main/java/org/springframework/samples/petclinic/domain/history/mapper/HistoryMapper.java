@@ -12,6 +12,9 @@ public class HistoryMapper {
 
 	/**
 	 * History 객체를 기반으로 응답 DTO 생성
+	 * <p>
+	 * 수의사/방문은 아이디만 읽으므로 지연 로딩 프록시를 초기화하지 않는다.
+	 * </p>
 	 *
 	 * @param history 저장된 History 객체
 	 * @return HistoryResponseDto 반환
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.visit.model.Visit;
@@ -22,11 +23,13 @@ public class History extends BaseEntity {
 
 	private String content;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
 	@JoinColumn(name = "vet_id")
 	private Vet vet;
 
-	@OneToOne
+	@OneToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
 	@JoinColumn(name = "visit_id")
 	private Visit visit;
 }
@@ -1,7 +1,12 @@
 package org.springframework.samples.petclinic.domain.history.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.history.dto.HistoryResponseDto;
 import org.springframework.samples.petclinic.domain.history.model.History;
+import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
 import org.springframework.samples.petclinic.domain.pet.model.Pet;
 import org.springframework.samples.petclinic.domain.visit.model.Visit;
 
@@ -9,5 +14,18 @@ import java.util.List;
 
 public interface HistoryRepository extends JpaRepository<History, Integer> {
 
-	List<History> findAllByVisitId_PetId(Integer petId);
+	// 펫의 진료 기록 - 응답은 수의사/방문 아이디만 쓰므로 연관 엔티티는 조회하지 않음 (idx_visit_pet_date -> idx_history_visit)
+	@Query("SELECT h FROM History h JOIN h.visit v WHERE v.pet.id = :petId ORDER BY h.id")
+	List<History> findAllByVisitId_PetId(@Param("petId") Integer petId);
+
+	// 회원의 최근 진료 기록 (idx_pet_owner_status -> idx_visit_pet_date -> idx_history_visit)
+	@Query("""
+		SELECT new org.springframework.samples.petclinic.domain.history.dto.HistoryResponseDto(
+			h.id, h.symptoms, h.content, h.vet.id, v.id)
+		FROM History h JOIN h.visit v JOIN v.pet p
+		WHERE p.owner.id = :ownerId AND p.status = :status
+		ORDER BY v.visitDate DESC, h.id DESC
+		""")
+	List<HistoryResponseDto> findRecentByOwnerId(@Param("ownerId") Integer ownerId, @Param("status") PetStatus status,
+												 Limit limit);
 }
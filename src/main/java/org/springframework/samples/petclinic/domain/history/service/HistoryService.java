@@ -42,7 +42,7 @@ public class HistoryService {
 	 * @return HistoryResponseDto 저장된 진료 정보 반환
 	 */
 	public HistoryResponseDto addHistory(HistoryRequestDto requestDto) {
-		Vet vet = vetService.getVetOrThrow(requestDto.getVetId());
+		Vet vet = vetService.getVetReferenceOrThrow(requestDto.getVetId());
 		Visit visit = visitRepository.findById(requestDto.getVisitId())
 			.orElseThrow(() -> new ApiException(VisitErrorCode.NO_VISIT));
 
@@ -82,7 +82,7 @@ public class HistoryService {
 		History history = historyRepository.findById(historyId)
 			.orElseThrow(() -> new ApiException(HistoryErrorCode.NO_HISTORY));
 
-		Vet vet = vetService.getVetOrThrow(request.getVetId());
+		Vet vet = vetService.getVetReferenceOrThrow(request.getVetId());
 
 		Visit visit = visitRepository.findById(request.getVisitId())
 			.orElseThrow(() -> new ApiException(VisitErrorCode.NO_VISIT));
@@ -3,16 +3,19 @@ package org.springframework.samples.petclinic.domain.owner.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.config.security.OwnerPrincipal;
 import org.springframework.samples.petclinic.domain.owner.dto.*;
 import org.springframework.samples.petclinic.domain.owner.service.BlacklistService;
 import org.springframework.samples.petclinic.domain.owner.service.OwnerAuthService;
+import org.springframework.samples.petclinic.domain.owner.service.OwnerDashboardService;
 import org.springframework.samples.petclinic.domain.owner.service.OwnerReadService;
 import org.springframework.samples.petclinic.domain.owner.service.OwnerProfileService;
 import org.springframework.samples.petclinic.domain.token.dto.TokenResponseDto;
 import org.springframework.samples.petclinic.domain.token.service.TokenService;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
@@ -22,6 +25,7 @@ class OwnerController {
 	private final OwnerAuthService ownerAuthService;
 	private final OwnerReadService ownerReadService;
 	private final OwnerProfileService ownerProfileService;
+	private final OwnerDashboardService ownerDashboardService;
 	private final TokenService tokenService;
 	private final BlacklistService blacklistService;
 
@@ -34,8 +38,8 @@ class OwnerController {
 
 	// 로그인
 	@PostMapping("/login")
-	public ResponseEntity<TokenResponseDto> login(@RequestBody LoginRequestDto loginRequestDto) {
-		TokenResponseDto tokenResponseDto = ownerAuthService.login(loginRequestDto);
+	public ResponseEntity<TokenResponseDto> login(@RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
+		TokenResponseDto tokenResponseDto = ownerAuthService.login(loginRequestDto, request.getRemoteAddr());
 		return ResponseEntity.ok(tokenResponseDto);
 	}
 
@@ -72,10 +76,13 @@ class OwnerController {
 		return ResponseEntity.ok().build();
 	}
 
-	// 회원 목록 조회
+	// 회원 목록 조회 (?after=마지막 아이디&limit=개수)
 	@GetMapping
-	public ResponseEntity<List<OwnerResponseDto>> findAll() {
-		return ResponseEntity.ok(ownerReadService.findAll());
+	public ResponseEntity<CursorPage<OwnerResponseDto>> findAll(
+		@RequestParam(value = "after", required = false) Integer after,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		return ResponseEntity.ok(ownerReadService.findAll(CursorRequest.of(after, limit)));
 	}
 
 	// 특정 회원 조회
@@ -83,4 +90,10 @@ class OwnerController {
 	public ResponseEntity<OwnerResponseDto> findById(@PathVariable("ownerId") Integer id) {
 		return ResponseEntity.ok(ownerReadService.findById(id));
 	}
+
+	// 회원 홈 화면 (프로필, 펫, 최근 방문/진료 기록, 다가오는 예약)
+	@GetMapping("/{ownerId}/dashboard")
+	public ResponseEntity<OwnerDashboardResponseDto> getDashboard(@PathVariable("ownerId") Integer id) {
+		return ResponseEntity.ok(ownerDashboardService.getDashboard(id, OwnerPrincipal.current().ownerId()));
+	}
 }
@@ -0,0 +1,24 @@
+package org.springframework.samples.petclinic.domain.owner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
+import org.springframework.samples.petclinic.domain.history.dto.HistoryResponseDto;
+import org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto;
+import org.springframework.samples.petclinic.domain.visit.dto.VisitResponseDto;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OwnerDashboardResponseDto {
+	private OwnerResponseDto owner;
+	private List<PetResponseDto> pets;
+	private List<VisitResponseDto> recentVisits;
+	private List<HistoryResponseDto> recentHistories;
+	private List<AppointmentResponseDto> upcomingAppointments;
+}
@@ -1,7 +1,9 @@
 package org.springframework.samples.petclinic.domain.owner.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
 
@@ -11,4 +13,7 @@ public interface OwnerRepository extends JpaRepository<Owner, Integer> {
 	Optional<Owner> findByUserId(String userId);
 
 	Optional<Owner> findById(Integer id);
+
+	// 키셋 페이지 조회: WHERE id > ? ORDER BY id LIMIT ?
+	List<Owner> findByIdGreaterThanOrderById(Integer id, Limit limit);
 }
@@ -1,22 +1,208 @@
 package org.springframework.samples.petclinic.domain.owner.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.domain.token.Interface.TokenHelperInterface;
+import org.springframework.samples.petclinic.domain.token.helper.TokenBloomFilter;
+import org.springframework.samples.petclinic.domain.token.helper.TokenFingerprint;
+import org.springframework.samples.petclinic.domain.token.helper.UntilTokenExpiry;
+import org.springframework.samples.petclinic.domain.token.model.RevokedToken;
+import org.springframework.samples.petclinic.domain.token.repository.RevokedTokenRepository;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Function;
 
+/**
+ * 로그아웃된 토큰 블랙리스트 (클러스터 공유)
+ * <p>
+ * 로그아웃은 revoked_token 테이블에 기록하고, 각 노드는 {@code token.revocation.poll-interval-ms} 마다
+ * 새로 폐기된 토큰만 읽어 로컬 Bloom 필터와 정확한 집합에 넣는다.
+ * 요청마다 하는 확인은 로컬에서 끝나며, 대부분인 "폐기되지 않음" 은 Bloom 필터에서 바로 판정된다.<br>
+ * 다른 노드의 로그아웃은 최대 폴링 주기만큼 늦게 반영된다.
+ * </p>
+ * <p>
+ * 정확한 집합은 토큰 원문 대신 {@link TokenFingerprint} 를 키로, 토큰 자체의 만료 시각까지만 보관한다.
+ * 만료된 토큰은 서명 검증에서 이미 거부되므로 블랙리스트에 남겨 둘 필요가 없다.<br>
+ * 항목별 만료는 Caffeine 의 가변 만료(계층형 타이밍 휠)로 처리하고,
+ * 최대 {@code token.blacklist.max-size} 개로 메모리를 제한한다. 밀려난 토큰은 다시 사용 가능해지므로
+ * 상한은 토큰 수명 동안의 최대 로그아웃 수보다 크게 잡고, 밀려남은 {@code cache.evictions} 로 확인한다.<br>
+ * Bloom 필터는 삭제가 안 되므로 만료 정리 때마다 정확한 집합으로 다시 만든다.
+ * </p>
+ * <ul>
+ *     <li>{@code token.blacklist.size} - 보관 중인 토큰 수</li>
+ *     <li>{@code token.blacklist.bloom.false-positives} - Bloom 필터 오탐으로 정확한 집합까지 확인한 횟수</li>
+ *     <li>{@code cache.*{cache=tokenBlacklist}} - 조회/만료/밀려남 통계</li>
+ * </ul>
+ */
+@Slf4j
 @Service
 public class BlacklistService {
 
-	private final Set<String> blacklist = ConcurrentHashMap.newKeySet();
+	private static final String CACHE_NAME = "tokenBlacklist";
+	private static final int POLL_PAGE_SIZE = 1_000;
+	private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+	// 커밋이 늦게 보이는 행을 놓치지 않도록 마지막으로 본 시각보다 이만큼 앞에서부터 다시 읽음
+	private static final Duration POLL_OVERLAP = Duration.ofSeconds(5);
+	private static final LocalDateTime POLL_START = LocalDateTime.of(1970, 1, 1, 0, 0);
 
-	// 토큰을 블랙리스트에 추가
+	private final TokenHelperInterface tokenHelper;
+	private final RevokedTokenRepository revokedTokenRepository;
+	private final long maxSize;
+	private final UntilTokenExpiry<TokenFingerprint, Instant> expiry;
+	private final Cache<TokenFingerprint, Instant> blacklist;
+	private final Counter bloomFalsePositives;
+
+	private volatile TokenBloomFilter bloomFilter;
+	// 필터 재구성과 추가를 직렬화 - 재구성이 집합을 훑은 뒤 교체 전에 들어온 지문이 새 필터에서 빠지지 않게 함
+	private final Object filterLock = new Object();
+	// 폴링 커서 (pollRevocations 에서만 사용)
+	private LocalDateTime lastRevokedAt = POLL_START;
+
+	@Autowired
+	public BlacklistService(TokenHelperInterface tokenHelper, RevokedTokenRepository revokedTokenRepository,
+							MeterRegistry meterRegistry, @Value("${token.blacklist.max-size:1000000}") long maxSize) {
+		this(tokenHelper, revokedTokenRepository, meterRegistry, maxSize, Ticker.systemTicker());
+	}
+
+	public BlacklistService(TokenHelperInterface tokenHelper, RevokedTokenRepository revokedTokenRepository,
+							MeterRegistry meterRegistry, long maxSize, Ticker ticker) {
+		this.tokenHelper = tokenHelper;
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.maxSize = maxSize;
+		this.expiry = new UntilTokenExpiry<>(Function.identity(), ticker);
+		this.blacklist = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(expiry)
+			.ticker(ticker)
+			.recordStats()
+			.build();
+		this.bloomFilter = TokenBloomFilter.create(maxSize, BLOOM_FALSE_POSITIVE_RATE);
+		CaffeineCacheMetrics.monitor(meterRegistry, blacklist, CACHE_NAME);
+		Gauge.builder("token.blacklist.size", blacklist, Cache::estimatedSize)
+			.description("Logged-out tokens kept until they expire")
+			.register(meterRegistry);
+		this.bloomFalsePositives = Counter.builder("token.blacklist.bloom.false-positives")
+			.description("Bloom filter hits that were not in the exact blacklist")
+			.register(meterRegistry);
+	}
+
+	// 토큰을 블랙리스트에 추가 - DB 에 기록해 다른 노드에도 전파, 이미 만료됐거나 유효하지 않은 토큰은 보관하지 않음
 	public void addToBlacklist(String token) {
-		blacklist.add(token);
+		Instant expiresAt;
+		try {
+			expiresAt = tokenHelper.expirationOf(token);
+		} catch (IllegalArgumentException e) {
+			log.debug("Not blacklisting unverifiable token: {}", e.getMessage());
+			return;
+		}
+		if (!expiresAt.isAfter(expiry.now())) {
+			return;
+		}
+
+		TokenFingerprint fingerprint = TokenFingerprint.of(token);
+		addLocally(fingerprint, expiresAt);
+		try {
+			revokedTokenRepository.saveAndFlush(RevokedToken.builder()
+				.fingerprintHigh(fingerprint.high())
+				.fingerprintLow(fingerprint.low())
+				.expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+				.build());
+		} catch (DataIntegrityViolationException e) {
+			// 이미 로그아웃된 토큰
+			log.debug("Token already revoked");
+		}
 	}
 
-	//토큰이 블랙리스트에 포함되었는지 확인
+	// 토큰이 블랙리스트에 포함되었는지 확인 - DB 를 조회하지 않음
 	public boolean isBlacklisted(String token) {
-		return blacklist.contains(token);
+		TokenFingerprint fingerprint = TokenFingerprint.of(token);
+		if (!bloomFilter.mightContain(fingerprint)) {
+			return false;
+		}
+		boolean blacklisted = blacklist.getIfPresent(fingerprint) != null;
+		if (!blacklisted) {
+			bloomFalsePositives.increment();
+		}
+		return blacklisted;
+	}
+
+	// 다른 노드에서 폐기된 토큰 반영 (시작 시에는 만료되지 않은 전체를 읽음)
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${token.revocation.poll-interval-ms:1000}", initialDelayString = "${token.revocation.poll-interval-ms:1000}")
+	public synchronized void pollRevocations() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime cursorAt = POLL_START.equals(lastRevokedAt) ? POLL_START : lastRevokedAt.minus(POLL_OVERLAP);
+		int cursorId = 0;
+
+		List<RevokedToken> page;
+		do {
+			page = revokedTokenRepository.findRevokedAfter(cursorAt, cursorId, now, Limit.of(POLL_PAGE_SIZE));
+			for (RevokedToken revoked : page) {
+				addLocally(revoked.fingerprint(), revoked.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+			}
+			if (!page.isEmpty()) {
+				RevokedToken last = page.get(page.size() - 1);
+				cursorAt = last.getRevokedAt();
+				cursorId = last.getId();
+				if (cursorAt.isAfter(lastRevokedAt)) {
+					lastRevokedAt = cursorAt;
+				}
+			}
+		} while (page.size() == POLL_PAGE_SIZE);
+	}
+
+	// 만료된 폐기 기록 정리 후 Bloom 필터를 현재 집합으로 다시 만듦
+	@Scheduled(fixedDelayString = "${token.revocation.purge-interval-ms:600000}", initialDelayString = "${token.revocation.purge-interval-ms:600000}")
+	@Transactional
+	public void purgeExpired() {
+		int purged = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+		rebuildBloomFilter();
+		log.debug("Purged {} expired token revocations", purged);
+	}
+
+	// 보관 중인 토큰 수 (만료 정리 후)
+	public long size() {
+		blacklist.cleanUp();
+		return blacklist.estimatedSize();
+	}
+
+	public void rebuildBloomFilter() {
+		synchronized (filterLock) {
+			blacklist.cleanUp();
+			TokenBloomFilter rebuilt = TokenBloomFilter.create(maxSize, BLOOM_FALSE_POSITIVE_RATE);
+			blacklist.asMap().keySet().forEach(rebuilt::put);
+			bloomFilter = rebuilt;
+		}
+	}
+
+	// 정확한 집합에 먼저 넣고 필터에 넣음 (필터가 true 를 주는 시점엔 집합에도 있어야 함)
+	// 조회는 잠그지 않고, 추가만 재구성과 같은 잠금을 잡아 교체 직전의 필터에 넣고 끝나는 일이 없게 함
+	private void addLocally(TokenFingerprint fingerprint, Instant expiresAt) {
+		if (!expiresAt.isAfter(expiry.now())) {
+			return;
+		}
+		synchronized (filterLock) {
+			blacklist.put(fingerprint, expiresAt);
+			bloomFilter.put(fingerprint);
+		}
 	}
 }
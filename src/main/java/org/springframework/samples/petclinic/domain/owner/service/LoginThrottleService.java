@@ -0,0 +1,213 @@
+package org.springframework.samples.petclinic.domain.owner.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
+import org.springframework.samples.petclinic.common.exception.RetryableApiException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 실패 횟수 제한 (슬라이딩 윈도우)
+ * <p>
+ * 최근 {@code login.throttle.window-seconds} 동안의 로그인 실패를 사용자 ID 별, 클라이언트 IP 별로 세고,
+ * 어느 한쪽이라도 한도에 도달하면 회원 조회와 비밀번호 검증 전에 429 로 거절한다.
+ * 실패한 시도만 세므로 정상 사용자의 로그인은 영향을 받지 않는다.
+ * </p>
+ * <p>
+ * 카운터는 사용자 ID, IP 마다 따로 두고, 키별로 윈도우를 {@value #BUCKETS} 칸으로 나눠
+ * 칸 하나를 {@code long} 하나(칸 번호 + 횟수)로 CAS 갱신한다. 한 키의 실패가 다른 키의 한도에 영향을 주지 않는다.<br>
+ * 키별 카운터는 마지막 접근 후 윈도우 길이가 지나면 만료되고, 범위별로 최대 {@code login.throttle.max-keys} 개까지만 둔다.
+ * 한도를 넘으면 오래 쓰이지 않은 키부터 밀려나 그 키의 횟수가 초기화될 뿐, 다른 키가 대신 제한되지는 않는다.
+ * </p>
+ * <p>
+ * 클라이언트 IP 는 {@code HttpServletRequest#getRemoteAddr()} 기준이다.
+ * 프록시 뒤에서 운영한다면 {@code server.forward-headers-strategy} 를 설정해야 실제 IP 로 센다.
+ * </p>
+ * <ul>
+ *     <li>{@code login.throttle.max-failures{scope=user|ip}} - 설정된 한도</li>
+ *     <li>{@code login.throttle.window} - 윈도우 길이 (초)</li>
+ *     <li>{@code login.throttle.failures} - 기록된 로그인 실패 수</li>
+ *     <li>{@code login.throttle.rejected{scope=user|ip}} - 한도 초과로 거절한 요청 수</li>
+ * </ul>
+ */
+@Service
+public class LoginThrottleService {
+
+	// 윈도우를 나누는 칸 수 - 윈도우가 칸 길이 단위로 밀려남
+	private static final int BUCKETS = 10;
+
+	private final int maxFailuresPerUser;
+	private final int maxFailuresPerIp;
+	private final long bucketMillis;
+	private final LongSupplier currentMillis;
+	private final Cache<String, SlidingWindow> userFailures;
+	private final Cache<String, SlidingWindow> ipFailures;
+	private final Counter failures;
+	private final Counter userRejected;
+	private final Counter ipRejected;
+
+	@Autowired
+	public LoginThrottleService(@Value("${login.throttle.window-seconds:300}") long windowSeconds,
+								@Value("${login.throttle.max-failures-per-user:5}") int maxFailuresPerUser,
+								@Value("${login.throttle.max-failures-per-ip:50}") int maxFailuresPerIp,
+								@Value("${login.throttle.max-keys:100000}") long maxKeys,
+								MeterRegistry meterRegistry) {
+		this(windowSeconds, maxFailuresPerUser, maxFailuresPerIp, maxKeys, meterRegistry, System::currentTimeMillis);
+	}
+
+	public LoginThrottleService(long windowSeconds, int maxFailuresPerUser, int maxFailuresPerIp, long maxKeys,
+								MeterRegistry meterRegistry, LongSupplier currentMillis) {
+		this.maxFailuresPerUser = maxFailuresPerUser;
+		this.maxFailuresPerIp = maxFailuresPerIp;
+		this.bucketMillis = Math.max(1, Duration.ofSeconds(windowSeconds).toMillis() / BUCKETS);
+		this.currentMillis = currentMillis;
+		this.userFailures = failureWindows(windowSeconds, maxKeys, currentMillis);
+		this.ipFailures = failureWindows(windowSeconds, maxKeys, currentMillis);
+
+		Gauge.builder("login.throttle.max-failures", () -> maxFailuresPerUser)
+			.description("Failed logins allowed per user within the window")
+			.tag("scope", "user")
+			.register(meterRegistry);
+		Gauge.builder("login.throttle.max-failures", () -> maxFailuresPerIp)
+			.description("Failed logins allowed per client IP within the window")
+			.tag("scope", "ip")
+			.register(meterRegistry);
+		Gauge.builder("login.throttle.window", () -> windowSeconds)
+			.description("Sliding window length for failed login counting")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		this.failures = Counter.builder("login.throttle.failures")
+			.description("Failed login attempts recorded")
+			.register(meterRegistry);
+		this.userRejected = rejectedCounter("user", meterRegistry);
+		this.ipRejected = rejectedCounter("ip", meterRegistry);
+	}
+
+	/**
+	 * 로그인 시도 허용 여부 확인
+	 *
+	 * @param userId   로그인 요청의 사용자 ID
+	 * @param clientIp 요청 클라이언트 IP
+	 * @throws RetryableApiException 최근 실패가 한도에 도달한 경우 (429)
+	 */
+	public void checkAllowed(String userId, String clientIp) {
+		long bucket = currentBucket();
+		if (userId != null && count(userFailures, userId, bucket) >= maxFailuresPerUser) {
+			userRejected.increment();
+			throw tooManyAttempts();
+		}
+		if (clientIp != null && count(ipFailures, clientIp, bucket) >= maxFailuresPerIp) {
+			ipRejected.increment();
+			throw tooManyAttempts();
+		}
+	}
+
+	/**
+	 * 로그인 실패 기록
+	 *
+	 * @param userId   로그인 요청의 사용자 ID
+	 * @param clientIp 요청 클라이언트 IP
+	 */
+	public void recordFailure(String userId, String clientIp) {
+		long bucket = currentBucket();
+		if (userId != null) {
+			userFailures.get(userId, key -> new SlidingWindow()).increment(bucket);
+		}
+		if (clientIp != null) {
+			ipFailures.get(clientIp, key -> new SlidingWindow()).increment(bucket);
+		}
+		failures.increment();
+	}
+
+	// 실패 기록이 없는 키는 카운터를 만들지 않음
+	private static int count(Cache<String, SlidingWindow> windows, String key, long bucket) {
+		SlidingWindow window = windows.getIfPresent(key);
+		return window == null ? 0 : window.count(bucket);
+	}
+
+	private long currentBucket() {
+		return currentMillis.getAsLong() / bucketMillis;
+	}
+
+	// 가장 오래된 칸이 윈도우에서 빠지기까지 최대 한 칸 길이
+	private RetryableApiException tooManyAttempts() {
+		return new RetryableApiException(OwnerErrorCode.TOO_MANY_LOGIN_ATTEMPTS, Duration.ofMillis(bucketMillis));
+	}
+
+	// 만료 시각도 같은 시계로 판단하도록 currentMillis 를 티커로 사용
+	private static Cache<String, SlidingWindow> failureWindows(long windowSeconds, long maxKeys,
+															   LongSupplier currentMillis) {
+		return Caffeine.newBuilder()
+			.maximumSize(maxKeys)
+			.expireAfterAccess(Duration.ofSeconds(windowSeconds))
+			.ticker(() -> TimeUnit.MILLISECONDS.toNanos(currentMillis.getAsLong()))
+			.build();
+	}
+
+	private static Counter rejectedCounter(String scope, MeterRegistry meterRegistry) {
+		return Counter.builder("login.throttle.rejected")
+			.description("Login attempts rejected because of recent failures")
+			.tag("scope", scope)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 키 하나의 슬라이딩 윈도우 카운터
+	 * <p>
+	 * 칸 값은 상위 40비트가 칸 번호, 하위 24비트가 횟수다. 칸 번호가 지금과 다르면 지난 윈도우의 값이므로 새로 시작한다.
+	 * </p>
+	 */
+	private static final class SlidingWindow {
+
+		private static final int COUNT_BITS = 24;
+		private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+		private final AtomicLongArray slots = new AtomicLongArray(BUCKETS);
+
+		int count(long bucket) {
+			long total = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				long slot = slots.get(i);
+				long age = bucket - (slot >>> COUNT_BITS);
+				if (age >= 0 && age < BUCKETS) {
+					total += slot & COUNT_MASK;
+				}
+			}
+			return (int) Math.min(total, Integer.MAX_VALUE);
+		}
+
+		void increment(long bucket) {
+			int index = (int) (bucket % BUCKETS);
+			while (true) {
+				long slot = slots.get(index);
+				long slotBucket = slot >>> COUNT_BITS;
+				long next;
+				if (slotBucket == bucket) {
+					long count = slot & COUNT_MASK;
+					if (count == COUNT_MASK) {
+						return;
+					}
+					next = slot + 1;
+				} else if (slotBucket < bucket) {
+					next = (bucket << COUNT_BITS) | 1;
+				} else {
+					// 시계가 뒤로 간 경우 - 더 최근 칸을 덮어쓰지 않음
+					return;
+				}
+				if (slots.compareAndSet(index, slot, next)) {
+					return;
+				}
+			}
+		}
+	}
+}
@@ -1,8 +1,11 @@
 package org.springframework.samples.petclinic.domain.owner.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.samples.petclinic.config.security.OwnerPrincipal;
 import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.exception.RetryableApiException;
 import org.springframework.samples.petclinic.domain.owner.dto.LoginRequestDto;
 import org.springframework.samples.petclinic.domain.owner.dto.OwnerResponseDto;
 import org.springframework.samples.petclinic.domain.owner.dto.RegisterRequestDto;
@@ -13,9 +16,8 @@ import org.springframework.samples.petclinic.domain.token.dto.TokenResponseDto;
 import org.springframework.samples.petclinic.domain.token.service.TokenService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OwnerAuthService {
@@ -24,6 +26,7 @@ public class OwnerAuthService {
 	private final TokenService tokenService;
 	private final PasswordEncoder passwordEncoder;
 	private final OwnerMapper ownerMapper;
+	private final LoginThrottleService loginThrottleService;
 
 	// 회원가입
 	public OwnerResponseDto register(RegisterRequestDto registerRequestDto) {
@@ -37,21 +40,28 @@ public class OwnerAuthService {
 		return ownerMapper.toDto(owner);
 	}
 
-	// 로그인
-	public TokenResponseDto login(LoginRequestDto loginRequestDto) {
-		Owner owner = findOwnerByOwnerIdOrThrow(loginRequestDto);
+	// 로그인 - 최근 실패가 많은 사용자 ID / IP 는 회원 조회 전에 거절
+	public TokenResponseDto login(LoginRequestDto loginRequestDto, String clientIp) {
+		loginThrottleService.checkAllowed(loginRequestDto.getUserId(), clientIp);
 
-		validatePasswordOrThrow(loginRequestDto, owner);
+		Owner owner;
+		try {
+			owner = findOwnerByOwnerIdOrThrow(loginRequestDto);
+			validatePasswordOrThrow(loginRequestDto, owner);
+		} catch (ApiException e) {
+			if (e.getErrorCodeInterface() == OwnerErrorCode.NO_OWNER
+				|| e.getErrorCodeInterface() == OwnerErrorCode.INVALID_PASSWORD)
+				loginThrottleService.recordFailure(loginRequestDto.getUserId(), clientIp);
+			throw e;
+		}
+		rehashPasswordIfOutdated(loginRequestDto, owner);
 
 		return tokenService.issueToken(owner.getId());
 	}
 
 	// 토큰 재발급
 	public TokenResponseDto tokens() {
-		var requestContext = RequestContextHolder.getRequestAttributes();
-		var ownerId = requestContext.getAttribute("ownerId", RequestAttributes.SCOPE_REQUEST);
-
-		return tokenService.issueToken((Integer) ownerId);
+		return tokenService.issueToken(OwnerPrincipal.current().ownerId());
 	}
 
 	private void validateOwnerDoesNotExist(RegisterRequestDto registerRequestDto) {
@@ -69,4 +79,17 @@ public class OwnerAuthService {
 		if (!passwordEncoder.matches(loginRequestDto.getPassword(), owner.getPassword()))
 			throw new ApiException(OwnerErrorCode.INVALID_PASSWORD);
 	}
+
+	// BCrypt cost 설정이 바뀐 경우 로그인 성공 시점의 평문으로 재해싱 - 해싱 대기열이 가득 차면 다음 로그인으로 미룸
+	private void rehashPasswordIfOutdated(LoginRequestDto loginRequestDto, Owner owner) {
+		if (!passwordEncoder.upgradeEncoding(owner.getPassword()))
+			return;
+
+		try {
+			owner.updatePassword(passwordEncoder.encode(loginRequestDto.getPassword()));
+			ownerRepository.save(owner);
+		} catch (RetryableApiException e) {
+			log.debug("Password rehash deferred for owner {}", owner.getId());
+		}
+	}
 }
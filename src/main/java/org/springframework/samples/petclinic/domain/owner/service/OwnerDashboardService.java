@@ -0,0 +1,71 @@
+package org.springframework.samples.petclinic.domain.owner.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
+import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
+import org.springframework.samples.petclinic.domain.history.repository.HistoryRepository;
+import org.springframework.samples.petclinic.domain.owner.dto.OwnerDashboardResponseDto;
+import org.springframework.samples.petclinic.domain.owner.dto.OwnerResponseDto;
+import org.springframework.samples.petclinic.domain.owner.model.Owner;
+import org.springframework.samples.petclinic.domain.owner.repository.OwnerRepository;
+import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
+import org.springframework.samples.petclinic.domain.pet.repository.PetRepository;
+import org.springframework.samples.petclinic.domain.visit.repository.VisitRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 홈 화면 조회
+ * <p>
+ * 프로필, 등록된 펫, 최근 방문, 최근 진료 기록, 다가오는 예약을 펫 수와 무관하게 고정된 5개의 쿼리로 만든다.
+ * 방문/진료/예약은 펫 아이디 목록 대신 owner_id 로 펫을 조인해 한 번에 읽고, 모두 DTO 로 바로 조회한다.<br>
+ * 다섯 쿼리는 하나의 읽기 전용 트랜잭션(같은 커넥션)에서 순서대로 실행해 같은 시점의 데이터를 보여준다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OwnerDashboardService {
+
+	static final int RECENT_VISITS = 10;
+	static final int RECENT_HISTORIES = 10;
+	static final int UPCOMING_APPOINTMENTS = 10;
+
+	private final OwnerRepository ownerRepository;
+	private final PetRepository petRepository;
+	private final VisitRepository visitRepository;
+	private final HistoryRepository historyRepository;
+	private final AppointmentRepository appointmentRepository;
+
+	// 회원 홈 화면 - 본인 것만 조회 가능 (권한이 없으면 쿼리를 실행하지 않음)
+	public OwnerDashboardResponseDto getDashboard(Integer ownerId, Integer authenticatedOwnerId) {
+		if (!ownerId.equals(authenticatedOwnerId)) {
+			throw new ApiException(OwnerErrorCode.UNAUTHORIZED_OWNER_ACCESS);
+		}
+
+		Owner owner = ownerRepository.findById(ownerId)
+			.orElseThrow(() -> new ApiException(OwnerErrorCode.NO_OWNER));
+
+		return OwnerDashboardResponseDto.builder()
+			.owner(OwnerResponseDto.builder()
+				.id(owner.getId())
+				.name(owner.getName())
+				.address(owner.getAddress())
+				.city(owner.getCity())
+				.telephone(owner.getTelephone())
+				.build())
+			.pets(petRepository.findResponsesByOwnerId(ownerId, PetStatus.REGISTERED))
+			.recentVisits(visitRepository.findRecentByOwnerId(
+				ownerId, PetStatus.REGISTERED, Limit.of(RECENT_VISITS)))
+			.recentHistories(historyRepository.findRecentByOwnerId(
+				ownerId, PetStatus.REGISTERED, Limit.of(RECENT_HISTORIES)))
+			.upcomingAppointments(appointmentRepository.findUpcomingByOwnerId(
+				ownerId, PetStatus.REGISTERED, LocalDateTime.now(), ApptStatus.CANCEL, Limit.of(UPCOMING_APPOINTMENTS)))
+			.build();
+	}
+}
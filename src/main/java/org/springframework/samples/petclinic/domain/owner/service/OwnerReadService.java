@@ -3,6 +3,8 @@ package org.springframework.samples.petclinic.domain.owner.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.owner.dto.OwnerResponseDto;
 import org.springframework.samples.petclinic.domain.owner.exception.OwnerNotFoundException;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
@@ -10,7 +12,6 @@ import org.springframework.samples.petclinic.domain.owner.repository.OwnerReposi
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,9 +19,11 @@ public class OwnerReadService {
 
 	private final OwnerRepository ownerRepository;
 
-	// 모든 회원 데이터를 조회
-	public List<OwnerResponseDto> findAll() {
-		return findAllOwners();
+	// 모든 회원 데이터를 조회 (키셋 페이지)
+	public CursorPage<OwnerResponseDto> findAll(CursorRequest request) {
+		List<Owner> owners = ownerRepository.findByIdGreaterThanOrderById(request.afterId(), request.fetchLimit());
+
+		return CursorPage.of(owners, request, Owner::getId).map(OwnerReadService::buildOwnerResponse);
 	}
 
 	// 특정 회원 조회
@@ -30,17 +33,6 @@ public class OwnerReadService {
 		return buildOwnerResponse(owner);
 	}
 
-	private List<OwnerResponseDto> findAllOwners() {
-		return ownerRepository.findAll().stream()
-			.map(owner -> OwnerResponseDto.builder()
-				.name(owner.getName())
-				.address(owner.getAddress())
-				.telephone(owner.getTelephone())
-				.city(owner.getCity())
-				.build())
-			.collect(Collectors.toList());
-	}
-
 	private Owner findOwnerByIdOrThrow(Integer id) {
 		return ownerRepository.findById(id)
 			.orElseThrow(() -> new ApiException(OwnerErrorCode.NO_OWNER));
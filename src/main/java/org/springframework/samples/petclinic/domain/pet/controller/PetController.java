@@ -2,12 +2,15 @@ package org.springframework.samples.petclinic.domain.pet.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.pet.dto.PetRequestDto;
 import org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto;
 import org.springframework.samples.petclinic.domain.pet.service.PetService;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/pet")
@@ -16,10 +19,13 @@ public class PetController {
 
 	private final PetService petService;
 
-	// 모든 Pet 조회
+	// 모든 Pet 조회 (?after=마지막 아이디&limit=개수)
 	@GetMapping
-	public ResponseEntity<List<PetResponseDto>> getAllPets() {
-		return ResponseEntity.ok(petService.getAllPets());
+	public ResponseEntity<CursorPage<PetResponseDto>> getAllPets(
+		@RequestParam(value = "after", required = false) Integer after,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		return ResponseEntity.ok(petService.getAllPets(CursorRequest.of(after, limit)));
 	}
 
 	// 단일 Pet 조회
@@ -34,6 +40,14 @@ public class PetController {
 		return ResponseEntity.ok(petService.getPetsByOwnerId(ownerId));
 	}
 
+	// 여러 주인의 펫 조회 (?ownerIds=1,2,3, 최대 100명)
+	@GetMapping(value = "/owners", params = "ownerIds")
+	public ResponseEntity<Map<Integer, List<PetResponseDto>>> getPetsByOwnerIds(
+		@RequestParam(value = "ownerIds") List<Integer> ownerIds
+	) {
+		return ResponseEntity.ok(petService.getPetsByOwnerIds(ownerIds));
+	}
+
 	// Pet 생성
 	@PostMapping
 	public ResponseEntity<PetResponseDto> createPet(@RequestBody PetRequestDto request) {
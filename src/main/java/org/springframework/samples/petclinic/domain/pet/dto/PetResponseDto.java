@@ -1,15 +1,16 @@
 package org.springframework.samples.petclinic.domain.pet.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import org.springframework.samples.petclinic.domain.pet.model.PetType;
 
 import java.time.LocalDate;
 
 @Setter
 @Getter
 @Builder
+@AllArgsConstructor
 public class PetResponseDto {
 	private Integer id;
 	private String name;
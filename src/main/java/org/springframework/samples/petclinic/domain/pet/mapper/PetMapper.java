@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 @Component
 public class PetMapper {
 
+	// 종류/주인은 프록시의 아이디만 사용 - 추가 조회 없음
 	public PetResponseDto toDto(Pet pet) {
 		return PetResponseDto.builder()
 			.id(pet.getId())
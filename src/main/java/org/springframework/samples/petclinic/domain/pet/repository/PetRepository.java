@@ -1,14 +1,41 @@
 package org.springframework.samples.petclinic.domain.pet.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto;
 import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
 import org.springframework.samples.petclinic.domain.pet.model.Pet;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PetRepository extends JpaRepository<Pet, Integer> {
-	List<Pet> findAllByStatusOrderById(PetStatus status);
+	// 키셋 페이지 조회: WHERE status = ? AND id > ? ORDER BY id LIMIT ?
+	List<Pet> findByStatusAndIdGreaterThanOrderById(PetStatus status, Integer id, Limit limit);
 
 	Optional<Pet> findByIdAndStatus(Integer id, PetStatus status);
+
+	// 주인의 펫 조회: idx_pet_owner_status (owner_id, status) 로 해당 주인의 행만 읽고 엔티티 대신 DTO 로 반환
+	@Query("""
+		SELECT new org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto(
+			p.id, p.name, p.birthDate, p.type.id, p.owner.id)
+		FROM Pet p
+		WHERE p.owner.id = :ownerId AND p.status = :status
+		ORDER BY p.id
+		""")
+	List<PetResponseDto> findResponsesByOwnerId(@Param("ownerId") Integer ownerId, @Param("status") PetStatus status);
+
+	// 여러 주인의 펫을 한 번에 조회 (owner_id IN ...)
+	@Query("""
+		SELECT new org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto(
+			p.id, p.name, p.birthDate, p.type.id, p.owner.id)
+		FROM Pet p
+		WHERE p.owner.id IN :ownerIds AND p.status = :status
+		ORDER BY p.owner.id, p.id
+		""")
+	List<PetResponseDto> findResponsesByOwnerIdIn(@Param("ownerIds") Collection<Integer> ownerIds,
+												  @Param("status") PetStatus status);
 }
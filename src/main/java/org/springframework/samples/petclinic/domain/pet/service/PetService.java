@@ -2,6 +2,8 @@ package org.springframework.samples.petclinic.domain.pet.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.pet.dto.PetRequestDto;
 import org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto;
 import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
@@ -10,14 +12,16 @@ import org.springframework.samples.petclinic.domain.pet.model.Pet;
 import org.springframework.samples.petclinic.domain.pet.model.PetType;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
 import org.springframework.samples.petclinic.domain.pet.repository.PetRepository;
-import org.springframework.samples.petclinic.domain.pet.repository.PetTypeRepository;
 import org.springframework.samples.petclinic.domain.owner.repository.OwnerRepository;
+import org.springframework.samples.petclinic.domain.reference.registry.ReferenceDataRegistry;
 import org.springframework.samples.petclinic.common.error.PetErrorCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,15 +29,16 @@ import java.util.stream.Collectors;
 public class PetService {
 
 	private final PetRepository petRepository;
-	private final PetTypeRepository petTypeRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 	private final OwnerRepository ownerRepository;
 	private final PetMapper petMapper;
 
-	// 모든 Pet 조회
-	public List<PetResponseDto> getAllPets() {
-		return petRepository.findAllByStatusOrderById(PetStatus.REGISTERED).stream()
-			.map(petMapper::toDto)
-			.collect(Collectors.toList());
+	// 모든 Pet 조회 (키셋 페이지)
+	public CursorPage<PetResponseDto> getAllPets(CursorRequest request) {
+		List<Pet> pets = petRepository.findByStatusAndIdGreaterThanOrderById(
+			PetStatus.REGISTERED, request.afterId(), request.fetchLimit());
+
+		return CursorPage.of(pets, request, Pet::getId).map(petMapper::toDto);
 	}
 
 	// 단일 Pet 조회
@@ -44,19 +49,31 @@ public class PetService {
 	}
 
 	// 주인의 펫 조회
+	@Transactional(readOnly = true)
 	public List<PetResponseDto> getPetsByOwnerId(Integer ownerId) {
-		ownerRepository.findById(ownerId)
-			.orElseThrow(() -> new ApiException(PetErrorCode.INVALID_OWNER));
+		if (!ownerRepository.existsById(ownerId))
+			throw new ApiException(PetErrorCode.INVALID_OWNER);
+
+		return petRepository.findResponsesByOwnerId(ownerId, PetStatus.REGISTERED);
+	}
+
+	// 여러 주인의 펫 조회 - 한 번의 조회, 요청한 주인 순서대로 (펫이 없는 주인은 빈 목록)
+	@Transactional(readOnly = true)
+	public Map<Integer, List<PetResponseDto>> getPetsByOwnerIds(List<Integer> ownerIds) {
+		if (ownerIds == null || ownerIds.isEmpty() || ownerIds.size() > CursorRequest.MAX_LIMIT)
+			throw new ApiException(PetErrorCode.INVALID_OWNER_IDS);
+
+		Map<Integer, List<PetResponseDto>> petsByOwner = new LinkedHashMap<>();
+		ownerIds.forEach(ownerId -> petsByOwner.put(ownerId, new ArrayList<>()));
+		petRepository.findResponsesByOwnerIdIn(petsByOwner.keySet(), PetStatus.REGISTERED)
+			.forEach(pet -> petsByOwner.get(pet.getOwnerId()).add(pet));
 
-		return petRepository.findAllByStatusOrderById(PetStatus.REGISTERED).stream()
-			.filter(pet -> pet.getOwner() != null && pet.getOwner().getId().equals(ownerId))
-			.map(petMapper::toDto)
-			.collect(Collectors.toList());
+		return petsByOwner;
 	}
 
 	// Pet 생성
 	public PetResponseDto createPet(PetRequestDto request) {
-		PetType petType = petTypeRepository.findById(request.getTypeId())
+		PetType petType = referenceDataRegistry.findPetType(request.getTypeId())
 			.orElseThrow(() -> new ApiException(PetErrorCode.INVALID_PET_TYPE));
 
 		Owner owner = ownerRepository.findById(request.getOwnerId())
@@ -73,7 +90,7 @@ public class PetService {
 		Pet pet = petRepository.findByIdAndStatus(id,PetStatus.REGISTERED)
 			.orElseThrow(() -> new ApiException(PetErrorCode.NO_PET));
 
-		PetType petType = petTypeRepository.findById(request.getTypeId())
+		PetType petType = referenceDataRegistry.findPetType(request.getTypeId())
 			.orElseThrow(() -> new ApiException(PetErrorCode.INVALID_PET_TYPE));
 
 		Owner owner = ownerRepository.findById(request.getOwnerId())
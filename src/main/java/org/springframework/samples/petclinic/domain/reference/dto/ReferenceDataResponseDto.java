@@ -0,0 +1,15 @@
+package org.springframework.samples.petclinic.domain.reference.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReferenceDataResponseDto {
+	private Integer specialtyCount;
+	private Integer petTypeCount;
+}
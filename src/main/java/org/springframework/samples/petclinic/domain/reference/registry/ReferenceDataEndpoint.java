@@ -0,0 +1,26 @@
+package org.springframework.samples.petclinic.domain.reference.registry;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.samples.petclinic.domain.reference.dto.ReferenceDataResponseDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기준 데이터(전문분야, 반려동물 종류) 다시 적재: {@code POST /actuator/referencedata}
+ * <p>
+ * 모든 노드의 조회 결과를 바꾸는 운영 작업이므로 운영자 계정(ROLE_ADMIN)만 실행할 수 있다.
+ * </p>
+ */
+@Component
+@Endpoint(id = "referencedata")
+@RequiredArgsConstructor
+public class ReferenceDataEndpoint {
+
+	private final ReferenceDataRegistry referenceDataRegistry;
+
+	@WriteOperation
+	public ReferenceDataResponseDto reload() {
+		return referenceDataRegistry.reload();
+	}
+}
@@ -0,0 +1,102 @@
+package org.springframework.samples.petclinic.domain.reference.registry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.samples.petclinic.domain.pet.model.PetType;
+import org.springframework.samples.petclinic.domain.pet.repository.PetTypeRepository;
+import org.springframework.samples.petclinic.domain.reference.dto.ReferenceDataResponseDto;
+import org.springframework.samples.petclinic.domain.vet.model.Specialty;
+import org.springframework.samples.petclinic.domain.vet.repository.SpecialtyRepository;
+import org.springframework.samples.petclinic.model.BaseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * 기준 데이터(전문분야, 반려동물 종류) 레지스트리
+ * <p>
+ * 거의 바뀌지 않는 작은 테이블(specialties, types)을 아이디를 인덱스로 하는 불변 배열로 들고 있다.<br>
+ * 애플리케이션 시작 시 한 번 적재하고, {@link ReferenceDataEndpoint} 로 다시 적재할 때는 새 스냅샷을 만들어 한 번에 교체한다.<br>
+ * 아이디 검증과 조회는 DB 를 거치지 않는다. 다시 적재는 DB 를 읽기만 하므로 되돌릴 변경이 없다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+
+	private final SpecialtyRepository specialtyRepository;
+	private final PetTypeRepository petTypeRepository;
+
+	private volatile Snapshot snapshot = new Snapshot(new Specialty[0], new PetType[0]);
+
+	// 시작 시 적재
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		reload();
+	}
+
+	// 전체 다시 적재
+	public ReferenceDataResponseDto reload() {
+		Snapshot loaded = new Snapshot(
+			toIndexedArray(specialtyRepository.findAll(), Specialty[]::new),
+			toIndexedArray(petTypeRepository.findAll(), PetType[]::new));
+
+		snapshot = loaded;
+
+		log.info("Reference data loaded: {} specialties, {} pet types",
+			loaded.specialtyCount(), loaded.petTypeCount());
+		return new ReferenceDataResponseDto(loaded.specialtyCount(), loaded.petTypeCount());
+	}
+
+	public Optional<Specialty> findSpecialty(Integer specialtyId) {
+		return Optional.ofNullable(get(snapshot.specialties(), specialtyId));
+	}
+
+	public Optional<PetType> findPetType(Integer petTypeId) {
+		return Optional.ofNullable(get(snapshot.petTypes(), petTypeId));
+	}
+
+	private static <T> T get(T[] values, Integer id) {
+		if (id == null || id < 0 || id >= values.length) {
+			return null;
+		}
+		return values[id];
+	}
+
+	private static <T extends BaseEntity> T[] toIndexedArray(List<T> entities, IntFunction<T[]> arrayFactory) {
+		int maxId = entities.stream().mapToInt(BaseEntity::getId).max().orElse(-1);
+
+		T[] values = arrayFactory.apply(maxId + 1);
+		for (T entity : entities) {
+			values[entity.getId()] = entity;
+		}
+		return values;
+	}
+
+	// 발행된 배열은 수정하지 않는다
+	private record Snapshot(Specialty[] specialties, PetType[] petTypes) {
+
+		int specialtyCount() {
+			return count(specialties);
+		}
+
+		int petTypeCount() {
+			return count(petTypes);
+		}
+
+		private static int count(Object[] values) {
+			int count = 0;
+			for (Object value : values) {
+				if (value != null) {
+					count++;
+				}
+			}
+			return count;
+		}
+	}
+}
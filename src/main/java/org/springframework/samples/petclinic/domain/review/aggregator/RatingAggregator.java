@@ -0,0 +1,144 @@
+package org.springframework.samples.petclinic.domain.review.aggregator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.samples.petclinic.domain.review.dto.RatingChangeBacklog;
+import org.springframework.samples.petclinic.domain.review.model.RatingChange;
+import org.springframework.samples.petclinic.domain.review.repository.RatingChangeRepository;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
+import org.springframework.samples.petclinic.domain.vet.service.VetService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리뷰 평점 지연 반영기 (write-behind)
+ * <p>
+ * 리뷰 생성/수정/삭제로 생긴 점수 합계/리뷰 수/별점 분포 변경을 요청 안에서 바로 vets 에 쓰지 않고,
+ * 리뷰와 같은 트랜잭션에서 rating_change 에 한 줄씩 기록해 둔다. 주기마다({@code rating.aggregator.flush-interval-ms})
+ * 남은 변경을 잠가서 읽고 수의사별로 합쳐 UPDATE 한 번으로 반영한 뒤, 같은 트랜잭션에서 읽은 변경을 지운다.
+ * </p>
+ * <p>
+ * 변경이 DB 에 남아 있으므로 프로세스가 비정상 종료되어도 유실되지 않고, 시작 시 남은 변경부터 반영한다.
+ * 반영과 삭제가 한 트랜잭션이고 다른 노드가 잡은 변경은 건너뛰므로({@code SKIP LOCKED}) 같은 변경이 두 번 더해지지 않는다.<br>
+ * 집계 재계산은 남아 있는 변경을 빼고 계산하므로({@code VetService#rebuildRatings}) 반영 주기와 맞출 필요가 없다.
+ * </p>
+ * <ul>
+ *     <li>{@code rating.aggregator.queue.depth} - 반영 대기 중인 변경 수</li>
+ *     <li>{@code rating.aggregator.pending.vets} - 반영 대기 중인 수의사 수</li>
+ *     <li>{@code rating.aggregator.lag} - 가장 오래 기다린 변경의 대기 시간(초)</li>
+ *     <li>{@code rating.aggregator.flushed} - 반영한 UPDATE 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RatingAggregator {
+
+	private final RatingChangeRepository ratingChangeRepository;
+	private final VetService vetService;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+
+	// 마지막 반영 후 조회한 대기 현황
+	private final AtomicLong queueDepth = new AtomicLong();
+	private final AtomicLong pendingVets = new AtomicLong();
+	private final AtomicLong lagMillis = new AtomicLong();
+	private final Counter flushedUpdates;
+
+	public RatingAggregator(RatingChangeRepository ratingChangeRepository, VetService vetService,
+							PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+							@Value("${rating.aggregator.batch-size:1000}") int batchSize) {
+		this.ratingChangeRepository = ratingChangeRepository;
+		this.vetService = vetService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		Gauge.builder("rating.aggregator.queue.depth", queueDepth, AtomicLong::get)
+			.description("Rating changes waiting to be written")
+			.register(meterRegistry);
+		Gauge.builder("rating.aggregator.pending.vets", pendingVets, AtomicLong::get)
+			.description("Vets with rating changes waiting to be written")
+			.register(meterRegistry);
+		Gauge.builder("rating.aggregator.lag", lagMillis, millis -> millis.get() / (double) TimeUnit.SECONDS.toMillis(1))
+			.description("Age of the oldest rating change waiting to be written")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		this.flushedUpdates = Counter.builder("rating.aggregator.flushed")
+			.description("Coalesced rating updates written to vets")
+			.register(meterRegistry);
+	}
+
+	// 평점 변경 접수 - 호출한 리뷰 트랜잭션에 함께 기록되므로 롤백되면 같이 사라짐
+	@Transactional
+	public void submit(int vetId, RatingDelta delta) {
+		if (!delta.isZero()) {
+			ratingChangeRepository.save(RatingChange.of(vetId, delta));
+		}
+	}
+
+	// 이전 실행이 반영하지 못하고 남긴 변경을 시작하자마자 반영
+	@EventListener(ApplicationReadyEvent.class)
+	public void replay() {
+		flush();
+		if (queueDepth.get() > 0) {
+			log.warn("Rating changes still pending after startup replay: {}", queueDepth.get());
+		}
+	}
+
+	// 남은 변경을 묶음 단위로 반영, 실패한 묶음은 롤백되어 그대로 남으므로 다음 주기에 재시도
+	@Scheduled(fixedDelayString = "${rating.aggregator.flush-interval-ms:1000}")
+	public synchronized void flush() {
+		try {
+			Integer drained;
+			do {
+				drained = transactionTemplate.execute(status -> flushBatch());
+			} while (drained != null && drained == batchSize);
+		} catch (RuntimeException e) {
+			log.warn("Rating flush failed, retrying next interval", e);
+		}
+		refreshBacklog();
+	}
+
+	// 한 트랜잭션: 변경 잠금 -> 수의사별로 합쳐 반영 -> 읽은 변경 삭제
+	private int flushBatch() {
+		List<RatingChange> changes = ratingChangeRepository.findPendingForUpdate(batchSize);
+		if (changes.isEmpty()) {
+			return 0;
+		}
+
+		Map<Integer, RatingDelta> deltas = new HashMap<>();
+		changes.forEach(change -> deltas.merge(change.getVetId(), change.toDelta(), RatingDelta::plus));
+		deltas.values().removeIf(RatingDelta::isZero);
+
+		int updated = deltas.isEmpty() ? 0 : vetService.addRatings(deltas);
+		if (updated < deltas.size()) {
+			log.warn("Dropping rating changes for {} missing vets", deltas.size() - updated);
+		}
+		ratingChangeRepository.deleteAllByIdInBatch(changes.stream().map(RatingChange::getId).toList());
+		flushedUpdates.increment(updated);
+		return changes.size();
+	}
+
+	private void refreshBacklog() {
+		try {
+			RatingChangeBacklog backlog = ratingChangeRepository.findBacklog();
+			queueDepth.set(backlog.getDepth());
+			pendingVets.set(backlog.getVets());
+			lagMillis.set(backlog.getLagMillis());
+		} catch (RuntimeException e) {
+			log.debug("Could not read rating change backlog", e);
+		}
+	}
+}
@@ -2,16 +2,20 @@ package org.springframework.samples.petclinic.domain.review.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.common.page.TimeCursorRequest;
+import org.springframework.samples.petclinic.config.security.OwnerPrincipal;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewRequestDto;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewSearchResponseDto;
 import org.springframework.samples.petclinic.domain.review.model.Review;
 import org.springframework.samples.petclinic.domain.review.service.CreateReviewService;
 import org.springframework.samples.petclinic.domain.review.service.DeleteReviewService;
 import org.springframework.samples.petclinic.domain.review.service.ReadReviewService;
+import org.springframework.samples.petclinic.domain.review.service.SearchReviewService;
 import org.springframework.samples.petclinic.domain.review.service.UpdateReviewService;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.List;
 
@@ -24,6 +28,7 @@ public class ReviewController {
 	private final ReadReviewService readReviewService;
 	private final UpdateReviewService updateReviewService;
 	private final DeleteReviewService deleteReviewService;
+	private final SearchReviewService searchReviewService;
 
 	// 리뷰 생성
 	@PostMapping
@@ -34,23 +39,45 @@ public class ReviewController {
 		return ResponseEntity.ok(response);
 	}
 
-	// 전체 리뷰 조회
+	// 전체 리뷰 조회 (?after=마지막 아이디&limit=개수)
 	@GetMapping
-	public ResponseEntity<List<ReviewResponseDto>> getAllReviews() {
-		return ResponseEntity.ok(readReviewService.findAllReviews());
+	public ResponseEntity<CursorPage<ReviewResponseDto>> getAllReviews(
+		@RequestParam(value = "after", required = false) Integer after,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		return ResponseEntity.ok(readReviewService.findAllReviews(CursorRequest.of(after, limit)));
 	}
 
-	// 사용자 리뷰 조회
+	// 리뷰 내용 검색 (?q=검색어&vetId=수의사&minScore=&maxScore=&limit=개수), 관련도 순
+	@GetMapping("/search")
+	public ResponseEntity<List<ReviewSearchResponseDto>> searchReviews(
+		@RequestParam("q") String query,
+		@RequestParam(value = "vetId", required = false) Integer vetId,
+		@RequestParam(value = "minScore", required = false) Integer minScore,
+		@RequestParam(value = "maxScore", required = false) Integer maxScore,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		return ResponseEntity.ok(searchReviewService.search(query, vetId, minScore, maxScore, limit));
+	}
+
+	// 사용자 리뷰 최신순 조회 (?after=이전 응답의 nextCursor&limit=개수)
 	@GetMapping("/my")
-	public ResponseEntity<List<ReviewResponseDto>> getMyReviews() {
+	public ResponseEntity<CursorPage<ReviewResponseDto>> getMyReviews(
+		@RequestParam(value = "after", required = false) String after,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
 		Integer ownerId = getAuthenticatedOwnerId();
-		return ResponseEntity.ok(readReviewService.findMyReviews(ownerId));
+		return ResponseEntity.ok(readReviewService.findMyReviews(ownerId, TimeCursorRequest.of(after, limit)));
 	}
 
-	// 수의사 리뷰 조회
+	// 수의사 리뷰 최신순 조회 (?after=이전 응답의 nextCursor&limit=개수)
 	@GetMapping("/{vetId}")
-	public ResponseEntity<List<ReviewResponseDto>> getVetReviews(@PathVariable("vetId") Integer vetId) {
-		return ResponseEntity.ok(readReviewService.findVetReviews(vetId));
+	public ResponseEntity<CursorPage<ReviewResponseDto>> getVetReviews(
+		@PathVariable("vetId") Integer vetId,
+		@RequestParam(value = "after", required = false) String after,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		return ResponseEntity.ok(readReviewService.findVetReviews(vetId, TimeCursorRequest.of(after, limit)));
 	}
 
 	// 리뷰 수정
@@ -71,6 +98,6 @@ public class ReviewController {
 	}
 
 	private Integer getAuthenticatedOwnerId() {
-		return (Integer) RequestContextHolder.currentRequestAttributes().getAttribute("ownerId", RequestAttributes.SCOPE_REQUEST);
+		return OwnerPrincipal.current().ownerId();
 	}
 }
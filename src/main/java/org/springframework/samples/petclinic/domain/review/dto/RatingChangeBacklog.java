@@ -0,0 +1,15 @@
+package org.springframework.samples.petclinic.domain.review.dto;
+
+/**
+ * 반영 대기 중인 평점 변경 현황 (메트릭용)
+ */
+public interface RatingChangeBacklog {
+	// 남은 변경 수
+	Long getDepth();
+
+	// 변경이 남은 수의사 수
+	Long getVets();
+
+	// 가장 오래된 변경의 대기 시간 (밀리초, DB 시각 기준)
+	Long getLagMillis();
+}
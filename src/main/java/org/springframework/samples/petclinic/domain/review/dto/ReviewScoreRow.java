@@ -0,0 +1,7 @@
+package org.springframework.samples.petclinic.domain.review.dto;
+
+/**
+ * 평점 집계에 필요한 리뷰 컬럼만 담은 조회 결과
+ */
+public record ReviewScoreRow(Integer id, Integer vetId, Integer score) {
+}
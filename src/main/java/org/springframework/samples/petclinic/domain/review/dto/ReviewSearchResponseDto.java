@@ -0,0 +1,24 @@
+package org.springframework.samples.petclinic.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewSearchResponseDto {
+
+	private Integer id;
+	private Integer score;
+	private String content;
+	private LocalDateTime createAt;
+	private Integer vetId;
+	private Integer ownerId;
+	// 검색 관련도 (BM25)
+	private double relevance;
+}
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 @Component
 public class ReviewMapper {
 
+	// 수의사/작성자는 아이디만 읽으므로 연관 엔티티를 로딩하지 않음
 	public ReviewResponseDto toDto(Review review) {
 		return ReviewResponseDto.builder()
 			.id(review.getId())
@@ -0,0 +1,65 @@
+package org.springframework.samples.petclinic.domain.review.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
+import org.springframework.samples.petclinic.model.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 vets 에 반영되지 않은 리뷰 평점 변경 (outbox)
+ * <p>
+ * 리뷰와 같은 트랜잭션에서 기록되고, vets 에 반영하는 트랜잭션에서 삭제된다.
+ * 따라서 vets 의 집계와 남아 있는 변경의 합은 항상 review 테이블의 집계와 같다.
+ * </p>
+ */
+@Entity
+@Table(name = "rating_change")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class RatingChange extends BaseEntity {
+
+	@Column(name = "vet_id", nullable = false)
+	private int vetId;
+
+	@Column(name = "star1", nullable = false)
+	private int star1;
+
+	@Column(name = "star2", nullable = false)
+	private int star2;
+
+	@Column(name = "star3", nullable = false)
+	private int star3;
+
+	@Column(name = "star4", nullable = false)
+	private int star4;
+
+	@Column(name = "star5", nullable = false)
+	private int star5;
+
+	@Column(name = "created_at", insertable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	public static RatingChange of(int vetId, RatingDelta delta) {
+		return RatingChange.builder()
+			.vetId(vetId)
+			.star1(delta.star1())
+			.star2(delta.star2())
+			.star3(delta.star3())
+			.star4(delta.star4())
+			.star5(delta.star5())
+			.build();
+	}
+
+	public RatingDelta toDelta() {
+		return new RatingDelta(star1, star2, star3, star4, star5);
+	}
+}
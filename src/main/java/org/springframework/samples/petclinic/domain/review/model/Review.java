@@ -31,11 +31,11 @@ public class Review extends BaseEntity {
 		this.createdAt = LocalDateTime.now();
 	}
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "vet_id", nullable = false)
 	private Vet vet;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "owner_id", nullable = false)
 	private Owner owner;
 
@@ -0,0 +1,25 @@
+package org.springframework.samples.petclinic.domain.review.reconciliation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평점 정합성 검사 수동 실행: {@code POST /actuator/ratingreconciliation}
+ * <p>
+ * 전체 review 를 읽는 무거운 작업이므로 운영자 계정(ROLE_ADMIN)만 실행할 수 있다.
+ * </p>
+ */
+@Component
+@Endpoint(id = "ratingreconciliation")
+@RequiredArgsConstructor
+public class RatingReconciliationEndpoint {
+
+	private final RatingReconciliationJob ratingReconciliationJob;
+
+	@WriteOperation
+	public RatingReconciliationResult reconcile() {
+		return ratingReconciliationJob.reconcile();
+	}
+}
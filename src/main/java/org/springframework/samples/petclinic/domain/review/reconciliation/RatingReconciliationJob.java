@@ -0,0 +1,237 @@
+package org.springframework.samples.petclinic.domain.review.reconciliation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewScoreRow;
+import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
+import org.springframework.samples.petclinic.domain.vet.model.Vet;
+import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.vet.service.VetService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 평점 정합성 검사
+ * <p>
+ * review 테이블을 id 순서로 청크({@code rating.reconciliation.chunk-size})씩 읽어 수의사별 별점 분포를 정확히 다시 세고,
+ * vets 의 점수 합계/리뷰 수/별점 분포와 다른 수의사만 모아 묶음 단위로 review 테이블 기준 재계산한다.<br>
+ * 청크 집계는 전용 fork-join 풀에서 나눠 계산하고 그동안 다음 청크를 읽는다.
+ * 메모리에는 읽는 중인 청크 두 개와 수의사별 누적값만 올라가므로 리뷰 수에 비례해 힙이 늘지 않는다.
+ * </p>
+ * <p>
+ * 스케줄({@code rating.reconciliation.cron})과 {@code POST /actuator/ratingreconciliation} 으로 실행한다.
+ * 검사는 일관된 스냅샷 없이 청크를 읽으므로 검사 중에 바뀐 리뷰 때문에 멀쩡한 수의사가 어긋난 것으로 잡힐 수 있다.
+ * 보정은 대상 수의사의 리뷰와 반영 대기 변경을 잠근 뒤 "리뷰 집계 - 반영 대기 변경"으로 다시 계산하므로,
+ * 잘못 잡힌 수의사는 같은 값으로 덮어쓸 뿐이고 반영기가 나중에 더할 변경을 미리 세지도 않는다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RatingReconciliationJob {
+
+	// 이 크기 이하의 구간은 나누지 않고 한 스레드에서 집계
+	static final int SPLIT_THRESHOLD = 2_048;
+	// 재계산 UPDATE 한 번에 보정할 수의사 수
+	static final int FIX_BATCH_SIZE = 500;
+	private static final int VET_PAGE_SIZE = 1_000;
+
+	private final ReviewRepository reviewRepository;
+	private final VetRepository vetRepository;
+	private final VetService vetService;
+	private final RatingAggregator ratingAggregator;
+	private final int chunkSize;
+	private final ForkJoinPool pool;
+	private final Timer runTimer;
+	private final Counter scannedRows;
+	private final Counter correctedVets;
+
+	public RatingReconciliationJob(ReviewRepository reviewRepository, VetRepository vetRepository, VetService vetService,
+								   RatingAggregator ratingAggregator, MeterRegistry meterRegistry,
+								   @Value("${rating.reconciliation.chunk-size:10000}") int chunkSize,
+								   @Value("${rating.reconciliation.parallelism:0}") int parallelism) {
+		this.reviewRepository = reviewRepository;
+		this.vetRepository = vetRepository;
+		this.vetService = vetService;
+		this.ratingAggregator = ratingAggregator;
+		this.chunkSize = chunkSize;
+		this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		this.runTimer = Timer.builder("rating.reconciliation")
+			.description("Rating reconciliation runs")
+			.register(meterRegistry);
+		this.scannedRows = Counter.builder("rating.reconciliation.rows")
+			.description("Reviews scanned by rating reconciliation")
+			.register(meterRegistry);
+		this.correctedVets = Counter.builder("rating.reconciliation.corrected")
+			.description("Vets whose rating aggregates were corrected")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(cron = "${rating.reconciliation.cron:0 30 3 * * *}")
+	public void scheduledRun() {
+		reconcile();
+	}
+
+	// 정합성 검사 실행 - 동시에 한 번만 실행
+	public synchronized RatingReconciliationResult reconcile() {
+		long startedAt = System.nanoTime();
+
+		// 대기 중인 평점 변경을 먼저 반영해 정상 지연분이 어긋남으로 잡히지 않게 함
+		ratingAggregator.flush();
+
+		Map<Integer, RatingTally> tallies = new HashMap<>();
+		long scanned = scanReviews(tallies);
+		int[] checkedAndCorrected = fixDrift(tallies);
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		scannedRows.increment(scanned);
+		correctedVets.increment(checkedAndCorrected[1]);
+
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+		double rowsPerSecond = elapsedNanos == 0 ? 0 : scanned * 1e9 / elapsedNanos;
+		RatingReconciliationResult result = new RatingReconciliationResult(
+			scanned, checkedAndCorrected[0], checkedAndCorrected[1], elapsedMillis, rowsPerSecond);
+		log.info("Rating reconciliation: scanned {} reviews in {} ms ({} rows/s), checked {} vets, corrected {}",
+			scanned, elapsedMillis, Math.round(rowsPerSecond), result.checkedVets(), result.correctedVets());
+		return result;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	// review 를 키셋 청크로 읽으면서, 이전 청크 집계를 풀에 맡기고 다음 청크를 읽음
+	private long scanReviews(Map<Integer, RatingTally> tallies) {
+		long scanned = 0;
+		int afterId = 0;
+		ForkJoinTask<Map<Integer, RatingTally>> inFlight = null;
+
+		while (true) {
+			List<ReviewScoreRow> chunk = reviewRepository.findScoreRowsAfter(afterId, Limit.of(chunkSize));
+			if (inFlight != null) {
+				mergeInto(tallies, inFlight.join());
+				inFlight = null;
+			}
+			if (chunk.isEmpty()) {
+				break;
+			}
+			scanned += chunk.size();
+			afterId = chunk.get(chunk.size() - 1).id();
+			inFlight = pool.submit(new ChunkTally(chunk, 0, chunk.size()));
+			if (chunk.size() < chunkSize) {
+				mergeInto(tallies, inFlight.join());
+				break;
+			}
+		}
+		return scanned;
+	}
+
+	// 모든 수의사(삭제 포함)를 페이지로 읽어 비교하고, 어긋난 수의사를 묶음 단위로 재계산
+	private int[] fixDrift(Map<Integer, RatingTally> tallies) {
+		int checked = 0;
+		int corrected = 0;
+		List<Integer> drifted = new ArrayList<>();
+		int afterId = 0;
+
+		List<Vet> page;
+		do {
+			page = vetRepository.findByIdGreaterThanOrderById(afterId, Limit.of(VET_PAGE_SIZE));
+			for (Vet vet : page) {
+				checked++;
+				RatingTally tally = tallies.get(vet.getId());
+				if (isDrifted(vet, tally == null ? RatingDelta.NONE : tally.toDelta())) {
+					drifted.add(vet.getId());
+				}
+				if (drifted.size() == FIX_BATCH_SIZE) {
+					corrected += rebuild(drifted);
+				}
+			}
+			if (!page.isEmpty()) {
+				afterId = page.get(page.size() - 1).getId();
+			}
+		} while (page.size() == VET_PAGE_SIZE);
+
+		corrected += rebuild(drifted);
+		return new int[]{checked, corrected};
+	}
+
+	private int rebuild(List<Integer> drifted) {
+		if (drifted.isEmpty()) {
+			return 0;
+		}
+		List<Integer> batch = List.copyOf(drifted);
+		drifted.clear();
+		vetService.rebuildRatings(batch);
+		log.debug("Rating aggregates rebuilt for vets {}", batch);
+		return batch.size();
+	}
+
+	static boolean isDrifted(Vet vet, RatingDelta exact) {
+		return vet.getScoreSum() != exact.scoreDelta()
+			|| vet.getReviewCount() != exact.countDelta()
+			|| !vet.getRatingHistogram().toDelta().equals(exact);
+	}
+
+	private static void mergeInto(Map<Integer, RatingTally> target, Map<Integer, RatingTally> source) {
+		source.forEach((vetId, tally) -> target.merge(vetId, tally, RatingTally::merge));
+	}
+
+	/**
+	 * 청크 구간을 반으로 나눠 수의사별 별점 수를 세고 결과를 합치는 작업
+	 */
+	static final class ChunkTally extends RecursiveTask<Map<Integer, RatingTally>> {
+
+		private final List<ReviewScoreRow> rows;
+		private final int from;
+		private final int to;
+
+		ChunkTally(List<ReviewScoreRow> rows, int from, int to) {
+			this.rows = rows;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Map<Integer, RatingTally> compute() {
+			if (to - from <= SPLIT_THRESHOLD) {
+				Map<Integer, RatingTally> tallies = new HashMap<>();
+				for (int i = from; i < to; i++) {
+					ReviewScoreRow row = rows.get(i);
+					tallies.computeIfAbsent(row.vetId(), id -> new RatingTally()).add(row.score());
+				}
+				return tallies;
+			}
+			int mid = (from + to) >>> 1;
+			ChunkTally left = new ChunkTally(rows, from, mid);
+			left.fork();
+			Map<Integer, RatingTally> right = new ChunkTally(rows, mid, to).compute();
+			Map<Integer, RatingTally> merged = left.join();
+
+			// 작은 쪽을 큰 쪽에 합침
+			if (merged.size() < right.size()) {
+				Map<Integer, RatingTally> swap = merged;
+				merged = right;
+				right = swap;
+			}
+			mergeInto(merged, right);
+			return merged;
+		}
+	}
+}
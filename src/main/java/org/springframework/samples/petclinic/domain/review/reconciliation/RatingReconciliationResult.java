@@ -0,0 +1,14 @@
+package org.springframework.samples.petclinic.domain.review.reconciliation;
+
+/**
+ * 평점 정합성 검사 결과
+ *
+ * @param scannedReviews 읽은 리뷰 수
+ * @param checkedVets    비교한 수의사 수
+ * @param correctedVets  집계가 어긋나 다시 계산한 수의사 수
+ * @param elapsedMillis  소요 시간
+ * @param rowsPerSecond  리뷰 처리량
+ */
+public record RatingReconciliationResult(long scannedReviews, int checkedVets, int correctedVets,
+										 long elapsedMillis, double rowsPerSecond) {
+}
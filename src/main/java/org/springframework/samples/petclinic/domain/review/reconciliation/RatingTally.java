@@ -0,0 +1,28 @@
+package org.springframework.samples.petclinic.domain.review.reconciliation;
+
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
+
+/**
+ * 한 수의사의 별점별 리뷰 수 누적값 (청크 집계용, 스레드 하나에서만 변경)
+ */
+final class RatingTally {
+
+	private final int[] stars = new int[5];
+
+	void add(int score) {
+		if (score >= 1 && score <= 5) {
+			stars[score - 1]++;
+		}
+	}
+
+	RatingTally merge(RatingTally other) {
+		for (int i = 0; i < stars.length; i++) {
+			stars[i] += other.stars[i];
+		}
+		return this;
+	}
+
+	RatingDelta toDelta() {
+		return new RatingDelta(stars[0], stars[1], stars[2], stars[3], stars[4]);
+	}
+}
@@ -0,0 +1,22 @@
+package org.springframework.samples.petclinic.domain.review.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.review.dto.RatingChangeBacklog;
+import org.springframework.samples.petclinic.domain.review.model.RatingChange;
+
+import java.util.List;
+
+public interface RatingChangeRepository extends JpaRepository<RatingChange, Integer> {
+
+	// 반영할 변경을 오래된 순으로 잠가서 조회 - 다른 노드가 잡고 있는 행은 건너뛰어 같은 변경을 두 번 반영하지 않음
+	@Query(value = "SELECT * FROM rating_change ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<RatingChange> findPendingForUpdate(@Param("limit") int limit);
+
+	// 대기 현황 - 대기 시간은 노드 간 시계 차이가 없도록 DB 시각으로 계산
+	@Query(value = "SELECT COUNT(*) AS depth, COUNT(DISTINCT vet_id) AS vets, " +
+		"COALESCE(TIMESTAMPDIFF(MICROSECOND, MIN(created_at), NOW(3)) DIV 1000, 0) AS lagMillis " +
+		"FROM rating_change", nativeQuery = true)
+	RatingChangeBacklog findBacklog();
+}
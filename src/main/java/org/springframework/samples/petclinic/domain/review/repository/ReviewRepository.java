@@ -1,18 +1,50 @@
 package org.springframework.samples.petclinic.domain.review.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewScoreRow;
 import org.springframework.samples.petclinic.domain.review.model.Review;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
 
-	@Query("SELECT r FROM Review r WHERE r.vet.id = :vetId")
-	Optional<List<Review>> findByVetId(@Param("vetId") Integer vetId);
+	// 수의사 리뷰 최신순 키셋 조회 - Vet/Owner 를 읽지 않고 DTO 로 바로 조회 (idx_review_vet_created)
+	@Query("SELECT new org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto(" +
+		"r.id, r.score, r.content, r.createdAt, r.vet.id, r.owner.id) FROM Review r " +
+		"WHERE r.vet.id = :vetId AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+		"ORDER BY r.createdAt DESC, r.id DESC")
+	List<ReviewResponseDto> findVetFeed(@Param("vetId") Integer vetId, @Param("createdAt") LocalDateTime createdAt,
+										@Param("id") Integer id, Limit limit);
 
-	@Query("SELECT r FROM Review r WHERE r.owner.id = :ownerId")
-	Optional<List<Review>> findByOwnerId(@Param("ownerId") Integer ownerId);
+	// 작성자 리뷰 최신순 키셋 조회 (idx_review_owner_created)
+	@Query("SELECT new org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto(" +
+		"r.id, r.score, r.content, r.createdAt, r.vet.id, r.owner.id) FROM Review r " +
+		"WHERE r.owner.id = :ownerId AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+		"ORDER BY r.createdAt DESC, r.id DESC")
+	List<ReviewResponseDto> findOwnerFeed(@Param("ownerId") Integer ownerId, @Param("createdAt") LocalDateTime createdAt,
+										  @Param("id") Integer id, Limit limit);
+
+	// 키셋 페이지 조회: WHERE id > ? ORDER BY id LIMIT ?
+	List<Review> findByIdGreaterThanOrderById(Integer id, Limit limit);
+
+	// 평점 정합성 검사용 청크 조회 - 엔티티 대신 (id, vetId, score) 만 읽음
+	@Query("SELECT new org.springframework.samples.petclinic.domain.review.dto.ReviewScoreRow(r.id, r.vet.id, r.score) " +
+		"FROM Review r WHERE r.id > :afterId ORDER BY r.id")
+	List<ReviewScoreRow> findScoreRowsAfter(@Param("afterId") Integer afterId, Limit limit);
+
+	// 검색 색인 재구성용 청크 조회
+	@Query("SELECT new org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto(" +
+		"r.id, r.score, r.content, r.createdAt, r.vet.id, r.owner.id) FROM Review r WHERE r.id > :afterId ORDER BY r.id")
+	List<ReviewResponseDto> findSearchRowsAfter(@Param("afterId") Integer afterId, Limit limit);
+
+	// 검색 결과 아이디로 리뷰 조회
+	@Query("SELECT new org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto(" +
+		"r.id, r.score, r.content, r.createdAt, r.vet.id, r.owner.id) FROM Review r WHERE r.id IN :ids")
+	List<ReviewResponseDto> findResponsesByIdIn(@Param("ids") Collection<Integer> ids);
 }
@@ -0,0 +1,17 @@
+package org.springframework.samples.petclinic.domain.review.search;
+
+/**
+ * 리뷰 검색 조건 (수의사, 점수 범위)
+ *
+ * @param vetId    수의사 아이디 (없으면 전체)
+ * @param minScore 최소 점수 (포함)
+ * @param maxScore 최대 점수 (포함)
+ */
+public record ReviewSearchFilter(Integer vetId, int minScore, int maxScore) {
+
+	public static final ReviewSearchFilter NONE = new ReviewSearchFilter(null, 1, 5);
+
+	boolean matches(int docVetId, int docScore) {
+		return (vetId == null || vetId == docVetId) && docScore >= minScore && docScore <= maxScore;
+	}
+}
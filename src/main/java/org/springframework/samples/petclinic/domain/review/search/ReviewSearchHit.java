@@ -0,0 +1,7 @@
+package org.springframework.samples.petclinic.domain.review.search;
+
+/**
+ * 리뷰 검색 결과 한 건 (관련도 내림차순으로 반환)
+ */
+public record ReviewSearchHit(int reviewId, double relevance) {
+}
@@ -0,0 +1,298 @@
+package org.springframework.samples.petclinic.domain.review.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.common.transaction.TransactionCallbacks;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
+import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 리뷰 내용 역색인 (토큰 → 리뷰 아이디)
+ * <p>
+ * 토큰은 {@link ReviewTokenizer} 로 만들고, 결과는 BM25 점수 내림차순으로 정렬한다.
+ * 질의 토큰의 절반 이상이 포함된 리뷰만 결과에 넣는다.<br>
+ * 리뷰 내용은 들고 있지 않고 (리뷰 아이디, 수의사, 점수, 길이) 만 유지하므로 내용은 결과 아이디로 DB 에서 읽는다.
+ * </p>
+ * <p>
+ * 애플리케이션 시작 시 review 테이블을 청크 단위로 읽어 재구성하고, 이후에는 리뷰 서비스가 커밋한 변경만 증분 반영한다.
+ * 검색은 읽기 잠금, 반영은 쓰기 잠금으로 보호한다.<br>
+ * 재구성 중에 커밋된 변경은 기록해 두었다가 새 색인으로 교체한 직후 같은 순서로 다시 적용하므로 교체 시 빠지지 않는다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSearchIndex {
+
+	private static final int REBUILD_CHUNK_SIZE = 5_000;
+	// BM25 파라미터
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+
+	private final ReviewRepository reviewRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	// 토큰 -> 리뷰 아이디 오름차순 목록
+	private Map<String, Postings> postings = new HashMap<>();
+	// 리뷰 아이디 -> 색인 정보
+	private Map<Integer, IndexedReview> reviews = new HashMap<>();
+	private long totalLength;
+	// 재구성 중 반영한 변경 - 교체 직후 새 색인에 다시 적용 (재구성 중이 아니면 null, 쓰기 잠금으로 보호)
+	private List<Runnable> rebuildMutations;
+
+	// 전체 재구성
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void rebuild() {
+		lock.writeLock().lock();
+		try {
+			rebuildMutations = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		ReviewSearchIndex rebuilt = null;
+		try {
+			rebuilt = load();
+		} finally {
+			swap(rebuilt);
+		}
+		log.info("Review search index rebuilt: {} reviews, {} terms", reviews.size(), postings.size());
+	}
+
+	// 새 색인으로 교체하고 재구성 중 기록한 변경을 다시 적용 (재구성이 실패하면 기록만 버림)
+	private void swap(ReviewSearchIndex rebuilt) {
+		lock.writeLock().lock();
+		try {
+			List<Runnable> mutations = rebuildMutations;
+			rebuildMutations = null;
+			if (rebuilt != null) {
+				postings = rebuilt.postings;
+				reviews = rebuilt.reviews;
+				totalLength = rebuilt.totalLength;
+				mutations.forEach(Runnable::run);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// review 테이블 전체를 청크 단위로 읽어 새 색인 생성
+	private ReviewSearchIndex load() {
+		ReviewSearchIndex rebuilt = new ReviewSearchIndex(reviewRepository);
+		int afterId = 0;
+		List<ReviewResponseDto> chunk;
+		do {
+			chunk = reviewRepository.findSearchRowsAfter(afterId, Limit.of(REBUILD_CHUNK_SIZE));
+			for (ReviewResponseDto review : chunk) {
+				rebuilt.apply(review.getId(), review.getVetId(), review.getScore(), review.getContent());
+			}
+			if (!chunk.isEmpty()) {
+				afterId = chunk.get(chunk.size() - 1).getId();
+			}
+		} while (chunk.size() == REBUILD_CHUNK_SIZE);
+		return rebuilt;
+	}
+
+	// 리뷰 등록/수정 반영 - 트랜잭션 안이면 커밋 후에 반영
+	public void upsert(int reviewId, int vetId, int score, String content) {
+		TransactionCallbacks.afterCommit(() -> {
+			List<String> tokens = ReviewTokenizer.tokenize(content);
+			mutate(() -> index(reviewId, vetId, score, tokens));
+		});
+	}
+
+	// 리뷰 삭제 반영 - 트랜잭션 안이면 커밋 후에 반영
+	public void remove(int reviewId) {
+		TransactionCallbacks.afterCommit(() -> mutate(() -> unindex(reviewId)));
+	}
+
+	// 질의와 관련된 리뷰를 관련도 순으로 최대 limit 개 조회
+	public List<ReviewSearchHit> search(String query, ReviewSearchFilter filter, int limit) {
+		List<String> terms = List.copyOf(new LinkedHashSet<>(ReviewTokenizer.tokenize(query)));
+		if (terms.isEmpty() || limit < 1) {
+			return List.of();
+		}
+		int minMatched = (terms.size() + 1) / 2;
+
+		lock.readLock().lock();
+		try {
+			if (reviews.isEmpty()) {
+				return List.of();
+			}
+			int totalReviews = reviews.size();
+			double averageLength = (double) totalLength / totalReviews;
+
+			Map<Integer, Accumulator> accumulators = new HashMap<>();
+			for (String term : terms) {
+				Postings termPostings = postings.get(term);
+				if (termPostings == null) {
+					continue;
+				}
+				double idf = Math.log(1 + (totalReviews - termPostings.size + 0.5) / (termPostings.size + 0.5));
+				for (int i = 0; i < termPostings.size; i++) {
+					int reviewId = termPostings.ids[i];
+					IndexedReview review = reviews.get(reviewId);
+					if (!filter.matches(review.vetId(), review.score())) {
+						continue;
+					}
+					int tf = termPostings.frequencies[i];
+					double norm = K1 * (1 - B + B * review.length() / averageLength);
+					accumulators.computeIfAbsent(reviewId, id -> new Accumulator()).add(idf * tf * (K1 + 1) / (tf + norm));
+				}
+			}
+
+			// 관련도가 같으면 최신(아이디가 큰) 리뷰 우선
+			Comparator<ReviewSearchHit> ranking = Comparator.comparingDouble(ReviewSearchHit::relevance)
+				.thenComparingInt(ReviewSearchHit::reviewId);
+			PriorityQueue<ReviewSearchHit> top = new PriorityQueue<>(limit + 1, ranking);
+			accumulators.forEach((reviewId, accumulator) -> {
+				if (accumulator.matched < minMatched) {
+					return;
+				}
+				top.add(new ReviewSearchHit(reviewId, accumulator.relevance));
+				if (top.size() > limit) {
+					top.poll();
+				}
+			});
+
+			List<ReviewSearchHit> hits = new ArrayList<>(top);
+			hits.sort(ranking.reversed());
+			return hits;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return reviews.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 즉시 반영 (재구성에서 사용)
+	void apply(int reviewId, int vetId, int score, String content) {
+		List<String> tokens = ReviewTokenizer.tokenize(content);
+		lock.writeLock().lock();
+		try {
+			index(reviewId, vetId, score, tokens);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 쓰기 잠금 안에서 호출
+	private void index(int reviewId, int vetId, int score, List<String> tokens) {
+		Map<String, Integer> frequencies = new HashMap<>();
+		tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+		unindex(reviewId);
+
+		String[] terms = new String[frequencies.size()];
+		int i = 0;
+		for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+			Postings termPostings = postings.computeIfAbsent(entry.getKey(), term -> new Postings());
+			termPostings.add(reviewId, entry.getValue());
+			terms[i++] = entry.getKey();
+		}
+		reviews.put(reviewId, new IndexedReview(vetId, score, tokens.size(), terms));
+		totalLength += tokens.size();
+	}
+
+	// 현재 색인에 반영하고, 재구성 중이면 교체 후 다시 적용하도록 기록
+	private void mutate(Runnable mutation) {
+		lock.writeLock().lock();
+		try {
+			mutation.run();
+			if (rebuildMutations != null) {
+				rebuildMutations.add(mutation);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 쓰기 잠금 안에서 호출
+	private void unindex(int reviewId) {
+		IndexedReview previous = reviews.remove(reviewId);
+		if (previous == null) {
+			return;
+		}
+		totalLength -= previous.length();
+		for (String term : previous.terms()) {
+			Postings termPostings = postings.get(term);
+			if (termPostings != null && termPostings.remove(reviewId) && termPostings.size == 0) {
+				postings.remove(term);
+			}
+		}
+	}
+
+	private record IndexedReview(int vetId, int score, int length, String[] terms) {
+	}
+
+	private static final class Accumulator {
+
+		private double relevance;
+		private int matched;
+
+		void add(double termRelevance) {
+			relevance += termRelevance;
+			matched++;
+		}
+	}
+
+	/**
+	 * 한 토큰의 (리뷰 아이디, 출현 횟수) 목록 - 아이디 오름차순 병렬 배열
+	 */
+	private static final class Postings {
+
+		private int[] ids = new int[4];
+		private int[] frequencies = new int[4];
+		private int size;
+
+		void add(int reviewId, int frequency) {
+			int position = size == 0 || ids[size - 1] < reviewId ? size : Arrays.binarySearch(ids, 0, size, reviewId);
+			if (position >= 0 && position < size) {
+				frequencies[position] = frequency;
+				return;
+			}
+			int insertAt = position < 0 ? -position - 1 : position;
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+				frequencies = Arrays.copyOf(frequencies, size * 2);
+			}
+			System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+			System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+			ids[insertAt] = reviewId;
+			frequencies[insertAt] = frequency;
+			size++;
+		}
+
+		boolean remove(int reviewId) {
+			int position = Arrays.binarySearch(ids, 0, size, reviewId);
+			if (position < 0) {
+				return false;
+			}
+			System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+			System.arraycopy(frequencies, position + 1, frequencies, position, size - position - 1);
+			size--;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package org.springframework.samples.petclinic.domain.review.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 리뷰 검색용 토크나이저
+ * <p>
+ * NFKC 정규화 후 소문자로 바꾸고, 글자/숫자가 아닌 문자로 구간을 나눈다.<br>
+ * 한글 구간은 형태소 분석 없이 조사/어미 변화에도 맞도록 두 글자씩 겹쳐 자른다 (친절했어요 → 친절, 절했, 했어, 어요).
+ * 한 글자 한글은 그대로 쓴다. 그 외(영문/숫자) 구간은 두 글자 이상인 단어만 쓴다.
+ * </p>
+ */
+public final class ReviewTokenizer {
+
+	private ReviewTokenizer() {
+	}
+
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isEmpty()) {
+			return tokens;
+		}
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		int length = normalized.length();
+		int start = 0;
+		while (start < length) {
+			int codePoint = normalized.codePointAt(start);
+			if (!Character.isLetterOrDigit(codePoint)) {
+				start += Character.charCount(codePoint);
+				continue;
+			}
+
+			boolean hangul = isHangul(codePoint);
+			int end = start;
+			while (end < length) {
+				int next = normalized.codePointAt(end);
+				if (!Character.isLetterOrDigit(next) || isHangul(next) != hangul) {
+					break;
+				}
+				end += Character.charCount(next);
+			}
+
+			if (hangul) {
+				addBigrams(normalized.substring(start, end), tokens);
+			} else if (normalized.codePointCount(start, end) >= 2) {
+				tokens.add(normalized.substring(start, end));
+			}
+			start = end;
+		}
+		return tokens;
+	}
+
+	private static void addBigrams(String run, List<String> tokens) {
+		if (run.length() == 1) {
+			tokens.add(run);
+			return;
+		}
+		for (int i = 0; i + 1 < run.length(); i++) {
+			tokens.add(run.substring(i, i + 2));
+		}
+	}
+
+	private static boolean isHangul(int codePoint) {
+		return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+	}
+}
@@ -8,14 +8,15 @@ import org.springframework.samples.petclinic.domain.owner.model.Owner;
 import org.springframework.samples.petclinic.domain.owner.repository.OwnerRepository;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewRequestDto;
 import org.springframework.samples.petclinic.domain.review.mapper.ReviewMapper;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
 import org.springframework.samples.petclinic.domain.review.model.Review;
 import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
-import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchIndex;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
 import org.springframework.stereotype.Service;
-
-import java.math.BigDecimal;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -23,18 +24,21 @@ public class CreateReviewService {
 
 	private final ReviewRepository reviewRepository;
 	private final OwnerRepository ownerRepository;
-	private final VetRepository vetRepository;
 	private final VetService vetService;
 	private final ReviewMapper reviewMapper;
+	private final RatingAggregator ratingAggregator;
+	private final ReviewSearchIndex reviewSearchIndex;
 
+	@Transactional
 	public Review createReview(ReviewRequestDto request, Integer ownerId) {
-		Vet vet = vetService.getVetOrThrow(request.getVetId());
+		Vet vet = vetService.getVetReferenceOrThrow(request.getVetId());
 		Owner owner = getOwnerOrThrow(ownerId);
 		validateRequestData(request);
 
 		Review review = reviewMapper.toEntity(request, owner, vet);
 		Review savedReview = reviewRepository.save(review);
-		updateVetRatingAndReviewCount(vet, request.getScore());
+		ratingAggregator.submit(vet.getId(), RatingDelta.added(request.getScore()));
+		reviewSearchIndex.upsert(savedReview.getId(), vet.getId(), savedReview.getScore(), savedReview.getContent());
 
 		return savedReview;
 	}
@@ -64,18 +68,4 @@ public class CreateReviewService {
 		if (content.length() > 200)
 			throw new ApiException(ReviewErrorCode.REVIEW_CONTENT_TOO_LONG);
 	}
-
-	private void updateVetRatingAndReviewCount(Vet vet, int newScore) {
-		int currentReviewCount = vet.getReviewCount() != null ? vet.getReviewCount() : 0;
-		BigDecimal currentAverageRating = vet.getAverageRatings() != null ? vet.getAverageRatings() : BigDecimal.ZERO;
-
-		BigDecimal updatedTotalScore = currentAverageRating.multiply(BigDecimal.valueOf(currentReviewCount))
-			.add(BigDecimal.valueOf(newScore));
-		int updatedReviewCount = currentReviewCount + 1;
-
-		BigDecimal updatedAverageRating = updatedTotalScore.divide(BigDecimal.valueOf(updatedReviewCount), 2, BigDecimal.ROUND_HALF_UP);
-
-		vet.updateRatings(updatedAverageRating, updatedReviewCount);
-		vetRepository.save(vet);
-	}
 }
@@ -1,9 +1,11 @@
 package org.springframework.samples.petclinic.domain.review.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.samples.petclinic.common.error.ReviewErrorCode;
 import org.springframework.samples.petclinic.common.error.VetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.common.page.TimeCursorRequest;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
 import org.springframework.samples.petclinic.domain.review.mapper.ReviewMapper;
 import org.springframework.samples.petclinic.domain.review.model.Review;
@@ -13,7 +15,6 @@ import org.springframework.samples.petclinic.domain.vet.repository.VetRepository
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,34 +24,32 @@ public class ReadReviewService {
 	private final ReviewMapper reviewMapper;
 	private final VetRepository vetRepository;
 
-	public List<ReviewResponseDto> findAllReviews(){
-		return reviewRepository.findAll().stream()
-			.map(reviewMapper::toDto)
-			.collect(Collectors.toList());
+	public CursorPage<ReviewResponseDto> findAllReviews(CursorRequest request) {
+		List<Review> reviews = reviewRepository.findByIdGreaterThanOrderById(request.afterId(), request.fetchLimit());
+
+		return CursorPage.of(reviews, request, Review::getId).map(reviewMapper::toDto);
 	}
 
-	public List<ReviewResponseDto> findMyReviews(Integer ownerId) {
-		return getReviewsByOwnerId(ownerId).stream()
-			.map(reviewMapper::toDto)
-			.collect(Collectors.toList());
+	// 내 리뷰 최신순 조회
+	public CursorPage<ReviewResponseDto> findMyReviews(Integer ownerId, TimeCursorRequest request) {
+		List<ReviewResponseDto> reviews = reviewRepository.findOwnerFeed(
+			ownerId, request.createdAtBound(), request.idBound(), request.fetchLimit());
+
+		return CursorPage.of(reviews, request.limit(), ReadReviewService::cursorOf);
 	}
 
-	public List<ReviewResponseDto> findVetReviews(Integer vetId) {
+	// 수의사 리뷰 최신순 조회
+	public CursorPage<ReviewResponseDto> findVetReviews(Integer vetId, TimeCursorRequest request) {
 		validateVetExists(vetId);
 
-		return getReviewsByVetId(vetId).stream()
-			.map(reviewMapper::toDto)
-			.collect(Collectors.toList());
-	}
+		List<ReviewResponseDto> reviews = reviewRepository.findVetFeed(
+			vetId, request.createdAtBound(), request.idBound(), request.fetchLimit());
 
-	private List<Review> getReviewsByOwnerId(Integer ownerId) {
-		return reviewRepository.findByOwnerId(ownerId)
-			.orElseThrow(() -> new ApiException(ReviewErrorCode.NO_REVIEW));
+		return CursorPage.of(reviews, request.limit(), ReadReviewService::cursorOf);
 	}
 
-	private List<Review> getReviewsByVetId(Integer vetId) {
-		return reviewRepository.findByVetId(vetId)
-			.orElseThrow(() -> new ApiException(ReviewErrorCode.NO_REVIEW));
+	private static String cursorOf(ReviewResponseDto review) {
+		return TimeCursorRequest.cursorOf(review.getCreateAt(), review.getId());
 	}
 
 	private void validateVetExists(Integer vetId) {
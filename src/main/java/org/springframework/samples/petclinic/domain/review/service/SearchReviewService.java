@@ -0,0 +1,78 @@
+package org.springframework.samples.petclinic.domain.review.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.samples.petclinic.common.error.ReviewErrorCode;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewSearchResponseDto;
+import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchFilter;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchHit;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchIndex;
+import org.springframework.samples.petclinic.domain.review.search.ReviewTokenizer;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class SearchReviewService {
+
+	private final ReviewSearchIndex reviewSearchIndex;
+	private final ReviewRepository reviewRepository;
+
+	// 리뷰 내용 검색 - 색인에서 관련도 순 아이디를 찾고 해당 리뷰만 DB 에서 조회
+	public List<ReviewSearchResponseDto> search(String query, Integer vetId, Integer minScore, Integer maxScore,
+												Integer limit) {
+		validateQuery(query);
+		ReviewSearchFilter filter = toFilter(vetId, minScore, maxScore);
+
+		List<ReviewSearchHit> hits = reviewSearchIndex.search(query, filter, CursorRequest.of(null, limit).limit());
+		if (hits.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Integer, ReviewResponseDto> reviews = new HashMap<>();
+		reviewRepository.findResponsesByIdIn(hits.stream().map(ReviewSearchHit::reviewId).toList())
+			.forEach(review -> reviews.put(review.getId(), review));
+
+		// 색인 반영 전에 삭제된 리뷰는 제외
+		return hits.stream()
+			.map(hit -> toResponse(reviews.get(hit.reviewId()), hit))
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	private void validateQuery(String query) {
+		if (query == null || query.length() > 100 || ReviewTokenizer.tokenize(query).isEmpty())
+			throw new ApiException(ReviewErrorCode.INVALID_SEARCH_QUERY);
+	}
+
+	private ReviewSearchFilter toFilter(Integer vetId, Integer minScore, Integer maxScore) {
+		int min = minScore == null ? 1 : minScore;
+		int max = maxScore == null ? 5 : maxScore;
+		if (min < 1 || max > 5 || min > max)
+			throw new ApiException(ReviewErrorCode.INVALID_REVIEW_SCORE);
+
+		return new ReviewSearchFilter(vetId, min, max);
+	}
+
+	private static ReviewSearchResponseDto toResponse(ReviewResponseDto review, ReviewSearchHit hit) {
+		if (review == null) {
+			return null;
+		}
+		return ReviewSearchResponseDto.builder()
+			.id(review.getId())
+			.score(review.getScore())
+			.content(review.getContent())
+			.createAt(review.getCreateAt())
+			.vetId(review.getVetId())
+			.ownerId(review.getOwnerId())
+			.relevance(hit.relevance())
+			.build();
+	}
+}
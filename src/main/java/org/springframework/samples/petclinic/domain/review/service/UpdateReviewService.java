@@ -9,14 +9,15 @@ import org.springframework.samples.petclinic.domain.owner.repository.OwnerReposi
 import org.springframework.samples.petclinic.domain.review.dto.ReviewRequestDto;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
 import org.springframework.samples.petclinic.domain.review.mapper.ReviewMapper;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
 import org.springframework.samples.petclinic.domain.review.model.Review;
 import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
-import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchIndex;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
 import org.springframework.stereotype.Service;
-
-import java.math.BigDecimal;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,20 +26,23 @@ public class UpdateReviewService {
 	private final OwnerRepository ownerRepository;
 	private final ReviewRepository reviewRepository;
 	private final ReviewMapper reviewMapper;
-	private final VetRepository vetRepository;
 	private final VetService vetService;
+	private final RatingAggregator ratingAggregator;
+	private final ReviewSearchIndex reviewSearchIndex;
 
+	@Transactional
 	public ReviewResponseDto updateReview(ReviewRequestDto request, Integer ownerId, Integer reviewId) {
 		validateRequestData(request);
 
 		Review review = getReviewOrThrow(reviewId);
 		validateOwner(ownerId, review);
 
-		Vet vet = vetService.getVetOrThrow(review.getVet().getId());
+		Vet vet = vetService.getVetReferenceOrThrow(review.getVet().getId());
 		updateVetRatingsIfNeeded(request, review, vet);
 
 		review.updateReview(request.getScore(), request.getContent());
 		Review updateReview = reviewRepository.save(review);
+		reviewSearchIndex.upsert(updateReview.getId(), vet.getId(), updateReview.getScore(), updateReview.getContent());
 
 		return reviewMapper.toDto(updateReview);
 	}
@@ -79,23 +83,6 @@ public class UpdateReviewService {
 
 	private void updateVetRatingsIfNeeded(ReviewRequestDto request, Review review, Vet vet) {
 		if (!review.getScore().equals(request.getScore()))
-			updateVetRatingAndReviewCount(vet, review.getScore(), request.getScore());
-	}
-
-	private void updateVetRatingAndReviewCount(Vet vet, int oldScore, int newScore) {
-		int currentReviewCount = vet.getReviewCount() != null ? vet.getReviewCount() : 0;
-		BigDecimal currentAverageRating = vet.getAverageRatings() != null ? vet.getAverageRatings() : BigDecimal.ZERO;
-
-		BigDecimal updatedTotalScore = currentAverageRating.multiply(BigDecimal.valueOf(currentReviewCount))
-			.subtract(BigDecimal.valueOf(oldScore))
-			.add(BigDecimal.valueOf(newScore));
-
-		BigDecimal updatedAverageRating = currentReviewCount > 0
-			? updatedTotalScore.divide(BigDecimal.valueOf(currentReviewCount), 2, BigDecimal.ROUND_HALF_UP)
-			: BigDecimal.ZERO;
-
-		vet.updateRatings(updatedAverageRating, currentReviewCount);
-		vetRepository.save(vet);
+			ratingAggregator.submit(vet.getId(), RatingDelta.changed(review.getScore(), request.getScore()));
 	}
 }
-
@@ -1,7 +1,9 @@
 package org.springframework.samples.petclinic.domain.token.Interface;
 
 import org.springframework.samples.petclinic.domain.token.dto.TokenDto;
+import org.springframework.samples.petclinic.domain.token.helper.VerifiedToken;
 
+import java.time.Instant;
 import java.util.Map;
 
 public interface TokenHelperInterface {
@@ -10,4 +12,8 @@ public interface TokenHelperInterface {
     TokenDto issueRefreshToken(Map<String, Object> data);
 
     Map<String, Object> validationTokenWithThrow(String token);
+
+    VerifiedToken verify(String token);
+
+    Instant expirationOf(String token);
 }
@@ -1,63 +1,88 @@
 package org.springframework.samples.petclinic.domain.token.helper;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.samples.petclinic.domain.token.Interface.TokenHelperInterface;
 import org.springframework.samples.petclinic.domain.token.dto.TokenDto;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * JWT 발행 / 검증
+ * <p>
+ * 서명 키와 파서는 생성 시 한 번만 만든다.<br>
+ * 한 번 검증된 토큰은 {@link TokenFingerprint} 를 키로 ownerId 와 만료 시각을 토큰 만료 시각까지 캐시해,
+ * 같은 토큰으로 들어오는 이후 요청은 HMAC 검증과 클레임 파싱 없이 처리한다.
+ * 서명 검증에 실패한 토큰은 캐시하지 않으므로 캐시에 있는 지문은 모두 이 서버의 키로 서명된 토큰이다.<br>
+ * 캐시는 최대 {@code token.verified-cache.max-size} 개로 제한되고, 밀려난 토큰은 다음 요청에서 다시 검증된다.
+ * </p>
+ */
 @Component
 public class JwtTokenHelper implements TokenHelperInterface {
-    @Value("${token.secret.key}")
-    private String secretKey;
-
-    @Value("${token.access-token.plus-hour}")
-    private Long accessTokenPlusHour;
-
-    @Value("${token.refresh-token.plus-hour}")
-    private Long refreshTokenPlusHour;
+    private static final String CACHE_NAME = "verifiedTokens";
+
+    private final Long accessTokenPlusHour;
+    private final Long refreshTokenPlusHour;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Cache<TokenFingerprint, VerifiedToken> verifiedTokens;
+
+    public JwtTokenHelper(@Value("${token.secret.key}") String secretKey,
+                          @Value("${token.access-token.plus-hour}") Long accessTokenPlusHour,
+                          @Value("${token.refresh-token.plus-hour}") Long refreshTokenPlusHour,
+                          @Value("${token.verified-cache.max-size:100000}") long verifiedCacheMaxSize,
+                          MeterRegistry meterRegistry) {
+        this.accessTokenPlusHour = accessTokenPlusHour;
+        this.refreshTokenPlusHour = refreshTokenPlusHour;
+        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        Ticker ticker = Ticker.systemTicker();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpiry<TokenFingerprint, VerifiedToken>(VerifiedToken::expiresAt, ticker))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+    }
 
     @Override
     public TokenDto issueAccessToken(Map<String, Object> data) {
-        var expiredLocalDateTime = LocalDateTime.now().plusHours(accessTokenPlusHour);
-
-        var expiredAt = Date.from(
-                expiredLocalDateTime.atZone(ZoneId.systemDefault()).toInstant()
-        );
-
-        var key = Keys.hmacShaKeyFor(secretKey.getBytes());
-
-        var jwtToken = Jwts.builder()
-                .signWith(key, Jwts.SIG.HS256)
-                .claims(data)
-                .expiration(expiredAt)
-                .compact();
-
-        return TokenDto.builder()
-                .token(jwtToken)
-                .expiresAt(expiredLocalDateTime)
-                .build();
+        return issue(data, accessTokenPlusHour);
     }
 
     @Override
     public TokenDto issueRefreshToken(Map<String, Object> data) {
-        var expiredLocalDateTime = LocalDateTime.now().plusHours(refreshTokenPlusHour);
+        return issue(data, refreshTokenPlusHour);
+    }
+
+    private TokenDto issue(Map<String, Object> data, Long plusHour) {
+        var expiredLocalDateTime = LocalDateTime.now().plusHours(plusHour);
 
         var expiredAt = Date.from(
                 expiredLocalDateTime.atZone(ZoneId.systemDefault()).toInstant()
         );
 
-        var key = Keys.hmacShaKeyFor(secretKey.getBytes());
-
         var jwtToken = Jwts.builder()
                 .signWith(key, Jwts.SIG.HS256)
                 .claims(data)
@@ -72,26 +97,70 @@ public class JwtTokenHelper implements TokenHelperInterface {
 
     @Override
     public Map<String, Object> validationTokenWithThrow(String token) {
-        var key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        return new HashMap<String, Object>(parseClaims(token));
+    }
 
-        var parser = Jwts.parser()
-                .verifyWith(key)
-                .build();
+    // 캐시에 있으면 바로 반환, 없으면 서명을 검증하고 만료 시각까지 캐시
+    @Override
+    public VerifiedToken verify(String token) {
+        var fingerprint = TokenFingerprint.of(token);
+        var cached = verifiedTokens.getIfPresent(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+
+        var claims = parseClaims(token);
+        var expiration = claims.getExpiration();
+        if (expiration == null) {
+            // 만료 시각이 없는 토큰은 발행하지 않음
+            throw new IllegalArgumentException("Token Exception");
+        }
+        var ownerId = claims.get("ownerId");
+        var verified = new VerifiedToken(
+                ownerId == null ? null : Integer.valueOf(ownerId.toString()),
+                expiration.toInstant()
+        );
+        verifiedTokens.put(fingerprint, verified);
+        return verified;
+    }
+
+    // 서명을 확인하고 만료 시각을 반환 (이미 만료된 토큰도 만료 시각은 반환)
+    @Override
+    public Instant expirationOf(String token) {
+        var cached = verifiedTokens.getIfPresent(TokenFingerprint.of(token));
+        if (cached != null) {
+            return cached.expiresAt();
+        }
 
         try {
-            var result = parser.parseSignedClaims(token);
-            return new HashMap<String, Object>(result.getPayload());
-        } catch (Exception e) {
-            if(e instanceof SignatureException) {
-                // 유효하지 않은 토큰
-				throw new IllegalArgumentException("Invalid Token");
-            } else if(e instanceof ExpiredJwtException) {
-                // 만료된 토큰
-				throw new IllegalArgumentException("Expired Token");
-            } else {
-                // 그 외 에러
-				throw new IllegalArgumentException("Token Exception");
+            var expiration = parser.parseSignedClaims(token)
+                    .getPayload()
+                    .getExpiration();
+            if (expiration == null) {
+                throw new IllegalArgumentException("Token Exception");
             }
+            return expiration.toInstant();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims().getExpiration().toInstant();
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid Token");
+        }
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (SignatureException e) {
+            // 유효하지 않은 토큰
+            throw new IllegalArgumentException("Invalid Token");
+        } catch (ExpiredJwtException e) {
+            // 만료된 토큰
+            throw new IllegalArgumentException("Expired Token");
+        } catch (Exception e) {
+            // 그 외 에러
+            throw new IllegalArgumentException("Token Exception");
         }
     }
 }
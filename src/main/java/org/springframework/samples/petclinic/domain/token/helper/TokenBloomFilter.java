@@ -0,0 +1,64 @@
+package org.springframework.samples.petclinic.domain.token.helper;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 지문용 Bloom 필터 (잠금 없이 동시 추가/조회 가능)
+ * <p>
+ * {@link #mightContain} 가 false 면 추가된 적이 없는 지문이다. true 면 추가됐을 수도 있으므로 정확한 집합으로 다시 확인한다.<br>
+ * 지문은 이미 균등한 해시이므로 (high, low) 를 이중 해싱해 비트 위치를 만든다. 삭제는 지원하지 않는다.
+ * </p>
+ */
+public final class TokenBloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	private TokenBloomFilter(long bitCount, int hashCount) {
+		this.bitCount = bitCount;
+		this.hashCount = hashCount;
+		this.bits = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+	}
+
+	// 예상 항목 수와 목표 오탐률로 비트 수/해시 수 결정
+	public static TokenBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		long bitCount = Math.max(64, (long) (-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+		int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+		return new TokenBloomFilter(bitCount, hashCount);
+	}
+
+	public void put(TokenFingerprint fingerprint) {
+		long combined = fingerprint.high();
+		for (int i = 0; i < hashCount; i++) {
+			long index = (combined & Long.MAX_VALUE) % bitCount;
+			setBit(index);
+			combined += fingerprint.low();
+		}
+	}
+
+	public boolean mightContain(TokenFingerprint fingerprint) {
+		long combined = fingerprint.high();
+		for (int i = 0; i < hashCount; i++) {
+			long index = (combined & Long.MAX_VALUE) % bitCount;
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+			combined += fingerprint.low();
+		}
+		return true;
+	}
+
+	private void setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+}
@@ -0,0 +1,29 @@
+package org.springframework.samples.petclinic.domain.token.helper;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 지문 - 토큰 문자열의 SHA-256 앞 128비트
+ * <p>
+ * 토큰 원문 대신 고정 크기 키로 저장/비교할 때 사용한다. 원문을 들고 있지 않으므로 메모리에 토큰이 남지 않는다.
+ * </p>
+ */
+public record TokenFingerprint(long high, long low) {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	public static TokenFingerprint of(String token) {
+		byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+		ByteBuffer buffer = ByteBuffer.wrap(digest);
+		return new TokenFingerprint(buffer.getLong(), buffer.getLong());
+	}
+}
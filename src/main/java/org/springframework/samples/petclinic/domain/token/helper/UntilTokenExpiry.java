@@ -0,0 +1,61 @@
+package org.springframework.samples.petclinic.domain.token.helper;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 토큰 캐시 항목을 토큰 자체의 만료 시각까지만 보관하는 가변 만료 (갱신/조회로 연장하지 않음)
+ * <p>
+ * 남은 수명은 Caffeine 이 넘겨주는 티커 시각으로 계산한다. 생성 시 벽시계와 티커를 한 번 맞춰 두고
+ * 이후의 현재 시각은 티커가 흐른 만큼만 더하므로, 캐시에 주입한 티커가 만료 판단에 그대로 반영된다.
+ * </p>
+ *
+ * @param <K> 캐시 키
+ * @param <V> 만료 시각을 가진 캐시 값
+ */
+public final class UntilTokenExpiry<K, V> implements Expiry<K, V> {
+
+	private final Function<V, Instant> expiresAt;
+	private final Ticker ticker;
+	private final Instant originInstant;
+	private final long originNanos;
+
+	/**
+	 * @param expiresAt 값에서 토큰 만료 시각을 꺼내는 함수
+	 * @param ticker    캐시에 설정한 것과 같은 티커
+	 */
+	public UntilTokenExpiry(Function<V, Instant> expiresAt, Ticker ticker) {
+		this.expiresAt = expiresAt;
+		this.ticker = ticker;
+		this.originInstant = Instant.now();
+		this.originNanos = ticker.read();
+	}
+
+	// 티커 기준 현재 시각 - 캐시에 넣기 전에 이미 만료됐는지 판단할 때도 같은 시계를 사용
+	public Instant now() {
+		return instantAt(ticker.read());
+	}
+
+	@Override
+	public long expireAfterCreate(K key, V value, long currentTime) {
+		return Math.max(0, Duration.between(instantAt(currentTime), expiresAt.apply(value)).toNanos());
+	}
+
+	@Override
+	public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+		return expireAfterCreate(key, value, currentTime);
+	}
+
+	@Override
+	public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+		return currentDuration;
+	}
+
+	private Instant instantAt(long tickerNanos) {
+		return originInstant.plusNanos(tickerNanos - originNanos);
+	}
+}
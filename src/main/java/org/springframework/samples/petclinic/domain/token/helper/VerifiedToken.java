@@ -0,0 +1,12 @@
+package org.springframework.samples.petclinic.domain.token.helper;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 통과한 토큰에서 꺼낸 값
+ *
+ * @param ownerId 토큰의 ownerId 클레임 (없으면 null)
+ * @param expiresAt 토큰 만료 시각
+ */
+public record VerifiedToken(Integer ownerId, Instant expiresAt) {
+}
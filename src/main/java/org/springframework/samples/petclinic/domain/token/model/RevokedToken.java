@@ -0,0 +1,47 @@
+package org.springframework.samples.petclinic.domain.token.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
+import org.springframework.samples.petclinic.domain.token.helper.TokenFingerprint;
+import org.springframework.samples.petclinic.model.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그아웃(폐기)된 토큰 - 모든 노드가 주기적으로 읽어 로컬 블랙리스트에 반영
+ * <p>
+ * revoked_at 은 DB 시각으로 기록되므로 노드 간 시계 차이와 무관하게 폴링 기준으로 쓸 수 있다.
+ * </p>
+ */
+@Entity
+@Table(name = "revoked_token")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class RevokedToken extends BaseEntity {
+
+	@Column(name = "fingerprint_high", nullable = false)
+	private long fingerprintHigh;
+
+	@Column(name = "fingerprint_low", nullable = false)
+	private long fingerprintLow;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Generated(event = EventType.INSERT)
+	@Column(name = "revoked_at", insertable = false, updatable = false)
+	private LocalDateTime revokedAt;
+
+	public TokenFingerprint fingerprint() {
+		return new TokenFingerprint(fingerprintHigh, fingerprintLow);
+	}
+}
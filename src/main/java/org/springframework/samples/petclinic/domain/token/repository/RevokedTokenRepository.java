@@ -0,0 +1,26 @@
+package org.springframework.samples.petclinic.domain.token.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.token.model.RevokedToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Integer> {
+
+	// 폴링: (revoked_at, id) 커서 이후에 폐기된, 아직 만료되지 않은 토큰
+	@Query("SELECT r FROM RevokedToken r WHERE r.expiresAt > :now " +
+		"AND (r.revokedAt > :revokedAt OR (r.revokedAt = :revokedAt AND r.id > :id)) " +
+		"ORDER BY r.revokedAt, r.id")
+	List<RevokedToken> findRevokedAfter(@Param("revokedAt") LocalDateTime revokedAt, @Param("id") Integer id,
+										@Param("now") LocalDateTime now, Limit limit);
+
+	// 만료된 폐기 토큰 정리
+	@Modifying
+	@Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -46,13 +46,11 @@ public class TokenService {
 	 * @return 사용자 ID
 	 */
 	public Integer validationToken(String token) {
-		var map = tokenHelperInterface.validationTokenWithThrow(token);
-
-		var userId = map.get("ownerId");
+		var userId = tokenHelperInterface.verify(token).ownerId();
 
 		Objects.requireNonNull(userId, () -> {throw new IllegalArgumentException("ownerId is Null");});
 
-		return Integer.parseInt(userId.toString());
+		return userId;
 	}
 
 	/**
@@ -3,7 +3,11 @@ package org.springframework.samples.petclinic.domain.vet.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.domain.vet.dto.VetRatingsResponseDto;
 import org.springframework.samples.petclinic.domain.vet.dto.VetRequestDto;
+import org.springframework.samples.petclinic.domain.vet.model.enums.SpecialtyMatch;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
 import org.springframework.samples.petclinic.domain.vet.dto.VetResponseDto;
 import org.springframework.web.bind.annotation.*;
@@ -24,10 +28,13 @@ public class VetController {
 		return ResponseEntity.ok(response);
 	}
 
-	// 전체 수의사 조회
+	// 전체 수의사 조회 (?after=마지막 아이디&limit=개수)
 	@GetMapping("/all")
-	public ResponseEntity<List<VetResponseDto>> getAll() {
-		var response = vetService.findAll();
+	public ResponseEntity<CursorPage<VetResponseDto>> getAll(
+		@RequestParam(value = "after", required = false) Integer after,
+		@RequestParam(value = "limit", required = false) Integer limit
+	) {
+		var response = vetService.findAll(CursorRequest.of(after, limit));
 		return ResponseEntity.ok(response);
 	}
 
@@ -38,8 +45,24 @@ public class VetController {
 		return ResponseEntity.ok(response);
 	}
 
+	// 수의사 평점 분포 조회
+	@GetMapping("/{vetId}/ratings")
+	public ResponseEntity<VetRatingsResponseDto> getRatings(@PathVariable("vetId") int vetId) {
+		var response = vetService.findRatings(vetId);
+		return ResponseEntity.ok(response);
+	}
+
+	// 여러 수의사 평점 분포 조회 (?vetIds=1,2,3, 최대 100명)
+	@GetMapping(value = "/ratings", params = "vetIds")
+	public ResponseEntity<List<VetRatingsResponseDto>> getRatingsBatch(
+		@RequestParam(value = "vetIds") List<Integer> vetIds
+	) {
+		var response = vetService.findRatings(vetIds);
+		return ResponseEntity.ok(response);
+	}
+
 	// 분야별 수의사 조회
-	@GetMapping
+	@GetMapping(params = "speciality")
 	public ResponseEntity<List<VetResponseDto>> getVetsBySpecialityId(
 		@RequestParam(value = "speciality") int specialityId
 	) {
@@ -47,6 +70,16 @@ public class VetController {
 		return ResponseEntity.ok(response);
 	}
 
+	// 여러 분야 조건 수의사 조회 (match=all: 모든 분야 보유, match=any: 하나 이상 보유)
+	@GetMapping(params = "specialtyIds")
+	public ResponseEntity<List<VetResponseDto>> getVetsBySpecialtyIds(
+		@RequestParam(value = "specialtyIds") List<Integer> specialtyIds,
+		@RequestParam(value = "match", defaultValue = "any") String match
+	) {
+		var response = vetService.findBySpecialtyIds(specialtyIds, SpecialtyMatch.from(match));
+		return ResponseEntity.ok(response);
+	}
+
 	// 수의사 수정
 	@PutMapping("/{vetId}")
 	public ResponseEntity<VetResponseDto> update(
@@ -0,0 +1,24 @@
+package org.springframework.samples.petclinic.domain.vet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VetRatingsResponseDto {
+	private Integer vetId;
+
+	private BigDecimal averageRatings;
+
+	private Integer reviewCount;
+
+	// 별점(1~5) -> 리뷰 수
+	private Map<Integer, Integer> histogram;
+}
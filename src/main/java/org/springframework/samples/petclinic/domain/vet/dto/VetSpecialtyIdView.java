@@ -0,0 +1,10 @@
+package org.springframework.samples.petclinic.domain.vet.dto;
+
+/**
+ * 수의사-전문분야 연결의 아이디 쌍 (엔티티를 로딩하지 않는 조회용)
+ */
+public interface VetSpecialtyIdView {
+	Integer getVetId();
+
+	Integer getSpecialtyId();
+}
@@ -0,0 +1,153 @@
+package org.springframework.samples.petclinic.domain.vet.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.samples.petclinic.common.transaction.TransactionCallbacks;
+import org.springframework.samples.petclinic.domain.vet.dto.VetSpecialtyIdView;
+import org.springframework.samples.petclinic.domain.vet.model.enums.SpecialtyMatch;
+import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
+import org.springframework.samples.petclinic.domain.vet.repository.VetSpecialtyRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 전문분야 → 등록 상태 수의사 아이디 역색인
+ * <p>
+ * 전문분야마다 수의사 아이디 비트맵({@link BitSet})을 유지한다.<br>
+ * 읽기는 잠금 없이 현재 스냅샷을 사용하고, 쓰기는 변경되는 비트맵만 복사한 새 스냅샷으로 교체한다.<br>
+ * 애플리케이션 시작 시 DB 에서 전체를 재구성하고, 이후에는 VetService 의 등록/수정/삭제 시 증분 갱신한다.
+ * 트랜잭션 안에서 갱신되면 롤백 시 이전 상태로 되돌린다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpecialtyVetIndex {
+
+	private final VetSpecialtyRepository vetSpecialtyRepository;
+
+	// specialtyId -> vetId 비트맵, 발행된 비트맵은 수정하지 않는다
+	private volatile Map<Integer, BitSet> vetIdsBySpecialtyId = Map.of();
+
+	// vetId -> specialtyId 목록, 증분 갱신 시 기존 연결을 지우기 위해 사용 (this 로 보호)
+	private final Map<Integer, Set<Integer>> specialtyIdsByVetId = new HashMap<>();
+
+	// 전체 재구성
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		List<VetSpecialtyIdView> links = vetSpecialtyRepository.findAllIdsByVetStatus(VetStatus.REGISTERED);
+
+		Map<Integer, BitSet> rebuilt = new HashMap<>();
+		Map<Integer, Set<Integer>> rebuiltReverse = new HashMap<>();
+		for (VetSpecialtyIdView link : links) {
+			rebuilt.computeIfAbsent(link.getSpecialtyId(), id -> new BitSet()).set(link.getVetId());
+			rebuiltReverse.computeIfAbsent(link.getVetId(), id -> new TreeSet<>()).add(link.getSpecialtyId());
+		}
+
+		synchronized (this) {
+			specialtyIdsByVetId.clear();
+			specialtyIdsByVetId.putAll(rebuiltReverse);
+			vetIdsBySpecialtyId = Map.copyOf(rebuilt);
+		}
+		log.info("Specialty index rebuilt: {} specialties, {} vets", rebuilt.size(), rebuiltReverse.size());
+	}
+
+	// 해당 전문분야를 가진 수의사 아이디 (오름차순)
+	public List<Integer> findVetIds(int specialtyId) {
+		BitSet vetIds = vetIdsBySpecialtyId.get(specialtyId);
+		return vetIds == null ? List.of() : toList(vetIds);
+	}
+
+	// 여러 전문분야 조건으로 수의사 아이디 조회 (ALL: 교집합, ANY: 합집합)
+	public List<Integer> findVetIds(Collection<Integer> specialtyIds, SpecialtyMatch match) {
+		Map<Integer, BitSet> snapshot = vetIdsBySpecialtyId;
+		BitSet result = null;
+
+		for (Integer specialtyId : specialtyIds) {
+			BitSet vetIds = snapshot.get(specialtyId);
+			if (vetIds == null) {
+				if (match == SpecialtyMatch.ALL) {
+					return List.of();
+				}
+				continue;
+			}
+			if (result == null) {
+				result = (BitSet) vetIds.clone();
+			} else if (match == SpecialtyMatch.ALL) {
+				result.and(vetIds);
+			} else {
+				result.or(vetIds);
+			}
+		}
+		return result == null ? List.of() : toList(result);
+	}
+
+	// 수의사가 가진 전문분야 아이디 (캐시 무효화 대상 확인용)
+	public synchronized Set<Integer> findSpecialtyIds(int vetId) {
+		return Set.copyOf(specialtyIdsByVetId.getOrDefault(vetId, Set.of()));
+	}
+
+	// 수의사의 전문분야를 지정한 목록으로 교체 (등록/수정)
+	public void put(int vetId, Collection<Integer> specialtyIds) {
+		Set<Integer> previous = replace(vetId, new TreeSet<>(specialtyIds));
+		TransactionCallbacks.onRollback(() -> replace(vetId, previous));
+	}
+
+	// 수의사를 색인에서 제거 (삭제)
+	public void remove(int vetId) {
+		Set<Integer> previous = replace(vetId, Set.of());
+		TransactionCallbacks.onRollback(() -> replace(vetId, previous));
+	}
+
+	private synchronized Set<Integer> replace(int vetId, Set<Integer> specialtyIds) {
+		Set<Integer> previous = specialtyIdsByVetId.getOrDefault(vetId, Set.of());
+		if (previous.equals(specialtyIds)) {
+			return previous;
+		}
+
+		Map<Integer, BitSet> next = new HashMap<>(vetIdsBySpecialtyId);
+		for (Integer specialtyId : previous) {
+			if (!specialtyIds.contains(specialtyId)) {
+				BitSet vetIds = (BitSet) next.get(specialtyId).clone();
+				vetIds.clear(vetId);
+				if (vetIds.isEmpty()) {
+					next.remove(specialtyId);
+				} else {
+					next.put(specialtyId, vetIds);
+				}
+			}
+		}
+		for (Integer specialtyId : specialtyIds) {
+			if (!previous.contains(specialtyId)) {
+				BitSet current = next.get(specialtyId);
+				BitSet vetIds = current == null ? new BitSet() : (BitSet) current.clone();
+				vetIds.set(vetId);
+				next.put(specialtyId, vetIds);
+			}
+		}
+
+		if (specialtyIds.isEmpty()) {
+			specialtyIdsByVetId.remove(vetId);
+		} else {
+			specialtyIdsByVetId.put(vetId, specialtyIds);
+		}
+		vetIdsBySpecialtyId = next;
+		return previous;
+	}
+
+	private static List<Integer> toList(BitSet vetIds) {
+		List<Integer> result = new ArrayList<>(vetIds.cardinality());
+		vetIds.stream().forEach(result::add);
+		return result;
+	}
+}
@@ -2,12 +2,19 @@ package org.springframework.samples.petclinic.domain.vet.mapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.samples.petclinic.domain.vet.dto.VetRequestDto;
+import org.springframework.samples.petclinic.domain.vet.dto.VetRatingsResponseDto;
 import org.springframework.samples.petclinic.domain.vet.dto.VetResponseDto;
+import org.springframework.samples.petclinic.domain.vet.model.RatingHistogram;
+import org.springframework.samples.petclinic.domain.vet.model.Specialty;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
 import org.springframework.samples.petclinic.domain.vet.service.SpecialtyService;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Component
 public class VetMapper {
 
@@ -22,12 +29,37 @@ public class VetMapper {
 	}
 
 	public VetResponseDto toResponse(Vet vet) {
+		return toResponse(vet, specialtyService.find(vet.getId()));
+	}
+
+	// 수의사 목록 변환 - 전문분야는 한 번에 조회
+	public List<VetResponseDto> toResponseList(List<Vet> vets) {
+		Map<Integer, List<Specialty>> specialtiesByVetId = specialtyService.findGroupedByVetIds(
+			vets.stream().map(Vet::getId).toList());
+
+		return vets.stream()
+			.map(vet -> toResponse(vet, specialtiesByVetId.getOrDefault(vet.getId(), List.of())))
+			.collect(Collectors.toList());
+	}
+
+	public VetRatingsResponseDto toRatingsResponse(Vet vet) {
+		RatingHistogram histogram = vet.getRatingHistogram() != null ? vet.getRatingHistogram() : RatingHistogram.empty();
+		return VetRatingsResponseDto.builder()
+			.vetId(vet.getId())
+			.averageRatings(vet.getAverageRatings())
+			.reviewCount(vet.getReviewCount())
+			.histogram(histogram.toMap())
+			.build();
+	}
+
+	// 전문분야를 이미 알고 있는 경우 (등록 직후 등)
+	public VetResponseDto toResponse(Vet vet, List<Specialty> specialties) {
 		return VetResponseDto.builder()
 			.id(vet.getId())
 			.name(vet.getName())
 			.averageRatings(vet.getAverageRatings())
 			.reviewCount(vet.getReviewCount())
-			.specialties(specialtyService.find(vet.getId()))
+			.specialties(specialties)
 			.build();
 	}
 }
@@ -0,0 +1,52 @@
+package org.springframework.samples.petclinic.domain.vet.model;
+
+/**
+ * 리뷰 한 건 이상의 생성/수정/삭제로 인한 별점별 리뷰 수 변화
+ * <p>
+ * 점수 합계와 리뷰 수 변화는 별점별 변화에서 계산되므로 분포와 합계가 항상 같이 움직인다.
+ * </p>
+ */
+public record RatingDelta(int star1, int star2, int star3, int star4, int star5) {
+
+	public static final RatingDelta NONE = new RatingDelta(0, 0, 0, 0, 0);
+
+	public static RatingDelta added(int score) {
+		return NONE.withStar(score, 1);
+	}
+
+	public static RatingDelta removed(int score) {
+		return NONE.withStar(score, -1);
+	}
+
+	public static RatingDelta changed(int oldScore, int newScore) {
+		return removed(oldScore).plus(added(newScore));
+	}
+
+	public RatingDelta plus(RatingDelta other) {
+		return new RatingDelta(star1 + other.star1, star2 + other.star2, star3 + other.star3,
+			star4 + other.star4, star5 + other.star5);
+	}
+
+	public long scoreDelta() {
+		return star1 + 2L * star2 + 3L * star3 + 4L * star4 + 5L * star5;
+	}
+
+	public int countDelta() {
+		return star1 + star2 + star3 + star4 + star5;
+	}
+
+	public boolean isZero() {
+		return equals(NONE);
+	}
+
+	private RatingDelta withStar(int score, int delta) {
+		return switch (score) {
+			case 1 -> new RatingDelta(star1 + delta, star2, star3, star4, star5);
+			case 2 -> new RatingDelta(star1, star2 + delta, star3, star4, star5);
+			case 3 -> new RatingDelta(star1, star2, star3 + delta, star4, star5);
+			case 4 -> new RatingDelta(star1, star2, star3, star4 + delta, star5);
+			case 5 -> new RatingDelta(star1, star2, star3, star4, star5 + delta);
+			default -> throw new IllegalArgumentException("score must be between 1 and 5: " + score);
+		};
+	}
+}
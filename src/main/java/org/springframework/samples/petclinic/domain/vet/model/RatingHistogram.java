@@ -0,0 +1,59 @@
+package org.springframework.samples.petclinic.domain.vet.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 수의사 별점 분포 (1~5점 리뷰 수)
+ * <p>
+ * 리뷰 생성/수정/삭제 시 {@link RatingDelta} 로 증감되며 vets 행에 함께 저장된다.
+ * </p>
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RatingHistogram {
+
+	@Column(name = "star1_count", nullable = false)
+	private int star1Count;
+
+	@Column(name = "star2_count", nullable = false)
+	private int star2Count;
+
+	@Column(name = "star3_count", nullable = false)
+	private int star3Count;
+
+	@Column(name = "star4_count", nullable = false)
+	private int star4Count;
+
+	@Column(name = "star5_count", nullable = false)
+	private int star5Count;
+
+	public static RatingHistogram empty() {
+		return new RatingHistogram(0, 0, 0, 0, 0);
+	}
+
+	// 빈 분포에서 현재 분포까지의 변화량 (합계/리뷰 수 비교용)
+	public RatingDelta toDelta() {
+		return new RatingDelta(star1Count, star2Count, star3Count, star4Count, star5Count);
+	}
+
+	// 별점 -> 리뷰 수 (1점부터 순서대로)
+	public Map<Integer, Integer> toMap() {
+		Map<Integer, Integer> counts = new LinkedHashMap<>();
+		counts.put(1, star1Count);
+		counts.put(2, star2Count);
+		counts.put(3, star3Count);
+		counts.put(4, star4Count);
+		counts.put(5, star5Count);
+		return counts;
+	}
+}
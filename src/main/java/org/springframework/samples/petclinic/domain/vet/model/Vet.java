@@ -1,12 +1,15 @@
 package org.springframework.samples.petclinic.domain.vet.model;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
 
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
 import org.springframework.samples.petclinic.model.BaseEntity;
 
@@ -17,16 +20,23 @@ import org.springframework.samples.petclinic.model.BaseEntity;
 @EqualsAndHashCode(callSuper = false)
 @SuperBuilder
 @Entity
+@DynamicUpdate
 @Table(name = "vets")
 public class Vet extends BaseEntity {
 	@Column(length = 15, nullable = false)
 	private String name;
 
-	@Column(precision = 3, scale = 2)
-	private BigDecimal averageRatings;
+	// 리뷰 점수 합계 - 평균은 조회 시 합계/개수로 계산
+	@Column(name = "score_sum", nullable = false)
+	private Long scoreSum;
 
+	@Column(name = "review_count", nullable = false)
 	private Integer reviewCount;
 
+	// 별점 분포
+	@Embedded
+	private RatingHistogram ratingHistogram;
+
 	@Enumerated(EnumType.STRING)
 	@Column(length = 10, nullable = false)
 	private VetStatus status;
@@ -36,10 +46,22 @@ public class Vet extends BaseEntity {
 		if (this.status == null) {
 			this.status = VetStatus.REGISTERED; // 명시적으로 기본값 적용
 		}
+		if (this.scoreSum == null) {
+			this.scoreSum = 0L;
+		}
+		if (this.reviewCount == null) {
+			this.reviewCount = 0;
+		}
+		if (this.ratingHistogram == null) {
+			this.ratingHistogram = RatingHistogram.empty();
+		}
 	}
 
-	public void updateRatings(BigDecimal newAverageRatings, Integer newReviewCount) {
-		this.averageRatings = newAverageRatings;
-		this.reviewCount = newReviewCount;
+	// 평균 평점 (소수 둘째 자리 반올림, 리뷰가 없으면 0)
+	public BigDecimal getAverageRatings() {
+		if (reviewCount == null || reviewCount == 0 || scoreSum == null) {
+			return BigDecimal.ZERO.setScale(2);
+		}
+		return BigDecimal.valueOf(scoreSum).divide(BigDecimal.valueOf(reviewCount), 2, RoundingMode.HALF_UP);
 	}
 }
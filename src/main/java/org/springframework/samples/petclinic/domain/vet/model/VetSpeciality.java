@@ -14,11 +14,11 @@ import org.springframework.samples.petclinic.model.BaseEntity;
 @Entity
 @Table(name = "vet_specialties")
 public class VetSpeciality extends BaseEntity {
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "vet_id")
 	private Vet vet;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "specialty_id")
 	private Specialty specialty;
 }
@@ -0,0 +1,22 @@
+package org.springframework.samples.petclinic.domain.vet.model.enums;
+
+import org.springframework.samples.petclinic.common.error.VetErrorCode;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+
+import java.util.Locale;
+
+public enum SpecialtyMatch {
+	// 요청한 전문분야를 모두 가진 수의사
+	ALL,
+
+	// 요청한 전문분야 중 하나 이상을 가진 수의사
+	ANY;
+
+	public static SpecialtyMatch from(String value) {
+		try {
+			return SpecialtyMatch.valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new ApiException(VetErrorCode.INVALID_SPECIALTY_MATCH);
+		}
+	}
+}
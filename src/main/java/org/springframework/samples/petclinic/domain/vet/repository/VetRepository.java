@@ -1,14 +1,70 @@
 package org.springframework.samples.petclinic.domain.vet.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface VetRepository extends JpaRepository<Vet, Integer> {
-	List<Vet> findAllByStatusOrderById(VetStatus status);
+	// 키셋 페이지 조회: WHERE status = ? AND id > ? ORDER BY id LIMIT ?
+	List<Vet> findByStatusAndIdGreaterThanOrderById(VetStatus status, Integer id, Limit limit);
+
+	// 상태와 무관한 키셋 페이지 조회 (평점 정합성 검사용)
+	List<Vet> findByIdGreaterThanOrderById(Integer id, Limit limit);
+
+	List<Vet> findAllByIdInAndStatusOrderById(Collection<Integer> ids, VetStatus status);
 
 	Optional<Vet> findByIdAndStatus(Integer id, VetStatus status);
+
+	boolean existsByIdAndStatus(Integer id, VetStatus status);
+
+	// 리뷰 점수 합계/개수/별점 분포 원자적 증감: UPDATE vets SET score_sum = score_sum + ?, review_count = review_count + ?, ...
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Vet v SET v.scoreSum = v.scoreSum + :#{#delta.scoreDelta()}, " +
+		"v.reviewCount = v.reviewCount + :#{#delta.countDelta()}, " +
+		"v.ratingHistogram.star1Count = v.ratingHistogram.star1Count + :#{#delta.star1()}, " +
+		"v.ratingHistogram.star2Count = v.ratingHistogram.star2Count + :#{#delta.star2()}, " +
+		"v.ratingHistogram.star3Count = v.ratingHistogram.star3Count + :#{#delta.star3()}, " +
+		"v.ratingHistogram.star4Count = v.ratingHistogram.star4Count + :#{#delta.star4()}, " +
+		"v.ratingHistogram.star5Count = v.ratingHistogram.star5Count + :#{#delta.star5()} " +
+		"WHERE v.id = :vetId")
+	int addRatings(@Param("vetId") int vetId, @Param("delta") RatingDelta delta);
+
+	// 재계산 대상 수의사의 리뷰 공유 잠금 - 재계산이 커밋될 때까지 리뷰가 추가/수정/삭제되지 않음
+	@Query(value = "SELECT COUNT(*) FROM review WHERE vet_id IN (:vetIds) FOR SHARE", nativeQuery = true)
+	long lockReviews(@Param("vetIds") Collection<Integer> vetIds);
+
+	// 재계산 대상 수의사의 반영 대기 변경 공유 잠금 - 반영기는 잠긴 변경을 건너뛰고, 새 변경은 재계산이 커밋된 뒤에 기록됨
+	@Query(value = "SELECT COUNT(*) FROM rating_change WHERE vet_id IN (:vetIds) FOR SHARE", nativeQuery = true)
+	long lockPendingRatingChanges(@Param("vetIds") Collection<Integer> vetIds);
+
+	// 지정한 수의사들을 review 테이블 기준으로 재계산하되, 아직 반영되지 않은 변경(rating_change)은 빼 둠
+	// (vets + 반영 대기 변경 = review 가 유지되므로, 나중에 반영기가 그 변경을 더해도 두 번 세지 않음)
+	@Modifying
+	@Query(value = "UPDATE vets v " +
+		"LEFT JOIN (SELECT vet_id, SUM(score = 1) AS star1, SUM(score = 2) AS star2, SUM(score = 3) AS star3, " +
+		"SUM(score = 4) AS star4, SUM(score = 5) AS star5 " +
+		"FROM review WHERE vet_id IN (:vetIds) GROUP BY vet_id) r ON r.vet_id = v.id " +
+		"LEFT JOIN (SELECT vet_id, SUM(star1) AS star1, SUM(star2) AS star2, SUM(star3) AS star3, " +
+		"SUM(star4) AS star4, SUM(star5) AS star5 " +
+		"FROM rating_change WHERE vet_id IN (:vetIds) GROUP BY vet_id) p ON p.vet_id = v.id " +
+		"SET v.star1_count = COALESCE(r.star1, 0) - COALESCE(p.star1, 0), " +
+		"v.star2_count = COALESCE(r.star2, 0) - COALESCE(p.star2, 0), " +
+		"v.star3_count = COALESCE(r.star3, 0) - COALESCE(p.star3, 0), " +
+		"v.star4_count = COALESCE(r.star4, 0) - COALESCE(p.star4, 0), " +
+		"v.star5_count = COALESCE(r.star5, 0) - COALESCE(p.star5, 0), " +
+		"v.review_count = COALESCE(r.star1 + r.star2 + r.star3 + r.star4 + r.star5, 0) " +
+		"- COALESCE(p.star1 + p.star2 + p.star3 + p.star4 + p.star5, 0), " +
+		"v.score_sum = COALESCE(r.star1 + 2 * r.star2 + 3 * r.star3 + 4 * r.star4 + 5 * r.star5, 0) " +
+		"- COALESCE(p.star1 + 2 * p.star2 + 3 * p.star3 + 4 * p.star4 + 5 * p.star5, 0) " +
+		"WHERE v.id IN (:vetIds)", nativeQuery = true)
+	int rebuildRatingsFromReviews(@Param("vetIds") Collection<Integer> vetIds);
 }
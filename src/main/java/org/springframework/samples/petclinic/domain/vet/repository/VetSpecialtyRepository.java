@@ -1,15 +1,34 @@
 package org.springframework.samples.petclinic.domain.vet.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.vet.dto.VetSpecialtyIdView;
 import org.springframework.samples.petclinic.domain.vet.model.VetSpeciality;
+import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface VetSpecialtyRepository extends JpaRepository<VetSpeciality, Integer> {
-	List<VetSpeciality> findVetSpecialtiesByVetId_Id(int vetId);
-
 	void deleteAllByVetId_Id(int vetId);
 
-	// 전문분야별 수의사 찾기
-	List<VetSpeciality> findVetIdsBySpecialtyId_Id(int specialtyId);
+	// 수의사의 특정 전문분야 연결을 한 번의 쿼리로 삭제
+	@Modifying
+	@Query("DELETE FROM VetSpeciality vs WHERE vs.vet.id = :vetId AND vs.specialty.id IN :specialtyIds")
+	int deleteAllByVetIdAndSpecialtyIds(@Param("vetId") int vetId, @Param("specialtyIds") Collection<Integer> specialtyIds);
+
+	// 상태별 수의사-전문분야 아이디 쌍 (전문분야 색인 재구성용)
+	@Query("SELECT vs.vet.id AS vetId, vs.specialty.id AS specialtyId FROM VetSpeciality vs WHERE vs.vet.status = :status")
+	List<VetSpecialtyIdView> findAllIdsByVetStatus(@Param("status") VetStatus status);
+
+	// 수의사의 전문분야 아이디 (전문분야 정보는 ReferenceDataRegistry 에서 조회)
+	@Query("SELECT vs.specialty.id FROM VetSpeciality vs WHERE vs.vet.id = :vetId ORDER BY vs.id")
+	List<Integer> findSpecialtyIdsByVetId(@Param("vetId") int vetId);
+
+	// 여러 수의사의 전문분야 아이디를 한 번에 조회
+	@Query("SELECT vs.vet.id AS vetId, vs.specialty.id AS specialtyId FROM VetSpeciality vs "
+		+ "WHERE vs.vet.id IN :vetIds ORDER BY vs.id")
+	List<VetSpecialtyIdView> findAllIdsByVetIds(@Param("vetIds") Collection<Integer> vetIds);
 }
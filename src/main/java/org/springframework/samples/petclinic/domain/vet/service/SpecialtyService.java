@@ -3,13 +3,15 @@ package org.springframework.samples.petclinic.domain.vet.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.samples.petclinic.common.error.SpecialityErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
-import org.springframework.samples.petclinic.domain.vet.repository.SpecialtyRepository;
+import org.springframework.samples.petclinic.domain.reference.registry.ReferenceDataRegistry;
+import org.springframework.samples.petclinic.domain.vet.dto.VetSpecialtyIdView;
 import org.springframework.samples.petclinic.domain.vet.repository.VetSpecialtyRepository;
 import org.springframework.samples.petclinic.domain.vet.model.Specialty;
-import org.springframework.samples.petclinic.domain.vet.model.VetSpeciality;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -17,19 +19,32 @@ import java.util.stream.Collectors;
 public class SpecialtyService {
 
 	private final VetSpecialtyRepository vetSpecialtyRepository;
-	private final SpecialtyRepository specialtyRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 
 	public List<Specialty> find(int vetId) {
-		List<VetSpeciality> vetSpecialties = vetSpecialtyRepository.findVetSpecialtiesByVetId_Id(vetId);
-
-		return vetSpecialties.stream()
-			.map(VetSpeciality::getSpecialty)
+		return vetSpecialtyRepository.findSpecialtyIdsByVetId(vetId).stream()
+			.map(referenceDataRegistry::findSpecialty)
+			.flatMap(Optional::stream)
 			.toList();
 	}
 
+	// 수의사 목록의 전문분야를 한 번의 쿼리로 조회하여 수의사 아이디별로 묶음
+	public Map<Integer, List<Specialty>> findGroupedByVetIds(List<Integer> vetIds) {
+		if (vetIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return vetSpecialtyRepository.findAllIdsByVetIds(vetIds).stream()
+			.collect(Collectors.groupingBy(
+				VetSpecialtyIdView::getVetId,
+				Collectors.flatMapping(link -> referenceDataRegistry.findSpecialty(link.getSpecialtyId()).stream(),
+					Collectors.toList())));
+	}
+
+	// 전문분야 아이디 검증 - DB 조회 없이 레지스트리에서 확인
 	public List<Specialty> findByIds(List<Integer> specialtyIds) {
 		return specialtyIds.stream()
-			.map(specialtyId -> specialtyRepository.findById(specialtyId)
+			.map(specialtyId -> referenceDataRegistry.findSpecialty(specialtyId)
 				.orElseThrow(() -> new ApiException(SpecialityErrorCode.NO_SPECIALITY)))
 			.collect(Collectors.toList());
 	}
@@ -1,9 +1,20 @@
 package org.springframework.samples.petclinic.domain.vet.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.samples.petclinic.common.error.SpecialityErrorCode;
 import org.springframework.samples.petclinic.common.error.VetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.common.transaction.TransactionCallbacks;
+import org.springframework.samples.petclinic.config.cache.CacheConfig;
+import org.springframework.samples.petclinic.domain.vet.index.SpecialtyVetIndex;
+import org.springframework.samples.petclinic.domain.vet.model.enums.SpecialtyMatch;
 import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
 import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
 import org.springframework.samples.petclinic.domain.vet.repository.VetSpecialtyRepository;
@@ -11,6 +22,8 @@ import org.springframework.samples.petclinic.domain.vet.dto.VetRequestDto;
 import org.springframework.samples.petclinic.domain.vet.dto.VetResponseDto;
 import org.springframework.samples.petclinic.domain.vet.mapper.VetMapper;
 import org.springframework.samples.petclinic.domain.vet.mapper.VetSpecialtyMapper;
+import org.springframework.samples.petclinic.domain.vet.dto.VetRatingsResponseDto;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
 import org.springframework.samples.petclinic.domain.vet.model.Specialty;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.model.VetSpeciality;
@@ -18,7 +31,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -29,8 +41,11 @@ public class VetService {
 	private final VetSpecialtyRepository vetSpecialtyRepository;
 	private final SpecialtyService specialtyService;
 	private final VetSpecialtyMapper vetSpecialtyMapper;
+	private final SpecialtyVetIndex specialtyVetIndex;
+	private final CacheManager cacheManager;
 
 	// 수의사 등록
+	@CacheEvict(cacheNames = {CacheConfig.VET_LIST, CacheConfig.VETS_BY_SPECIALTY}, allEntries = true)
 	@Transactional
 	public VetResponseDto register(VetRequestDto vetRequestDto) {
 		validateVetRequestDto(vetRequestDto);
@@ -41,48 +56,66 @@ public class VetService {
 		Vet savedVet = vetRepository.save(vet);
 
 		saveSpecialities(savedVet, validSpecialties);
-		return vetMapper.toResponse(savedVet);
+		return vetMapper.toResponse(savedVet, validSpecialties);
 	}
 
 
-	// 수의사 전체 조회
-	public List<VetResponseDto> findAll() {
-		return vetRepository.findAllByStatusOrderById(VetStatus.REGISTERED).stream()
-			.map(vetMapper::toResponse)
-			.collect(Collectors.toList());
+	// 수의사 전체 조회 (키셋 페이지)
+	@Cacheable(cacheNames = CacheConfig.VET_LIST, key = "#request")
+	public CursorPage<VetResponseDto> findAll(CursorRequest request) {
+		List<Vet> vets = vetRepository.findByStatusAndIdGreaterThanOrderById(
+			VetStatus.REGISTERED, request.afterId(), request.fetchLimit());
+
+		return CursorPage.of(vets, request, Vet::getId).mapContent(vetMapper::toResponseList);
 	}
 
 	// 특정 수의사 조회
+	@Cacheable(cacheNames = CacheConfig.VET_RESPONSE, key = "#vetId")
 	public VetResponseDto findById(int vetId) {
 		return vetMapper.toResponse(getVetOrThrow(vetId));
 	}
 
 	// 전문 분야별 수의사 조회
+	@Cacheable(cacheNames = CacheConfig.VETS_BY_SPECIALTY, key = "#specialtyId")
 	public List<VetResponseDto> findBySpecialtyId(int specialtyId) {
-		var vetIds = vetSpecialtyRepository.findVetIdsBySpecialtyId_Id(specialtyId)
-			.stream()
-			.map(vs -> vs.getVet().getId())
-			.toList();
+		var vetIds = specialtyVetIndex.findVetIds(specialtyId);
 
 		if (vetIds.isEmpty()) {
 			throw new ApiException(SpecialityErrorCode.NO_SPECIALITY);
 		}
 
-		return vetIds.stream()
-			.map(this::getVetOrThrow)
-			.map(vetMapper::toResponse)
-			.collect(Collectors.toList());
+		return vetMapper.toResponseList(vetRepository.findAllByIdInAndStatusOrderById(vetIds, VetStatus.REGISTERED));
+	}
+
+	// 여러 전문 분야 조건으로 수의사 조회
+	public List<VetResponseDto> findBySpecialtyIds(List<Integer> specialtyIds, SpecialtyMatch match) {
+		var vetIds = specialtyVetIndex.findVetIds(specialtyIds, match);
+
+		if (vetIds.isEmpty()) {
+			return List.of();
+		}
+
+		return vetMapper.toResponseList(vetRepository.findAllByIdInAndStatusOrderById(vetIds, VetStatus.REGISTERED));
 	}
 
 	// 수의사 삭제
+	@Caching(evict = {
+		@CacheEvict(cacheNames = {CacheConfig.VET_RESPONSE, CacheConfig.VET_RATINGS}, key = "#vetId"),
+		@CacheEvict(cacheNames = {CacheConfig.VET_LIST, CacheConfig.VETS_BY_SPECIALTY}, allEntries = true)
+	})
 	@Transactional
 	public void delete(int vetId) {
 		Vet vet = getVetOrThrow(vetId);
 		vetSpecialtyRepository.deleteAllByVetId_Id(vetId);
 		vet.setStatus(VetStatus.DELETED);
+		specialtyVetIndex.remove(vetId);
 	}
 
 	// 수의사 수정
+	@Caching(evict = {
+		@CacheEvict(cacheNames = {CacheConfig.VET_RESPONSE, CacheConfig.VET_RATINGS}, key = "#id"),
+		@CacheEvict(cacheNames = {CacheConfig.VET_LIST, CacheConfig.VETS_BY_SPECIALTY}, allEntries = true)
+	})
 	@Transactional
 	public VetResponseDto update(int id, VetRequestDto vetRequestDto) {
 		Vet vet = getVetOrThrow(id);
@@ -91,21 +124,143 @@ public class VetService {
 		Optional.ofNullable(vetRequestDto.getName()).ifPresent(vet::setName);
 
 		// 분야 수정
+		List<Specialty> specialties = null;
 		if (vetRequestDto.getSpecialties() != null && !vetRequestDto.getSpecialties().isEmpty()) {
 			List<Specialty> validSpecialties = specialtyService.findByIds(vetRequestDto.getSpecialties());
-
-			vetSpecialtyRepository.deleteAllByVetId_Id(vet.getId());
-			saveSpecialities(vet, validSpecialties);
+			specialties = replaceSpecialities(vet, validSpecialties);
 		}
 
 		vetRepository.save(vet);
-		return vetMapper.toResponse(vet);
+		return specialties == null ? vetMapper.toResponse(vet) : vetMapper.toResponse(vet, specialties);
+	}
+
+	// 리뷰 평점 반영 - 읽지 않고 DB 에서 합계/개수/별점 분포를 원자적으로 증감
+	@Transactional
+	public void addRatings(int vetId, RatingDelta delta) {
+		if (addRatings(Map.of(vetId, delta)) == 0) {
+			throw new ApiException(VetErrorCode.NO_VET);
+		}
+	}
+
+	// 여러 수의사의 평점 변경을 한 트랜잭션에서 반영 - 행이 없는 수의사는 건너뛰고, 반영한 수의사 수를 반환
+	@Transactional
+	public int addRatings(Map<Integer, RatingDelta> deltas) {
+		Set<Integer> updated = new HashSet<>();
+		// 여러 노드가 동시에 반영해도 교착되지 않도록 항상 id 순서로 잠금
+		for (Map.Entry<Integer, RatingDelta> entry : new TreeMap<>(deltas).entrySet()) {
+			if (vetRepository.addRatings(entry.getKey(), entry.getValue()) > 0) {
+				updated.add(entry.getKey());
+			}
+		}
+		evictRatings(updated);
+		return updated.size();
+	}
+
+	// 수의사 평점 분포 조회 - 평점이 바뀌면 무효화되는 응답 캐시에서 반환
+	@Cacheable(cacheNames = CacheConfig.VET_RATINGS, key = "#vetId")
+	public VetRatingsResponseDto findRatings(int vetId) {
+		return vetMapper.toRatingsResponse(getVetOrThrow(vetId));
+	}
+
+	// 여러 수의사의 평점 분포 조회 - 한 번의 조회, 요청 순서 유지 (등록 상태가 아닌 수의사는 제외)
+	public List<VetRatingsResponseDto> findRatings(List<Integer> vetIds) {
+		if (vetIds == null || vetIds.isEmpty() || vetIds.size() > CursorRequest.MAX_LIMIT) {
+			throw new ApiException(VetErrorCode.INVALID_VET_IDS);
+		}
+
+		Map<Integer, Vet> vets = new HashMap<>();
+		vetRepository.findAllByIdInAndStatusOrderById(new LinkedHashSet<>(vetIds), VetStatus.REGISTERED)
+			.forEach(vet -> vets.put(vet.getId(), vet));
+
+		return vetIds.stream()
+			.distinct()
+			.map(vets::get)
+			.filter(Objects::nonNull)
+			.map(vetMapper::toRatingsResponse)
+			.toList();
+	}
+
+	// 지정한 수의사들의 리뷰 평점 재계산 (정합성 검사에서 어긋난 수의사 보정)
+	// 리뷰 -> 반영 대기 변경 순서로 잠가서(리뷰 트랜잭션과 같은 순서) 재계산 중에 두 테이블이 함께 움직이지 않게 함
+	@CacheEvict(cacheNames = {CacheConfig.VET_RESPONSE, CacheConfig.VET_RATINGS, CacheConfig.VET_LIST,
+		CacheConfig.VETS_BY_SPECIALTY}, allEntries = true)
+	@Transactional
+	public int rebuildRatings(Collection<Integer> vetIds) {
+		if (vetIds.isEmpty()) {
+			return 0;
+		}
+		vetRepository.lockReviews(vetIds);
+		vetRepository.lockPendingRatingChanges(vetIds);
+		return vetRepository.rebuildRatingsFromReviews(vetIds);
 	}
 
 	// 전문분야-수의사 연결 테이블 저장
 	private void saveSpecialities(Vet vet, List<Specialty> specialties) {
 		List<VetSpeciality> vetSpecialties = vetSpecialtyMapper.toEntityList(vet, specialties);
 		vetSpecialtyRepository.saveAll(vetSpecialties);
+		specialtyVetIndex.put(vet.getId(), specialties.stream().map(Specialty::getId).toList());
+	}
+
+	// 전문분야 교체 - 현재 목록과 비교해 추가분만 저장하고 제거분은 한 번에 삭제
+	private List<Specialty> replaceSpecialities(Vet vet, List<Specialty> specialties) {
+		Map<Integer, Specialty> requested = new LinkedHashMap<>();
+		specialties.forEach(specialty -> requested.putIfAbsent(specialty.getId(), specialty));
+
+		Set<Integer> current = new HashSet<>(vetSpecialtyRepository.findSpecialtyIdsByVetId(vet.getId()));
+
+		List<Integer> removed = current.stream()
+			.filter(specialtyId -> !requested.containsKey(specialtyId))
+			.toList();
+		List<Specialty> added = requested.values().stream()
+			.filter(specialty -> !current.contains(specialty.getId()))
+			.toList();
+
+		if (!removed.isEmpty()) {
+			vetSpecialtyRepository.deleteAllByVetIdAndSpecialtyIds(vet.getId(), removed);
+		}
+		if (!added.isEmpty()) {
+			vetSpecialtyRepository.saveAll(vetSpecialtyMapper.toEntityList(vet, added));
+		}
+		specialtyVetIndex.put(vet.getId(), List.copyOf(requested.keySet()));
+
+		return List.copyOf(requested.values());
+	}
+
+	// 평점이 바뀐 수의사가 들어 있는 캐시 항목만 무효화 (목록 전체를 비우지 않음)
+	private void evictRatings(Set<Integer> vetIds) {
+		if (vetIds.isEmpty()) {
+			return;
+		}
+		for (Integer vetId : vetIds) {
+			// 트랜잭션 인지 캐시이므로 커밋 후에 무효화됨
+			evict(CacheConfig.VET_RESPONSE, vetId);
+			evict(CacheConfig.VET_RATINGS, vetId);
+			specialtyVetIndex.findSpecialtyIds(vetId).forEach(specialtyId -> evict(CacheConfig.VETS_BY_SPECIALTY, specialtyId));
+		}
+		// 커밋 전에 이전 값으로 채워진 페이지까지 찾도록 커밋 후에 훑음
+		TransactionCallbacks.afterCommit(() -> evictPagesContaining(vetIds));
+	}
+
+	// 해당 수의사가 들어 있는 목록 페이지만 즉시 무효화
+	private void evictPagesContaining(Set<Integer> vetIds) {
+		Cache cache = cacheManager.getCache(CacheConfig.VET_LIST);
+		if (cache == null) {
+			return;
+		}
+		if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> pages)) {
+			cache.invalidate();
+			return;
+		}
+		pages.asMap().forEach((key, page) -> {
+			if (page instanceof CursorPage<?> cursorPage && cursorPage.getContent().stream()
+				.anyMatch(vet -> vet instanceof VetResponseDto dto && vetIds.contains(dto.getId()))) {
+				cache.evictIfPresent(key);
+			}
+		});
+	}
+
+	private void evict(String cacheName, Object key) {
+		Optional.ofNullable(cacheManager.getCache(cacheName)).ifPresent(cache -> cache.evict(key));
 	}
 
 	// 요청값 검증
@@ -123,4 +278,12 @@ public class VetService {
 		return vetRepository.findByIdAndStatus(id, VetStatus.REGISTERED)
 			.orElseThrow(() -> new ApiException(VetErrorCode.NO_VET));
 	}
+
+	// 연관관계 대상으로 쓸 수의사 참조 - 등록 상태만 확인하고 행은 읽지 않음 (호출한 트랜잭션의 프록시)
+	public Vet getVetReferenceOrThrow(int id) {
+		if (!vetRepository.existsByIdAndStatus(id, VetStatus.REGISTERED)) {
+			throw new ApiException(VetErrorCode.NO_VET);
+		}
+		return vetRepository.getReferenceById(id);
+	}
 }
@@ -1,12 +1,14 @@
 package org.springframework.samples.petclinic.domain.visit.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class VisitResponseDto {
 
 		private int visitId;
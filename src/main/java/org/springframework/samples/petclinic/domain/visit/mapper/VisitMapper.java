@@ -25,6 +25,9 @@ public class VisitMapper {
 
 	/**
 	 * Visit 객체를 기반으로 응답 DTO 생성
+	 * <p>
+	 * 펫 이름을 읽으므로 목록 조회는 펫을 함께 조회한다 ({@code VisitRepository#findAllByPet}).
+	 * </p>
 	 *
 	 * @param visit 저장된 Visit 객체
 	 * @return VisitResponseDto 반환
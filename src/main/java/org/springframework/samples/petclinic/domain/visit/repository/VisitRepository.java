@@ -1,12 +1,31 @@
 package org.springframework.samples.petclinic.domain.visit.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
 import org.springframework.samples.petclinic.domain.pet.model.Pet;
+import org.springframework.samples.petclinic.domain.visit.dto.VisitResponseDto;
 import org.springframework.samples.petclinic.domain.visit.model.Visit;
 
 import java.util.List;
 
 public interface VisitRepository extends JpaRepository<Visit,Integer> {
 
+	// 방문 목록 응답이 펫 이름을 쓰므로 펫을 함께 조회 (펫의 주인/종류는 읽지 않음)
+	@EntityGraph(attributePaths = "pet")
 	List<Visit> findAllByPet(Pet pet);
+
+	// 회원의 최근 방문 (idx_pet_owner_status -> idx_visit_pet_date)
+	@Query("""
+		SELECT new org.springframework.samples.petclinic.domain.visit.dto.VisitResponseDto(
+			v.id, p.name, v.visitDate, v.description)
+		FROM Visit v JOIN v.pet p
+		WHERE p.owner.id = :ownerId AND p.status = :status
+		ORDER BY v.visitDate DESC, v.id DESC
+		""")
+	List<VisitResponseDto> findRecentByOwnerId(@Param("ownerId") Integer ownerId, @Param("status") PetStatus status,
+											   Limit limit);
 }
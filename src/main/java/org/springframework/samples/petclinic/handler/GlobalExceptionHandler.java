@@ -1,9 +1,11 @@
 package org.springframework.samples.petclinic.handler;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.exception.RetryableApiException;
 import org.springframework.samples.petclinic.common.result.ErrorResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -25,6 +27,18 @@ public class GlobalExceptionHandler {
 			.body(ErrorResult.ERROR(errorCode.getErrorCode(), apiException.getErrorDescription()));
 	}
 
+	// 재시도 가능한 ApiException 처리 (Retry-After 헤더 포함)
+	@ExceptionHandler(value = RetryableApiException.class)
+	public ResponseEntity<ErrorResult> handleRetryableApiException(RetryableApiException exception) {
+		log.warn("Handled RetryableApiException: {}", exception.getMessage());
+		var errorCode = exception.getErrorCodeInterface();
+
+		return ResponseEntity
+			.status(errorCode.getHttpStatusCode())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+			.body(ErrorResult.ERROR(errorCode.getErrorCode(), exception.getErrorDescription()));
+	}
+
 	// 검증 예외 처리
 	@ExceptionHandler(value = MethodArgumentNotValidException.class)
 	public ResponseEntity<ErrorResult> handleValidationException(MethodArgumentNotValidException exception) {
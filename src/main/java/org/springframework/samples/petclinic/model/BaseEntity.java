@@ -40,7 +40,8 @@ import lombok.experimental.SuperBuilder;
 @MappedSuperclass
 public class BaseEntity implements Serializable {
 
+	// 엔티티별 시퀀스 테이블(<엔티티>_seq)에서 50개씩 미리 할당 (pooled-lo) - INSERT 마다 키를 돌려받지 않으므로 JDBC 배치 가능
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
 	private Integer id;
 }
@@ -15,9 +15,9 @@ VALUES (1, '뿡치', '2020-01-15', 1, 1, 'REGISTERED'),
        (3, '돌배', '2021-03-10', 2, 1, 'REGISTERED');
 
 -- 수의사
-INSERT INTO `vets` (`id`, `name`, `average_ratings`, `review_count`, `status`)
-VALUES (1, '이의사', 4.5, 10, 'REGISTERED'),
-       (2, '강의사', 4.8, 15, 'REGISTERED');
+INSERT INTO `vets` (`id`, `name`, `score_sum`, `review_count`, `star4_count`, `star5_count`, `status`)
+VALUES (1, '이의사', 45, 10, 5, 5, 'REGISTERED'),
+       (2, '강의사', 72, 15, 3, 12, 'REGISTERED');
 
 -- 전문 분야
 INSERT INTO `specialties` (`id`, `name`)
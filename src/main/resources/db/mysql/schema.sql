@@ -1,29 +1,31 @@
 CREATE TABLE `pets` (
-                      `id` INT NOT NULL AUTO_INCREMENT,
+                      `id` INT NOT NULL,
                       `name` VARCHAR(15) NOT NULL,
                       `birth_date` DATE NULL,
                       `type_id` INT NOT NULL,
                       `owner_id` INT NOT NULL,
                       `status` ENUM('REGISTERED', 'DELETED') NOT NULL DEFAULT 'REGISTERED',
-                      PRIMARY KEY (`id`)
+                      PRIMARY KEY (`id`),
+                      INDEX `idx_pet_owner_status` (`owner_id`, `status`)
 );
 
 CREATE TABLE `types` (
-                       `id` INT NOT NULL AUTO_INCREMENT,
+                       `id` INT NOT NULL,
                        `name` VARCHAR(255) NOT NULL,
                        PRIMARY KEY (`id`)
 );
 
 CREATE TABLE `visits` (
-                        `id` INT NOT NULL AUTO_INCREMENT,
+                        `id` INT NOT NULL,
                         `visit_date` DATETIME NOT NULL,
                         `description` VARCHAR(255) NOT NULL,
                         `pet_id` INT NOT NULL,
-                        PRIMARY KEY (`id`)
+                        PRIMARY KEY (`id`),
+                        INDEX `idx_visit_pet_date` (`pet_id`, `visit_date`)
 );
 
 CREATE TABLE `owner` (
-                       `id` INT NOT NULL AUTO_INCREMENT,
+                       `id` INT NOT NULL,
                        `user_id` VARCHAR(100) NOT NULL,
                        `password` VARCHAR(100) NOT NULL,
                        `name` VARCHAR(15) NOT NULL,
@@ -34,52 +36,155 @@ CREATE TABLE `owner` (
 );
 
 CREATE TABLE `vets` (
-                      `id` INT NOT NULL AUTO_INCREMENT,
+                      `id` INT NOT NULL,
                       `name` VARCHAR(15) NOT NULL,
-                      `average_ratings` DECIMAL(3,2) NULL DEFAULT 0,
-                      `review_count` INT NULL DEFAULT 0,
+                      `score_sum` BIGINT NOT NULL DEFAULT 0,
+                      `review_count` INT NOT NULL DEFAULT 0,
+                      `star1_count` INT NOT NULL DEFAULT 0,
+                      `star2_count` INT NOT NULL DEFAULT 0,
+                      `star3_count` INT NOT NULL DEFAULT 0,
+                      `star4_count` INT NOT NULL DEFAULT 0,
+                      `star5_count` INT NOT NULL DEFAULT 0,
                       `status` ENUM('REGISTERED', 'DELETED') NOT NULL DEFAULT 'REGISTERED',
                       PRIMARY KEY (`id`)
 );
 
 CREATE TABLE `specialties` (
-                             `id` INT NOT NULL AUTO_INCREMENT,
+                             `id` INT NOT NULL,
                              `name` VARCHAR(255) NOT NULL,
                              PRIMARY KEY (`id`)
 );
 
 CREATE TABLE `vet_specialties` (
-                                 `id` INT NOT NULL AUTO_INCREMENT,
+                                 `id` INT NOT NULL,
                                  `vet_id` INT NOT NULL,
                                  `specialty_id` INT NOT NULL,
                                  PRIMARY KEY (`id`)
 );
 
 CREATE TABLE `history` (
-                         `id` INT NOT NULL AUTO_INCREMENT,
+                         `id` INT NOT NULL,
                          `symptoms` VARCHAR(255) NOT NULL,
                          `content` VARCHAR(255) NOT NULL,
                          `vet_id` INT NOT NULL,
                          `visit_id` INT NOT NULL,
-                         PRIMARY KEY (`id`)
+                         PRIMARY KEY (`id`),
+                         INDEX `idx_history_visit` (`visit_id`)
 );
 
 CREATE TABLE `appointment` (
-                             `id` INT NOT NULL AUTO_INCREMENT,
-                             `appt_date` DATE NOT NULL,
+                             `id` INT NOT NULL,
+                             `appt_date` DATETIME NOT NULL,
                              `status` enum('COMPLETE', 'CANCEL') NULL,
                              `symptoms` VARCHAR(255) NULL,
                              `pet_id` INT NOT NULL,
                              `vet_id` INT NOT NULL,
-                             PRIMARY KEY (`id`)
+                             -- 취소되지 않은 예약이 차지하는 30분 시간대의 시작 시각 (취소된 예약은 NULL)
+                             `booked_slot` DATETIME AS (IF(`status` <=> 'CANCEL', NULL,
+                                 `appt_date` - INTERVAL (MINUTE(`appt_date`) % 30) * 60 + SECOND(`appt_date`) SECOND)) STORED,
+                             PRIMARY KEY (`id`),
+                             INDEX `idx_appointment_vet_date` (`vet_id`, `appt_date`),
+                             INDEX `idx_appointment_pet_date` (`pet_id`, `appt_date`),
+                             UNIQUE KEY `uk_appointment_vet_slot` (`vet_id`, `booked_slot`)
 );
 
 CREATE TABLE `review` (
-                        `id` INT NOT NULL AUTO_INCREMENT,
+                        `id` INT NOT NULL,
                         `score` INT NOT NULL,
                         `content` VARCHAR(200) NULL,
                         `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
                         `vet_id` INT NOT NULL,
                         `owner_id` INT NOT NULL,
-                        PRIMARY KEY (`id`)
+                        PRIMARY KEY (`id`),
+                        INDEX `idx_review_vet_score` (`vet_id`, `score`),
+                        INDEX `idx_review_vet_created` (`vet_id`, `created_at`),
+                        INDEX `idx_review_owner_created` (`owner_id`, `created_at`)
+);
+
+CREATE TABLE `revoked_token` (
+                               `id` INT NOT NULL,
+                               `fingerprint_high` BIGINT NOT NULL,
+                               `fingerprint_low` BIGINT NOT NULL,
+                               `expires_at` DATETIME NOT NULL,
+                               `revoked_at` DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+                               PRIMARY KEY (`id`),
+                               UNIQUE KEY `uk_revoked_token_fingerprint` (`fingerprint_high`, `fingerprint_low`),
+                               INDEX `idx_revoked_token_revoked_at` (`revoked_at`),
+                               INDEX `idx_revoked_token_expires_at` (`expires_at`)
+);
+
+-- 아직 vets 에 반영되지 않은 리뷰 평점 변경 (리뷰와 같은 트랜잭션에서 기록, 반영과 같은 트랜잭션에서 삭제)
+CREATE TABLE `rating_change` (
+                               `id` INT NOT NULL,
+                               `vet_id` INT NOT NULL,
+                               `star1` INT NOT NULL,
+                               `star2` INT NOT NULL,
+                               `star3` INT NOT NULL,
+                               `star4` INT NOT NULL,
+                               `star5` INT NOT NULL,
+                               `created_at` DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+                               PRIMARY KEY (`id`),
+                               INDEX `idx_rating_change_vet` (`vet_id`)
+);
+
+-- 아이디 할당용 시퀀스 테이블 (엔티티별 <엔티티>_seq, next_val = 다음에 할당할 블록의 첫 아이디)
+-- 애플리케이션이 50개 단위로 가져가므로 아이디는 인스턴스별로 건너뛸 수 있음. 시드 데이터 아이디(< 100) 다음부터 시작
+CREATE TABLE `pet_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `pet_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `pet_type_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `pet_type_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `visit_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `visit_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `owner_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `owner_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `vet_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `vet_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `specialty_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `specialty_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `vet_speciality_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `vet_speciality_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `history_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `history_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `appointment_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `appointment_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `review_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `review_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `revoked_token_seq` (
+                       `next_val` BIGINT NOT NULL
+);
+INSERT INTO `revoked_token_seq` (`next_val`) VALUES (100);
+
+CREATE TABLE `rating_change_seq` (
+                       `next_val` BIGINT NOT NULL
 );
+INSERT INTO `rating_change_seq` (`next_val`) VALUES (100);
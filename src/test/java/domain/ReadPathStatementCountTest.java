@@ -0,0 +1,186 @@
+package domain;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.common.page.TimeCursorRequest;
+import org.springframework.samples.petclinic.domain.appointment.service.AppointmentAvailabilityService;
+import org.springframework.samples.petclinic.domain.appointment.service.ReadAppointmentService;
+import org.springframework.samples.petclinic.domain.history.service.HistoryService;
+import org.springframework.samples.petclinic.domain.owner.model.Owner;
+import org.springframework.samples.petclinic.domain.owner.service.OwnerReadService;
+import org.springframework.samples.petclinic.domain.pet.model.Pet;
+import org.springframework.samples.petclinic.domain.pet.model.PetType;
+import org.springframework.samples.petclinic.domain.pet.service.PetService;
+import org.springframework.samples.petclinic.domain.review.service.ReadReviewService;
+import org.springframework.samples.petclinic.domain.review.service.SearchReviewService;
+import org.springframework.samples.petclinic.domain.vet.model.Vet;
+import org.springframework.samples.petclinic.domain.visit.dto.VisitResponseDto;
+import org.springframework.samples.petclinic.domain.visit.model.Visit;
+import org.springframework.samples.petclinic.domain.visit.service.VisitService;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로별 SQL 문 수 고정 테스트
+ * <p>
+ * 연관관계는 모두 지연 로딩이고, 조회 경로마다 응답에 필요한 연관 엔티티만 함께 조회한다.
+ * 시드 데이터(회원 2, 펫 3, 방문 3, 진료 2, 예약 2, 리뷰 2)는 서로 다른 회원/종류/수의사를 가리키므로,
+ * 연관 엔티티를 즉시 로딩하면 여기서 고정한 문 수보다 늘어난다.
+ * </p>
+ */
+@SpringBootTest(classes = PetClinicApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+public class ReadPathStatementCountTest {
+
+	static final MySQLContainer<?> mysqlContainer;
+
+	static {
+		mysqlContainer = new MySQLContainer<>("mysql:8.0.32")
+			.withDatabaseName("testdb")
+			.withUsername("test")
+			.withPassword("test");
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+		registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+		registry.add("spring.sql.init.mode", () -> "always");
+		registry.add("spring.sql.init.schema-locations", () -> "classpath:db/mysql/schema.sql");
+		registry.add("spring.sql.init.data-locations", () -> "classpath:db/mysql/data.sql");
+	}
+
+	@Autowired
+	private OwnerReadService ownerReadService;
+
+	@Autowired
+	private PetService petService;
+
+	@Autowired
+	private VisitService visitService;
+
+	@Autowired
+	private HistoryService historyService;
+
+	@Autowired
+	private ReadAppointmentService readAppointmentService;
+
+	@Autowired
+	private AppointmentAvailabilityService appointmentAvailabilityService;
+
+	@Autowired
+	private ReadReviewService readReviewService;
+
+	@Autowired
+	private SearchReviewService searchReviewService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	@DisplayName("회원 조회 - 목록 1, 단건 1")
+	void ownerReads() {
+		assertThat(countStatements(() -> ownerReadService.findAll(CursorRequest.first()))).isEqualTo(1);
+		assertThat(countStatements(() -> ownerReadService.findById(1))).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("펫 조회 - 종류/주인을 읽지 않음")
+	void petReads() {
+		Statistics statistics = statistics();
+		assertThat(petService.getAllPets(CursorRequest.first()).getContent()).hasSize(3);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityStatistics(Owner.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(PetType.class.getName()).getLoadCount()).isZero();
+
+		assertThat(countStatements(() -> petService.getPetById(1))).isEqualTo(1);
+		// 주인 존재 확인 1 + 펫 조회 1
+		assertThat(countStatements(() -> petService.getPetsByOwnerId(1))).isEqualTo(2);
+		assertThat(countStatements(() -> petService.getPetsByOwnerIds(List.of(1, 2)))).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("방문 조회 - 펫만 함께 조회")
+	void visitReads() {
+		Statistics statistics = statistics();
+		List<VisitResponseDto> visits = visitService.getVisitsByPetId(1);
+
+		// 펫 조회 1 + 방문(펫 조인) 1
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(visits).extracting(VisitResponseDto::getPetName).containsOnly("뿡치");
+		assertThat(statistics.getEntityStatistics(Owner.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(PetType.class.getName()).getLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("진료 기록 조회 - 수의사/방문을 읽지 않음")
+	void historyReads() {
+		Statistics statistics = statistics();
+		assertThat(historyService.getHistoriesByPetId(2)).hasSize(1);
+
+		// 펫 조회 1 + 진료 기록 1
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityStatistics(Vet.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(Visit.class.getName()).getLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("예약 조회 - 펫/수의사를 읽지 않음")
+	void appointmentReads() {
+		Statistics statistics = statistics();
+		assertThat(readAppointmentService.findAllAppointments(CursorRequest.first()).getContent()).hasSize(2);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityStatistics(Pet.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(Vet.class.getName()).getLoadCount()).isZero();
+
+		assertThat(countStatements(() -> readAppointmentService.findAppointment(1))).isEqualTo(1);
+		assertThat(countStatements(() -> appointmentAvailabilityService.findAvailableSlots(1, null, null, null)))
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("리뷰 조회 - 수의사/작성자를 읽지 않음")
+	void reviewReads() {
+		Statistics statistics = statistics();
+		assertThat(readReviewService.findAllReviews(CursorRequest.first()).getContent()).hasSize(2);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityStatistics(Owner.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getEntityStatistics(Vet.class.getName()).getLoadCount()).isZero();
+
+		assertThat(countStatements(() -> readReviewService.findMyReviews(1, TimeCursorRequest.first()))).isEqualTo(1);
+		// 수의사 존재 확인 1 + 리뷰 조회 1
+		assertThat(countStatements(() -> readReviewService.findVetReviews(1, TimeCursorRequest.first()))).isEqualTo(2);
+		assertThat(countStatements(() -> searchReviewService.search("만족", null, null, null, null))).isEqualTo(1);
+	}
+
+	private long countStatements(Runnable action) {
+		Statistics statistics = statistics();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+}
@@ -1,5 +1,6 @@
 package domain.appointment.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,16 +13,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.common.page.CursorPage;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentRequestDto;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
+import org.springframework.samples.petclinic.domain.appointment.dto.AvailableSlotResponseDto;
 import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
 import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +37,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 @Transactional
 public class AppointmentControllerTest {
 
+	private static final LocalDateTime APPT_DATE_TIME = LocalDate.now().plusDays(1).atTime(12, 0);
+
 	@Autowired
 	private MockMvc mockMvc;
 
@@ -82,10 +89,11 @@ public class AppointmentControllerTest {
 
 		// then
 		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
-		AppointmentResponseDto[] appointments = objectMapper.readValue(response.getContentAsString(), AppointmentResponseDto[].class);
-		assertThat(appointments).hasSize(2);
-		assertThat(appointments[0].getSymptoms()).isEqualTo("Test Symptoms 1");
-		assertThat(appointments[1].getSymptoms()).isEqualTo("Test Symptoms 2");
+		CursorPage<AppointmentResponseDto> appointments = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
+		assertThat(appointments.getContent()).hasSize(2);
+		assertThat(appointments.getContent().get(0).getSymptoms()).isEqualTo("Test Symptoms 1");
+		assertThat(appointments.getContent().get(1).getSymptoms()).isEqualTo("Test Symptoms 2");
+		assertThat(appointments.getNextCursor()).isNull();
 	}
 
 	@Test
@@ -147,6 +155,39 @@ public class AppointmentControllerTest {
 		assertThat(deleteResponse.getStatus()).isEqualTo(HttpStatus.OK.value());
 	}
 
+	@Test
+	@DisplayName("GET /appointment/availability - 예약된 시간대를 제외한 영업 시간 내 빈 시간대가 반환된다")
+	void getAvailableSlots_shouldExcludeBookedSlots() throws Exception {
+		// given
+		performRequest("/appointment", createAppointmentRequestDto(1, 5, "Test Symptoms"), HttpMethod.POST);
+
+		// when
+		MockHttpServletResponse response = performRequest(
+			"/appointment/availability?specialtyId=1&from=" + APPT_DATE_TIME + "&limit=5", null, HttpMethod.GET);
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		List<AvailableSlotResponseDto> slots = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
+		assertThat(slots).hasSize(5);
+		assertThat(slots).doesNotContain(new AvailableSlotResponseDto(1, APPT_DATE_TIME));
+		assertThat(slots).allSatisfy(slot -> {
+			assertThat(slot.getApptDateTime()).isAfterOrEqualTo(APPT_DATE_TIME);
+			assertThat(slot.getApptDateTime().getHour()).isBetween(9, 17);
+		});
+	}
+
+	@Test
+	@DisplayName("GET /appointment/availability - 종료 시각이 시작 시각보다 앞서면 400을 반환한다")
+	void getAvailableSlots_shouldRejectInvalidRange() throws Exception {
+		// when
+		MockHttpServletResponse response = performRequest(
+			"/appointment/availability?specialtyId=1&from=" + APPT_DATE_TIME + "&to=" + APPT_DATE_TIME.minusDays(1),
+			null, HttpMethod.GET);
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
 	private String generateTestToken() {
 		Map<String, Object> claims = new HashMap<>();
 		claims.put("ownerId", 1);
@@ -167,7 +208,7 @@ public class AppointmentControllerTest {
 		return AppointmentRequestDto.builder()
 			.vetId(vetId)
 			.petId(petId)
-			.apptDateTime(LocalDateTime.of(2025, 12, 25, 12, 0, 0))
+			.apptDateTime(APPT_DATE_TIME)
 			.appStatus(ApptStatus.COMPLETE)
 			.symptoms(symptoms)
 			.build();
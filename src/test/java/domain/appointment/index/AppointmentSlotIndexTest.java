@@ -0,0 +1,154 @@
+package domain.appointment.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentSlotView;
+import org.springframework.samples.petclinic.domain.appointment.index.AppointmentSlotIndex;
+import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
+import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
+import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
+import org.springframework.samples.petclinic.domain.vet.model.Vet;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * AppointmentSlotIndex 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class AppointmentSlotIndexTest {
+
+	private static final LocalDateTime TEN = LocalDateTime.of(2030, 3, 4, 10, 0);
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@InjectMocks
+	private AppointmentSlotIndex appointmentSlotIndex;
+
+	@BeforeEach
+	void setUp() {
+		// 수의사 1: 10:00, 수의사 2: 10:00, 14:30
+		when(appointmentRepository.findActiveSlotsFrom(any(LocalDateTime.class), eq(ApptStatus.CANCEL)))
+			.thenReturn(List.of(slot(1, TEN), slot(2, TEN), slot(2, TEN.withHour(14).withMinute(30))));
+		appointmentSlotIndex.rebuild();
+	}
+
+	@Test
+	@DisplayName("같은 시간대 안의 다른 시각도 겹치는 예약으로 판단")
+	void isBooked_detectsOverlapWithinSlot() {
+		assertThat(appointmentSlotIndex.isBooked(1, TEN)).isTrue();
+		assertThat(appointmentSlotIndex.isBooked(1, TEN.plusMinutes(29))).isTrue();
+		assertThat(appointmentSlotIndex.isBooked(1, TEN.plusMinutes(30))).isFalse();
+		assertThat(appointmentSlotIndex.isBooked(1, TEN.minusMinutes(1))).isFalse();
+	}
+
+	@Test
+	@DisplayName("수의사마다 시간대를 따로 관리")
+	void isBooked_perVet() {
+		assertThat(appointmentSlotIndex.isBooked(2, TEN.withHour(14).withMinute(45))).isTrue();
+		assertThat(appointmentSlotIndex.isBooked(1, TEN.withHour(14).withMinute(45))).isFalse();
+		assertThat(appointmentSlotIndex.isBooked(3, TEN)).isFalse();
+	}
+
+	@Test
+	@DisplayName("증분 갱신 - 예약 추가와 해제, 취소된 예약은 시간대를 차지하지 않음")
+	void bookAndRelease_updateIncrementally() {
+		Appointment booked = appointment(3, TEN.plusHours(1), ApptStatus.COMPLETE);
+		Appointment cancelled = appointment(3, TEN.plusHours(2), ApptStatus.CANCEL);
+
+		appointmentSlotIndex.book(booked);
+		appointmentSlotIndex.book(cancelled);
+		assertThat(appointmentSlotIndex.isBooked(3, TEN.plusHours(1))).isTrue();
+		assertThat(appointmentSlotIndex.isBooked(3, TEN.plusHours(2))).isFalse();
+
+		appointmentSlotIndex.release(booked);
+		assertThat(appointmentSlotIndex.isBooked(3, TEN.plusHours(1))).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 시간대에 예약이 여러 건이면 모두 해제되어야 빈 시간대가 됨")
+	void release_keepsSlotUntilLastBookingReleased() {
+		Appointment first = appointment(1, TEN, ApptStatus.COMPLETE);
+		appointmentSlotIndex.book(first);
+
+		appointmentSlotIndex.release(first);
+		assertThat(appointmentSlotIndex.isBooked(1, TEN)).isTrue();
+
+		appointmentSlotIndex.release(first);
+		assertThat(appointmentSlotIndex.isBooked(1, TEN)).isFalse();
+	}
+
+	@Test
+	@DisplayName("지난 날짜의 시간대는 통째로 버리고 오늘 이후는 유지")
+	void prune_dropsPastDays() {
+		appointmentSlotIndex.book(appointment(1, TEN.plusDays(1), ApptStatus.COMPLETE));
+
+		appointmentSlotIndex.prune(TEN.toLocalDate().plusDays(1));
+
+		assertThat(appointmentSlotIndex.isBooked(1, TEN)).isFalse();
+		assertThat(appointmentSlotIndex.isBooked(2, TEN.withHour(14).withMinute(30))).isFalse();
+		assertThat(appointmentSlotIndex.isBooked(1, TEN.plusDays(1))).isTrue();
+	}
+
+	@Test
+	@DisplayName("재구성 중에도 기존 색인으로 조회되고, 그동안의 갱신은 새 색인에 반영됨")
+	void rebuild_keepsWritesMadeDuringRebuild() {
+		Appointment bookedDuringRebuild = appointment(3, TEN, ApptStatus.COMPLETE);
+		Appointment releasedDuringRebuild = appointment(2, TEN, ApptStatus.COMPLETE);
+		when(appointmentRepository.findActiveSlotsFrom(any(LocalDateTime.class), eq(ApptStatus.CANCEL)))
+			.thenAnswer(invocation -> {
+				// 재구성 스냅샷을 읽는 동안 다른 요청이 조회/갱신
+				assertThat(appointmentSlotIndex.isBooked(1, TEN)).isTrue();
+				appointmentSlotIndex.book(bookedDuringRebuild);
+				appointmentSlotIndex.release(releasedDuringRebuild);
+				assertThat(appointmentSlotIndex.isBooked(3, TEN)).isTrue();
+				return List.of(slot(1, TEN), slot(2, TEN));
+			});
+
+		appointmentSlotIndex.rebuild();
+
+		assertThat(appointmentSlotIndex.isBooked(1, TEN)).isTrue();
+		assertThat(appointmentSlotIndex.isBooked(3, TEN)).isTrue();
+		assertThat(appointmentSlotIndex.isBooked(2, TEN)).isFalse();
+	}
+
+	@Test
+	@DisplayName("시간대 시작 시각은 30분 단위로 내림")
+	void slotStart_floorsToSlot() {
+		assertThat(AppointmentSlotIndex.slotStart(TEN.plusMinutes(29).plusSeconds(59))).isEqualTo(TEN);
+		assertThat(AppointmentSlotIndex.slotStart(TEN.plusMinutes(30))).isEqualTo(TEN.plusMinutes(30));
+	}
+
+	private static Appointment appointment(int vetId, LocalDateTime dateTime, ApptStatus status) {
+		return Appointment.builder()
+			.vet(Vet.builder().id(vetId).build())
+			.apptDateTime(dateTime)
+			.status(status)
+			.build();
+	}
+
+	private static AppointmentSlotView slot(int vetId, LocalDateTime dateTime) {
+		return new AppointmentSlotView() {
+			@Override
+			public Integer getVetId() {
+				return vetId;
+			}
+
+			@Override
+			public LocalDateTime getApptDateTime() {
+				return dateTime;
+			}
+		};
+	}
+}
@@ -0,0 +1,77 @@
+package domain.appointment.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.domain.appointment.lock.VetBookingLock;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * VetBookingLock 단위 테스트
+ */
+class VetBookingLockTest {
+
+	private final VetBookingLock vetBookingLock = new VetBookingLock();
+
+	@Test
+	@DisplayName("트랜잭션 밖에서는 잠금을 잡을 수 없음")
+	void lockUntilCompletion_requiresTransaction() {
+		assertThatThrownBy(() -> vetBookingLock.lockUntilCompletion(1))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("같은 수의사는 앞선 트랜잭션이 끝날 때까지 대기")
+	void lockUntilCompletion_serializesSameVet() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			vetBookingLock.lockUntilCompletion(1);
+
+			CompletableFuture<Void> sameVet = lockInAnotherTransaction(1);
+			assertThatThrownBy(() -> sameVet.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+			complete();
+			sameVet.get(5, TimeUnit.SECONDS);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("다른 수의사는 기다리지 않음")
+	void lockUntilCompletion_doesNotBlockOtherVets() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			vetBookingLock.lockUntilCompletion(1);
+
+			lockInAnotherTransaction(2).get(5, TimeUnit.SECONDS);
+		} finally {
+			complete();
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	// 다른 스레드에서 트랜잭션을 흉내 내어 잠금을 잡았다가 바로 해제
+	private CompletableFuture<Void> lockInAnotherTransaction(int vetId) {
+		return CompletableFuture.runAsync(() -> {
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				vetBookingLock.lockUntilCompletion(vetId);
+				complete();
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		});
+	}
+
+	private static void complete() {
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+	}
+}
@@ -0,0 +1,133 @@
+package domain.appointment.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.common.error.AppointmentErrorCode;
+import org.springframework.samples.petclinic.common.error.PageErrorCode;
+import org.springframework.samples.petclinic.common.error.SpecialityErrorCode;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentSlotView;
+import org.springframework.samples.petclinic.domain.appointment.dto.AvailableSlotResponseDto;
+import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
+import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
+import org.springframework.samples.petclinic.domain.appointment.service.AppointmentAvailabilityService;
+import org.springframework.samples.petclinic.domain.reference.registry.ReferenceDataRegistry;
+import org.springframework.samples.petclinic.domain.vet.index.SpecialtyVetIndex;
+import org.springframework.samples.petclinic.domain.vet.model.Specialty;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentAvailabilityServiceTest {
+
+	private static final LocalDateTime TOMORROW_17 = LocalDate.now().plusDays(1).atTime(17, 0);
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@Mock
+	private SpecialtyVetIndex specialtyVetIndex;
+
+	@Mock
+	private ReferenceDataRegistry referenceDataRegistry;
+
+	@InjectMocks
+	private AppointmentAvailabilityService appointmentAvailabilityService;
+
+	@BeforeEach
+	void setUp() {
+		when(referenceDataRegistry.findSpecialty(1)).thenReturn(Optional.of(Specialty.builder().id(1).name("외과").build()));
+	}
+
+	@Test
+	@DisplayName("빈 시간대 조회 - 점유된 시간대를 건너뛰고 영업 종료 후에는 다음 날 9시부터 이어서 찾는다")
+	void findAvailableSlots_skipsOccupiedAndClosedHours() {
+		// given
+		LocalDateTime to = TOMORROW_17.plusDays(1);
+		when(specialtyVetIndex.findVetIds(1)).thenReturn(List.of(1, 2));
+		when(appointmentRepository.findActiveSlotsBetween(List.of(1, 2), TOMORROW_17, to, ApptStatus.CANCEL))
+			.thenReturn(List.of(slot(1, TOMORROW_17), slot(2, TOMORROW_17.plusMinutes(40))));
+
+		// when
+		List<AvailableSlotResponseDto> slots = appointmentAvailabilityService.findAvailableSlots(1, TOMORROW_17, to, 3);
+
+		// then
+		assertThat(slots).containsExactly(
+			new AvailableSlotResponseDto(2, TOMORROW_17),
+			new AvailableSlotResponseDto(1, TOMORROW_17.plusMinutes(30)),
+			new AvailableSlotResponseDto(1, TOMORROW_17.plusDays(1).withHour(9)));
+	}
+
+	@Test
+	@DisplayName("빈 시간대 조회 - 시간대 중간에서 시작하면 다음 시간대부터 반환한다")
+	void findAvailableSlots_startsAtNextSlotBoundary() {
+		// given
+		LocalDateTime from = TOMORROW_17.plusMinutes(10);
+		when(specialtyVetIndex.findVetIds(1)).thenReturn(List.of(1));
+		when(appointmentRepository.findActiveSlotsBetween(List.of(1), TOMORROW_17, from.plusDays(7), ApptStatus.CANCEL))
+			.thenReturn(List.of());
+
+		// when
+		List<AvailableSlotResponseDto> slots = appointmentAvailabilityService.findAvailableSlots(1, from, null, 1);
+
+		// then
+		assertThat(slots).containsExactly(new AvailableSlotResponseDto(1, TOMORROW_17.plusMinutes(30)));
+	}
+
+	@Test
+	@DisplayName("빈 시간대 조회 - 전문분야 수의사가 없으면 예약을 조회하지 않고 빈 목록을 반환한다")
+	void findAvailableSlots_noVets() {
+		when(specialtyVetIndex.findVetIds(1)).thenReturn(List.of());
+
+		assertThat(appointmentAvailabilityService.findAvailableSlots(1, TOMORROW_17, null, null)).isEmpty();
+		verify(appointmentRepository, never()).findActiveSlotsBetween(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("빈 시간대 조회 실패 - 잘못된 기간, 개수, 전문분야")
+	void findAvailableSlots_invalidArguments() {
+		assertThatThrownBy(() -> appointmentAvailabilityService.findAvailableSlots(1, TOMORROW_17, TOMORROW_17.minusHours(1), null))
+			.isInstanceOf(ApiException.class)
+			.hasMessage(AppointmentErrorCode.INVALID_AVAILABILITY_RANGE.getDescription());
+		assertThatThrownBy(() -> appointmentAvailabilityService.findAvailableSlots(1, TOMORROW_17, TOMORROW_17.plusDays(32), null))
+			.isInstanceOf(ApiException.class)
+			.hasMessage(AppointmentErrorCode.INVALID_AVAILABILITY_RANGE.getDescription());
+		assertThatThrownBy(() -> appointmentAvailabilityService.findAvailableSlots(1, TOMORROW_17, null, 0))
+			.isInstanceOf(ApiException.class)
+			.hasMessage(PageErrorCode.INVALID_PAGE_LIMIT.getDescription());
+
+		when(referenceDataRegistry.findSpecialty(99)).thenReturn(Optional.empty());
+		assertThatThrownBy(() -> appointmentAvailabilityService.findAvailableSlots(99, TOMORROW_17, null, null))
+			.isInstanceOf(ApiException.class)
+			.hasMessage(SpecialityErrorCode.NO_SPECIALITY.getDescription());
+	}
+
+	private static AppointmentSlotView slot(int vetId, LocalDateTime dateTime) {
+		return new AppointmentSlotView() {
+			@Override
+			public Integer getVetId() {
+				return vetId;
+			}
+
+			@Override
+			public LocalDateTime getApptDateTime() {
+				return dateTime;
+			}
+		};
+	}
+}
@@ -0,0 +1,162 @@
+package domain.appointment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.common.error.AppointmentErrorCode;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentRequestDto;
+import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
+import org.springframework.samples.petclinic.domain.appointment.service.CreateAppointmentService;
+import org.springframework.samples.petclinic.domain.vet.model.Vet;
+import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
+import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 동시성 스트레스 테스트
+ * <p>
+ * 수의사 {@value #VETS}명 x 시간대 {@value #SLOTS}개에 시간대마다 {@value #ATTEMPTS_PER_SLOT}건씩,
+ * 총 {@value #TOTAL}건의 예약 요청을 동시에 보내 시간대마다 정확히 한 건만 성공하는지 확인한다.
+ * 같은 시간대 요청 중 일부는 시각을 몇 분씩 어긋나게 보내 겹치는 예약도 함께 검사한다.
+ * </p>
+ */
+@SpringBootTest(classes = PetClinicApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+public class AppointmentBookingConcurrencyTest {
+
+	private static final int VETS = 20;
+	private static final int SLOTS = 10;
+	private static final int ATTEMPTS_PER_SLOT = 10;
+	private static final int TOTAL = VETS * SLOTS * ATTEMPTS_PER_SLOT;
+	private static final int THREADS = 64;
+
+	static final MySQLContainer<?> mysqlContainer;
+
+	static {
+		mysqlContainer = new MySQLContainer<>("mysql:8.0.32")
+			.withDatabaseName("testdb")
+			.withUsername("test")
+			.withPassword("test");
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(THREADS));
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+		registry.add("spring.sql.init.mode", () -> "always");
+		registry.add("spring.sql.init.schema-locations", () -> "classpath:db/mysql/schema.sql");
+		registry.add("spring.sql.init.data-locations", () -> "classpath:db/mysql/data.sql");
+	}
+
+	@Autowired
+	private CreateAppointmentService createAppointmentService;
+
+	@Autowired
+	private VetRepository vetRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("동시 예약 - 수의사/시간대마다 한 건만 성공하고 중복 예약이 남지 않음")
+	void concurrentBookings_noDoubleBooking() throws Exception {
+		List<AppointmentRequestDto> requests = createRequests(registerVets());
+		Collections.shuffle(requests);
+
+		AtomicInteger booked = new AtomicInteger();
+		AtomicInteger conflicted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (AppointmentRequestDto request : requests) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					createAppointmentService.createAppointment(request);
+					booked.incrementAndGet();
+				} catch (ApiException e) {
+					assertThat(e.getErrorCodeInterface()).isEqualTo(AppointmentErrorCode.CONFLICTING_APPOINTMENT);
+					conflicted.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		System.out.printf("[booking stress] %d requests, %d threads: %d booked, %d conflicts in %d ms (%.0f req/s)%n",
+			TOTAL, THREADS, booked.get(), conflicted.get(), elapsedNanos / 1_000_000,
+			TOTAL / (elapsedNanos / 1_000_000_000.0));
+
+		assertThat(booked.get()).isEqualTo(VETS * SLOTS);
+		assertThat(conflicted.get()).isEqualTo(TOTAL - VETS * SLOTS);
+
+		Integer doubleBooked = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM (SELECT vet_id, booked_slot FROM appointment WHERE booked_slot IS NOT NULL " +
+				"GROUP BY vet_id, booked_slot HAVING COUNT(*) > 1) d", Integer.class);
+		assertThat(doubleBooked).isZero();
+	}
+
+	private List<Integer> registerVets() {
+		List<Integer> vetIds = new ArrayList<>();
+		for (int i = 0; i < VETS; i++) {
+			Vet vet = vetRepository.save(Vet.builder().name("동시성" + i).status(VetStatus.REGISTERED).build());
+			vetIds.add(vet.getId());
+		}
+		return vetIds;
+	}
+
+	private static List<AppointmentRequestDto> createRequests(List<Integer> vetIds) {
+		LocalDateTime firstSlot = LocalDate.now().plusDays(1).atTime(9, 0);
+		List<AppointmentRequestDto> requests = new ArrayList<>();
+		for (Integer vetId : vetIds) {
+			for (int slot = 0; slot < SLOTS; slot++) {
+				for (int attempt = 0; attempt < ATTEMPTS_PER_SLOT; attempt++) {
+					requests.add(AppointmentRequestDto.builder()
+						.vetId(vetId)
+						.petId(1)
+						.apptDateTime(firstSlot.plusMinutes(30L * slot + attempt % 3 * 10))
+						.appStatus(ApptStatus.COMPLETE)
+						.symptoms("동시 예약")
+						.build());
+				}
+			}
+		}
+		return requests;
+	}
+}
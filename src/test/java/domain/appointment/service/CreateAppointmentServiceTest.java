@@ -6,10 +6,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.samples.petclinic.common.error.AppointmentErrorCode;
 import org.springframework.samples.petclinic.common.error.PetErrorCode;
 import org.springframework.samples.petclinic.common.error.VetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentRequestDto;
+import org.springframework.samples.petclinic.domain.appointment.index.AppointmentSlotIndex;
+import org.springframework.samples.petclinic.domain.appointment.lock.VetBookingLock;
 import org.springframework.samples.petclinic.domain.appointment.mapper.AppointmentMapper;
 import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
@@ -28,6 +32,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +51,12 @@ public class CreateAppointmentServiceTest {
 	@Mock
 	private AppointmentMapper appointmentMapper;
 
+	@Mock
+	private AppointmentSlotIndex appointmentSlotIndex;
+
+	@Mock
+	private VetBookingLock vetBookingLock;
+
 	@InjectMocks
 	private CreateAppointmentService createAppointmentService;
 
@@ -66,10 +78,10 @@ public class CreateAppointmentServiceTest {
 	@DisplayName("예약 생성 성공 - 유효한 요청 데이터를 제공하면 예약이 성공적으로 생성된다")
 	void validRequestData_createAppointment_createSuccessfully() {
 		// given
-		when(vetService.getVetOrThrow(1)).thenReturn(mockVet);
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
 		when(petRepository.findByIdAndStatus(1, PetStatus.REGISTERED)).thenReturn(Optional.of(mockPet));
 		when(appointmentMapper.toEntity(request, mockPet, mockVet)).thenReturn(mockAppointment);
-		when(appointmentRepository.save(any(Appointment.class))).thenReturn(mockAppointment);
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenReturn(mockAppointment);
 
 		// when
 		Appointment appointment = createAppointmentService.createAppointment(request);
@@ -81,13 +93,14 @@ public class CreateAppointmentServiceTest {
 		assertThat(appointment.getSymptoms()).isEqualTo(mockAppointment.getSymptoms());
 		assertThat(appointment.getApptDateTime()).isEqualTo(mockAppointment.getApptDateTime());
 		assertThat(appointment.getStatus()).isEqualTo(mockAppointment.getStatus());
+		verify(appointmentSlotIndex).book(mockAppointment);
 	}
 
 	@Test
 	@DisplayName("예약 생성 실패 - 유효하지 않은 수의사 ID가 제공되었을 때, 에러가 발생한다")
 	void invalidVetId_createAppointment_throwsException() {
 		// given
-		when(vetService.getVetOrThrow(1)).thenThrow(new ApiException(VetErrorCode.NO_VET));
+		when(vetService.getVetReferenceOrThrow(1)).thenThrow(new ApiException(VetErrorCode.NO_VET));
 
 		// when & then
 		assertThrows(ApiException.class, () -> createAppointmentService.createAppointment(request));
@@ -97,7 +110,7 @@ public class CreateAppointmentServiceTest {
 	@DisplayName("예약 생성 실패 - 유효하지 않은 동물 ID가 제공되었을 때, 에러가 발생한다")
 	void invalidPetId_createAppointment_throwsException() {
 		// given
-		when(vetService.getVetOrThrow(1)).thenReturn(mockVet);
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
 		when(petRepository.findByIdAndStatus(1,PetStatus.REGISTERED)).thenThrow(new ApiException(PetErrorCode.NO_PET));
 
 		// when & then
@@ -124,13 +137,52 @@ public class CreateAppointmentServiceTest {
 	@DisplayName("예약 생성 실패 - 동일 시간에 중복된 예약 요청이 있을 경우 예외가 발생한다")
 	void duplicateAppointment_createAppointment_throwsException() {
 		// given
-		when(vetService.getVetOrThrow(1)).thenReturn(mockVet);
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
 		when(petRepository.findByIdAndStatus(1,PetStatus.REGISTERED)).thenReturn(Optional.of(mockPet));
-		when(appointmentRepository.existsByPetAndVetAndApptDateTime(mockPet, mockVet, request.getApptDateTime()))
-			.thenReturn(true);
+		when(appointmentSlotIndex.isBooked(1, request.getApptDateTime())).thenReturn(true);
 
 		// when & then
 		assertThrows(ApiException.class, () -> createAppointmentService.createAppointment(request));
+		verify(appointmentRepository, never()).saveAndFlush(any(Appointment.class));
+	}
+
+	@Test
+	@DisplayName("예약 생성 실패 - DB 유니크 제약에 걸리면 중복 예약 예외로 변환되고 색인에 반영되지 않는다")
+	void uniqueConstraintViolation_createAppointment_throwsConflict() {
+		// given
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
+		when(petRepository.findByIdAndStatus(1, PetStatus.REGISTERED)).thenReturn(Optional.of(mockPet));
+		when(appointmentMapper.toEntity(request, mockPet, mockVet)).thenReturn(mockAppointment);
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenThrow(new DataIntegrityViolationException("uk_appointment_vet_slot"));
+
+		// when & then
+		ApiException exception = assertThrows(ApiException.class, () -> createAppointmentService.createAppointment(request));
+		assertThat(exception.getErrorCodeInterface()).isEqualTo(AppointmentErrorCode.CONFLICTING_APPOINTMENT);
+		verify(vetBookingLock).lockUntilCompletion(1);
+		verify(appointmentSlotIndex, never()).book(any(Appointment.class));
+	}
+
+	@Test
+	@DisplayName("예약 생성 성공 - 취소 상태로 생성하는 예약은 시간대 충돌을 검사하지 않는다")
+	void cancelledAppointment_createAppointment_skipsSlotCheck() {
+		// given
+		request = AppointmentRequestDto.builder()
+			.vetId(1)
+			.petId(1)
+			.apptDateTime(request.getApptDateTime())
+			.appStatus(ApptStatus.CANCEL)
+			.symptoms("test")
+			.build();
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
+		when(petRepository.findByIdAndStatus(1, PetStatus.REGISTERED)).thenReturn(Optional.of(mockPet));
+		when(appointmentMapper.toEntity(request, mockPet, mockVet)).thenReturn(mockAppointment);
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenReturn(mockAppointment);
+
+		// when
+		createAppointmentService.createAppointment(request);
+
+		// then
+		verify(appointmentSlotIndex, never()).isBooked(1, request.getApptDateTime());
 	}
 
 	@Test
@@ -153,7 +205,7 @@ public class CreateAppointmentServiceTest {
 		request = AppointmentRequestDto.builder()
 			.vetId(1)
 			.petId(1)
-			.apptDateTime(LocalDateTime.of(2025, 12, 25, 12, 0 , 0))
+			.apptDateTime(LocalDateTime.now().plusDays(1).withHour(12).withMinute(0).withSecond(0).withNano(0))
 			.appStatus(ApptStatus.COMPLETE)
 			.symptoms("test")
 			.build();
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.domain.appointment.index.AppointmentSlotIndex;
+import org.springframework.samples.petclinic.domain.appointment.lock.VetBookingLock;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
 import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
@@ -29,6 +31,12 @@ public class DeleteAppointmentServiceTest {
 	@Mock
 	private AppointmentRepository appointmentRepository;
 
+	@Mock
+	private AppointmentSlotIndex appointmentSlotIndex;
+
+	@Mock
+	private VetBookingLock vetBookingLock;
+
 	private Pet mockPet;
 	private Vet mockVet;
 	private Appointment mockAppointment;
@@ -52,6 +60,7 @@ public class DeleteAppointmentServiceTest {
 		// then
 		verify(appointmentRepository, times(1)).findById(1);
 		verify(appointmentRepository, times(1)).delete(mockAppointment);
+		verify(appointmentSlotIndex, times(1)).release(mockAppointment);
 	}
 
 	@Test
@@ -7,6 +7,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
 import org.springframework.samples.petclinic.domain.appointment.mapper.AppointmentMapper;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
@@ -58,17 +61,19 @@ public class ReadAppointmentServiceTest {
 	@DisplayName("모든 예약 조회 성공 - 예약 데이터가 존재할 때, 모든 예약 데이터를 반환한다")
 	void appointmentsExist_findAllAppointments_returnsAppointmentList() {
 		// given
-		when(appointmentRepository.findAll()).thenReturn(List.of(mockAppointment1, mockAppointment2));
+		when(appointmentRepository.findByIdGreaterThanOrderById(0, Limit.of(21)))
+			.thenReturn(List.of(mockAppointment1, mockAppointment2));
 		when(appointmentMapper.toDto(mockAppointment1)).thenReturn(mockResponse1);
 		when(appointmentMapper.toDto(mockAppointment2)).thenReturn(mockResponse2);
 
 		// when
-		List<AppointmentResponseDto> result = readAppointmentService.findAllAppointments();
+		CursorPage<AppointmentResponseDto> result = readAppointmentService.findAllAppointments(CursorRequest.first());
 
 		// then
-		assertThat(result).hasSize(2);
-		assertThat(result.get(0).getSymptoms()).isEqualTo("Test Symptoms 1");
-		assertThat(result.get(1).getSymptoms()).isEqualTo("Test Symptoms 2");
+		assertThat(result.getContent()).hasSize(2);
+		assertThat(result.getContent().get(0).getSymptoms()).isEqualTo("Test Symptoms 1");
+		assertThat(result.getContent().get(1).getSymptoms()).isEqualTo("Test Symptoms 2");
+		assertThat(result.getNextCursor()).isNull();
 	}
 
 	@Test
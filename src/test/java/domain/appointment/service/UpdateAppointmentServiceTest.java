@@ -8,13 +8,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.samples.petclinic.common.exception.ApiException;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentRequestDto;
 import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
+import org.springframework.samples.petclinic.domain.appointment.index.AppointmentSlotIndex;
+import org.springframework.samples.petclinic.domain.appointment.lock.VetBookingLock;
 import org.springframework.samples.petclinic.domain.appointment.mapper.AppointmentMapper;
 import org.springframework.samples.petclinic.domain.appointment.model.Appointment;
 import org.springframework.samples.petclinic.domain.appointment.model.enums.ApptStatus;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
 import org.springframework.samples.petclinic.domain.appointment.service.UpdateAppointmentService;
+import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
 import org.springframework.samples.petclinic.domain.pet.model.Pet;
 import org.springframework.samples.petclinic.domain.pet.repository.PetRepository;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
@@ -25,6 +29,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +52,12 @@ public class UpdateAppointmentServiceTest {
 	@Mock
 	private AppointmentMapper appointmentMapper;
 
+	@Mock
+	private AppointmentSlotIndex appointmentSlotIndex;
+
+	@Mock
+	private VetBookingLock vetBookingLock;
+
 	private Appointment existingAppointment;
 	private static Pet mockPet;
 	private static Vet mockVet;
@@ -64,9 +77,9 @@ public class UpdateAppointmentServiceTest {
 		// given
 		AppointmentRequestDto updateRequest = createUpdateRequest();
 		when(appointmentRepository.findById(1)).thenReturn(Optional.of(existingAppointment));
-		when(petRepository.findById(1)).thenReturn(Optional.of(existingAppointment.getPet()));
-		when(vetService.getVetOrThrow(1)).thenReturn(mockVet);
-		when(appointmentRepository.save(existingAppointment)).thenAnswer(invocation -> invocation.getArgument(0));
+		when(petRepository.findByIdAndStatus(1, PetStatus.REGISTERED)).thenReturn(Optional.of(existingAppointment.getPet()));
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
+		when(appointmentRepository.saveAndFlush(existingAppointment)).thenAnswer(invocation -> invocation.getArgument(0));
 		when(appointmentMapper.toDto(existingAppointment)).thenReturn(mockResponse);
 
 		// when
@@ -75,6 +88,49 @@ public class UpdateAppointmentServiceTest {
 		// then
 		assertThat(response.getId()).isEqualTo(1);
 		assertThat(response.getSymptoms()).isEqualTo("Updated Symptoms");
+		verify(appointmentSlotIndex).book(existingAppointment);
+	}
+
+	@Test
+	@DisplayName("예약 업데이트 실패 - 변경할 시간대를 다른 예약이 차지하고 있으면 예외가 발생한다")
+	void occupiedSlot_updateAppointment_throwsException() {
+		// given
+		AppointmentRequestDto updateRequest = createUpdateRequest();
+		when(appointmentRepository.findById(1)).thenReturn(Optional.of(existingAppointment));
+		when(petRepository.findByIdAndStatus(1, PetStatus.REGISTERED)).thenReturn(Optional.of(mockPet));
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
+		when(appointmentSlotIndex.isBooked(1, updateRequest.getApptDateTime())).thenReturn(true);
+
+		// when & then
+		assertThrows(ApiException.class, () -> updateAppointmentService.updateAppointment(1, updateRequest));
+		verify(appointmentRepository, never()).saveAndFlush(any(Appointment.class));
+		verify(appointmentSlotIndex, never()).release(existingAppointment);
+	}
+
+	@Test
+	@DisplayName("예약 업데이트 성공 - 같은 시간대 안에서 시각만 바꾸면 자기 자신과 충돌하지 않는다")
+	void sameSlot_updateAppointment_doesNotConflictWithItself() {
+		// given
+		AppointmentRequestDto updateRequest = AppointmentRequestDto.builder()
+			.vetId(1)
+			.petId(1)
+			.apptDateTime(existingAppointment.getApptDateTime().plusMinutes(10))
+			.appStatus(ApptStatus.COMPLETE)
+			.symptoms("Updated Symptoms")
+			.build();
+		when(appointmentRepository.findById(1)).thenReturn(Optional.of(existingAppointment));
+		when(petRepository.findByIdAndStatus(1, PetStatus.REGISTERED)).thenReturn(Optional.of(mockPet));
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
+		when(appointmentRepository.saveAndFlush(existingAppointment)).thenAnswer(invocation -> invocation.getArgument(0));
+		when(appointmentMapper.toDto(existingAppointment)).thenReturn(mockResponse);
+
+		// when
+		updateAppointmentService.updateAppointment(1, updateRequest);
+
+		// then
+		verify(appointmentSlotIndex, never()).isBooked(1, updateRequest.getApptDateTime());
+		verify(appointmentSlotIndex).release(existingAppointment);
+		verify(appointmentSlotIndex).book(existingAppointment);
 	}
 
 	@Test
@@ -92,7 +148,7 @@ public class UpdateAppointmentServiceTest {
 	void invalidPetId_updateAppointment_throwsException() {
 		// given
 		when(appointmentRepository.findById(1)).thenReturn(Optional.of(existingAppointment));
-		when(petRepository.findById(1)).thenThrow(IllegalArgumentException.class);
+		when(petRepository.findByIdAndStatus(1, PetStatus.REGISTERED)).thenThrow(IllegalArgumentException.class);
 
 		// when & then
 		assertThrows(IllegalArgumentException.class, () -> updateAppointmentService.updateAppointment(1, createUpdateRequest()));
@@ -103,8 +159,8 @@ public class UpdateAppointmentServiceTest {
 	void invalidId_updateAppointment_throwsException() {
 		// given
 		when(appointmentRepository.findById(1)).thenReturn(Optional.of(existingAppointment));
-		when(petRepository.findById(1)).thenReturn(Optional.of(mockPet));
-		when(vetService.getVetOrThrow(1)).thenThrow(IllegalArgumentException.class);
+		when(petRepository.findByIdAndStatus(1, PetStatus.REGISTERED)).thenReturn(Optional.of(mockPet));
+		when(vetService.getVetReferenceOrThrow(1)).thenThrow(IllegalArgumentException.class);
 
 		// when & then
 		assertThrows(IllegalArgumentException.class, () -> updateAppointmentService.updateAppointment(1, createUpdateRequest()));
@@ -114,7 +170,7 @@ public class UpdateAppointmentServiceTest {
 		return AppointmentRequestDto.builder()
 			.vetId(1)
 			.petId(1)
-			.apptDateTime(LocalDateTime.of(2025, 12, 25, 12, 0 , 0))
+			.apptDateTime(LocalDateTime.now().plusDays(2).withHour(12).withMinute(0).withSecond(0).withNano(0))
 			.appStatus(ApptStatus.COMPLETE)
 			.symptoms("Updated Symptoms")
 			.build();
@@ -139,7 +195,7 @@ public class UpdateAppointmentServiceTest {
 			.id(1)
 			.vet(mockVet)
 			.pet(mockPet)
-			.apptDateTime(LocalDateTime.now())
+			.apptDateTime(LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0))
 			.status(ApptStatus.COMPLETE)
 			.symptoms("Initial Symptoms")
 			.build();
@@ -106,7 +106,7 @@ class HistoryServiceTest {
 	@DisplayName("진료 내역 추가 성공")
 	void addHistory_Success() {
 		// Given
-		when(vetService.getVetOrThrow(eq(requestDto.getVetId()))).thenReturn(vet);
+		when(vetService.getVetReferenceOrThrow(eq(requestDto.getVetId()))).thenReturn(vet);
 		when(visitRepository.findById(eq(requestDto.getVisitId()))).thenReturn(Optional.of(visit));
 		when(historyMapper.toEntity(eq(requestDto), eq(vet), eq(visit))).thenReturn(history);
 		when(historyRepository.save(any(History.class))).thenReturn(history);
@@ -117,7 +117,7 @@ class HistoryServiceTest {
 
 		// Then
 		assertThat(result).isNotNull();
-		verify(vetService, times(1)).getVetOrThrow(eq(requestDto.getVetId()));
+		verify(vetService, times(1)).getVetReferenceOrThrow(eq(requestDto.getVetId()));
 		verify(visitRepository, times(1)).findById(eq(requestDto.getVisitId()));
 		verify(historyMapper, times(1)).toEntity(eq(requestDto), eq(vet), eq(visit));
 		verify(historyRepository, times(1)).save(eq(history));
@@ -129,7 +129,7 @@ class HistoryServiceTest {
 	@DisplayName("진료 내역 생성 실패 - 수의사 없음")
 	void addHistory_Fail_VetNotFound() {
 		// Given
-		when(vetService.getVetOrThrow(eq(requestDto.getVetId()))).thenThrow(new ApiException(VetErrorCode.NO_VET));
+		when(vetService.getVetReferenceOrThrow(eq(requestDto.getVetId()))).thenThrow(new ApiException(VetErrorCode.NO_VET));
 
 		// When, Then
 		assertThatThrownBy(() -> historyService.addHistory(requestDto))
@@ -137,7 +137,7 @@ class HistoryServiceTest {
 			.hasFieldOrPropertyWithValue("errorCodeInterface", VetErrorCode.NO_VET)
 			.hasFieldOrPropertyWithValue("errorDescription", "해당 수의사가 존재하지 않습니다.");
 
-		verify(vetService, times(1)).getVetOrThrow(eq(requestDto.getVetId()));
+		verify(vetService, times(1)).getVetReferenceOrThrow(eq(requestDto.getVetId()));
 		verifyNoInteractions(visitRepository);
 		verify(historyRepository, times(0)).save(any(History.class));
 	}
@@ -146,7 +146,7 @@ class HistoryServiceTest {
 	@DisplayName("진료 내역 생성 실패 - 방문 내역 없음")
 	void addHistory_Fail_VisitNotFound() {
 		// Given
-		when(vetService.getVetOrThrow(eq(requestDto.getVetId()))).thenReturn(vet);
+		when(vetService.getVetReferenceOrThrow(eq(requestDto.getVetId()))).thenReturn(vet);
 		when(visitRepository.findById(eq(requestDto.getVisitId()))).thenReturn(Optional.empty());
 
 		// When, Then
@@ -155,7 +155,7 @@ class HistoryServiceTest {
 			.hasFieldOrPropertyWithValue("errorCodeInterface", VisitErrorCode.NO_VISIT)
 			.hasFieldOrPropertyWithValue("errorDescription", "해당 방문내역이 존재하지 않습니다.");
 
-		verify(vetService, times(1)).getVetOrThrow(eq(requestDto.getVetId()));
+		verify(vetService, times(1)).getVetReferenceOrThrow(eq(requestDto.getVetId()));
 		verify(visitRepository, times(1)).findById(eq(requestDto.getVisitId()));
 		verify(historyRepository, times(0)).save(any(History.class));
 	}
@@ -217,7 +217,7 @@ class HistoryServiceTest {
 	void updateHistory_Success() {
 		// Given
 		when(historyRepository.findById(eq(history.getId()))).thenReturn(Optional.of(history));
-		when(vetService.getVetOrThrow(eq(requestDto.getVetId()))).thenReturn(vet);
+		when(vetService.getVetReferenceOrThrow(eq(requestDto.getVetId()))).thenReturn(vet);
 		when(visitRepository.findById(eq(requestDto.getVisitId()))).thenReturn(Optional.of(visit));
 		when(historyRepository.save(any(History.class))).thenReturn(history);
 		when(historyMapper.toDto(eq(history))).thenReturn(responseDto);
@@ -256,7 +256,7 @@ class HistoryServiceTest {
 	void updateHistory_Fail_VetNotFound() {
 		// Given
 		when(historyRepository.findById(eq(history.getId()))).thenReturn(Optional.of(history));
-		when(vetService.getVetOrThrow(eq(requestDto.getVetId()))).thenThrow(new ApiException(VetErrorCode.NO_VET));
+		when(vetService.getVetReferenceOrThrow(eq(requestDto.getVetId()))).thenThrow(new ApiException(VetErrorCode.NO_VET));
 
 		// When, Then
 		assertThatThrownBy(() -> historyService.updateHistory(history.getId(), requestDto))
@@ -265,7 +265,7 @@ class HistoryServiceTest {
 			.hasFieldOrPropertyWithValue("errorDescription", "해당 수의사가 존재하지 않습니다.");
 
 		verify(historyRepository, times(1)).findById(eq(history.getId()));
-		verify(vetService, times(1)).getVetOrThrow(eq(requestDto.getVetId()));
+		verify(vetService, times(1)).getVetReferenceOrThrow(eq(requestDto.getVetId()));
 		verifyNoInteractions(visitRepository);
 		verify(historyRepository, times(0)).save(any(History.class));
 	}
@@ -275,7 +275,7 @@ class HistoryServiceTest {
 	void updateHistory_Fail_VisitNotFound() {
 		// Given
 		when(historyRepository.findById(eq(history.getId()))).thenReturn(Optional.of(history));
-		when(vetService.getVetOrThrow(eq(requestDto.getVetId()))).thenReturn(vet);
+		when(vetService.getVetReferenceOrThrow(eq(requestDto.getVetId()))).thenReturn(vet);
 		when(visitRepository.findById(eq(requestDto.getVisitId()))).thenReturn(Optional.empty());
 
 		// When, Then
@@ -285,7 +285,7 @@ class HistoryServiceTest {
 			.hasFieldOrPropertyWithValue("errorDescription", "해당 방문내역이 존재하지 않습니다.");
 
 		verify(historyRepository, times(1)).findById(eq(history.getId()));
-		verify(vetService, times(1)).getVetOrThrow(eq(requestDto.getVetId()));
+		verify(vetService, times(1)).getVetReferenceOrThrow(eq(requestDto.getVetId()));
 		verify(visitRepository, times(1)).findById(eq(requestDto.getVisitId()));
 		verify(historyRepository, times(0)).save(any(History.class));
 	}
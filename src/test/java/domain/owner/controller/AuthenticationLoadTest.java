@@ -0,0 +1,118 @@
+package domain.owner.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 인증 오버헤드 부하 테스트
+ * <p>
+ * DB 를 건드리지 않는 인증 필요 엔드포인트(검색 결과 없는 리뷰 검색)에 동시 요청을 보내
+ * 처리량과 지연 시간(p50/p99)을 출력한다.<br>
+ * 같은 토큰을 반복하는 경우(검증 캐시 적중)와 요청마다 다른 토큰을 쓰는 경우(매번 서명 검증)를 나눠 측정한다.
+ * 변경 전후 비교는 같은 명령을 이전 커밋에서 실행해 얻는다.<br>
+ * 실행: ./gradlew test --tests '*AuthenticationLoadTest' -Dbenchmark=true
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = PetClinicApplication.class)
+@AutoConfigureMockMvc
+class AuthenticationLoadTest {
+
+	private static final int THREADS = 8;
+	private static final int REQUESTS_PER_THREAD = 5_000;
+	private static final int WARMUP_REQUESTS = 2_000;
+	private static final String URL = "/review/search?q=zzqx";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenHelper jwtTokenHelper;
+
+	@Test
+	@DisplayName("인증 필요 요청의 처리량과 지연 시간 측정")
+	void load() throws Exception {
+		String sharedToken = issue(1);
+		String[] distinctTokens = new String[THREADS * REQUESTS_PER_THREAD];
+		for (int i = 0; i < distinctTokens.length; i++) {
+			distinctTokens[i] = issue(i + 2);
+		}
+
+		for (int i = 0; i < WARMUP_REQUESTS; i++) {
+			call(sharedToken);
+		}
+
+		run("same token (cache hit)", index -> sharedToken);
+		run("distinct tokens (verify)", index -> distinctTokens[index]);
+	}
+
+	private void run(String label, TokenSource tokens) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			long start = System.nanoTime();
+			List<Future<long[]>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					long[] latencies = new long[REQUESTS_PER_THREAD];
+					for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+						String token = tokens.tokenFor(thread * REQUESTS_PER_THREAD + i);
+						long requestStart = System.nanoTime();
+						call(token);
+						latencies[i] = System.nanoTime() - requestStart;
+					}
+					return latencies;
+				}));
+			}
+
+			long[] all = new long[THREADS * REQUESTS_PER_THREAD];
+			for (int t = 0; t < THREADS; t++) {
+				System.arraycopy(futures.get(t).get(), 0, all, t * REQUESTS_PER_THREAD, REQUESTS_PER_THREAD);
+			}
+			long elapsed = System.nanoTime() - start;
+			Arrays.sort(all);
+
+			System.out.printf("%-26s %,8.0f req/s  p50 %,7d us  p99 %,7d us%n", label,
+				all.length * (double) TimeUnit.SECONDS.toNanos(1) / elapsed,
+				TimeUnit.NANOSECONDS.toMicros(all[all.length / 2]),
+				TimeUnit.NANOSECONDS.toMicros(all[(int) (all.length * 0.99)]));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void call(String token) throws Exception {
+		int status = mockMvc.perform(get(URL).header("Authorization", token)).andReturn().getResponse().getStatus();
+		assertThat(status).isEqualTo(200);
+	}
+
+	private String issue(int ownerId) {
+		return jwtTokenHelper.issueAccessToken(Map.of("ownerId", ownerId)).getToken();
+	}
+
+	@FunctionalInterface
+	private interface TokenSource {
+		String tokenFor(int requestIndex);
+	}
+}
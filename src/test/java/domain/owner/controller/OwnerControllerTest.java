@@ -1,5 +1,6 @@
 package domain.owner.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.common.page.CursorPage;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
 import org.springframework.samples.petclinic.domain.history.repository.HistoryRepository;
 import org.springframework.samples.petclinic.domain.owner.dto.*;
@@ -21,6 +23,7 @@ import org.springframework.samples.petclinic.domain.review.repository.ReviewRepo
 import org.springframework.samples.petclinic.domain.token.dto.TokenResponseDto;
 import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
 import org.springframework.samples.petclinic.domain.visit.repository.VisitRepository;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +31,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
 @SpringBootTest(classes = PetClinicApplication.class)
@@ -41,7 +47,8 @@ public class OwnerControllerTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
-	@Autowired
+	// 요청당 토큰 검증 횟수를 확인하기 위해 spy 로 등록
+	@MockitoSpyBean
 	private JwtTokenHelper jwtTokenHelper;
 
 	@Autowired
@@ -183,10 +190,11 @@ public class OwnerControllerTest {
 
 		// then
 		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
-		OwnerResponseDto[] owners = objectMapper.readValue(response.getContentAsString(), OwnerResponseDto[].class);
-		assertThat(owners).hasSize(2);
-		assertThat(owners[0].getName()).isEqualTo("TestName1");
-		assertThat(owners[1].getName()).isEqualTo("TestName2");
+		CursorPage<OwnerResponseDto> owners = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
+		assertThat(owners.getContent()).hasSize(2);
+		assertThat(owners.getContent().get(0).getName()).isEqualTo("TestName1");
+		assertThat(owners.getContent().get(1).getName()).isEqualTo("TestName2");
+		assertThat(owners.getNextCursor()).isNull();
 	}
 
 	@Test
@@ -208,6 +216,43 @@ public class OwnerControllerTest {
 		assertThat(ownerResponseDto.getName()).isEqualTo("TestName");
 	}
 
+	@Test
+	@DisplayName("GET /owner/tokens - 토큰은 요청당 한 번만 검증하고 인증된 사용자 ID 로 재발급한다")
+	void tokens_shouldVerifyTokenOncePerRequest() throws Exception {
+		// given
+		String ownerToken = jwtTokenHelper.issueAccessToken(Map.of("ownerId", 42)).getToken();
+		clearInvocations(jwtTokenHelper);
+
+		// when
+		MockHttpServletResponse response = mockMvc.perform(
+			get("/owner/tokens").header("Authorization", ownerToken)
+		).andReturn().getResponse();
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		verify(jwtTokenHelper, times(1)).verify(ownerToken);
+		TokenResponseDto reissued = objectMapper.readValue(response.getContentAsString(), TokenResponseDto.class);
+		assertThat(jwtTokenHelper.verify(reissued.getAccessToken()).ownerId()).isEqualTo(42);
+	}
+
+	@Test
+	@DisplayName("GET /owner/{ownerId}/dashboard - 다른 소유자의 홈 화면은 거절된다")
+	void getDashboard_shouldRejectOtherOwner() throws Exception {
+		// given
+		RegisterRequestDto request = createRegisterRequestDto("TestUser", "TestName");
+		MockHttpServletResponse createResponse = performRequest("/owner/register", request, HttpMethod.POST);
+		Integer ownerId = objectMapper.readValue(createResponse.getContentAsString(), OwnerResponseDto.class).getId();
+		String otherOwnerToken = jwtTokenHelper.issueAccessToken(Map.of("ownerId", ownerId + 1)).getToken();
+
+		// when
+		MockHttpServletResponse response = mockMvc.perform(
+			get("/owner/" + ownerId + "/dashboard").header("Authorization", otherOwnerToken)
+		).andReturn().getResponse();
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.FORBIDDEN.value());
+	}
+
 	private String generateTestToken() {
 		Map<String, Object> claims = new HashMap<>();
 		claims.put("ownerId", 1);
@@ -1,22 +1,60 @@
 package domain.owner.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.samples.petclinic.domain.owner.service.BlacklistService;
+import org.springframework.samples.petclinic.domain.token.Interface.TokenHelperInterface;
+import org.springframework.samples.petclinic.domain.token.helper.TokenFingerprint;
+import org.springframework.samples.petclinic.domain.token.model.RevokedToken;
+import org.springframework.samples.petclinic.domain.token.repository.RevokedTokenRepository;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * BlacklistService 단위 테스트
  */
+@ExtendWith(MockitoExtension.class)
 class BlacklistServiceTest {
 
+	@Mock
+	private TokenHelperInterface tokenHelper;
+
+	@Mock
+	private RevokedTokenRepository revokedTokenRepository;
+
+	private final AtomicLong nanos = new AtomicLong();
+	private MeterRegistry meterRegistry;
 	private BlacklistService blacklistService;
 
 	@BeforeEach
 	void setUp() {
-		blacklistService = new BlacklistService();
+		meterRegistry = new SimpleMeterRegistry();
+		blacklistService = new BlacklistService(tokenHelper, revokedTokenRepository, meterRegistry, 1_000, nanos::get);
 	}
 
 	@Test
@@ -24,6 +62,7 @@ class BlacklistServiceTest {
 	void addToBlacklist_Success() {
 		// given
 		String token = "testToken123";
+		expiresIn(token, Duration.ofHours(1));
 
 		// when
 		blacklistService.addToBlacklist(token);
@@ -37,6 +76,7 @@ class BlacklistServiceTest {
 	void isBlacklisted_TokenExists() {
 		// given
 		String token = "testToken123";
+		expiresIn(token, Duration.ofHours(1));
 		blacklistService.addToBlacklist(token);
 
 		// when
@@ -58,4 +98,167 @@ class BlacklistServiceTest {
 		// then
 		assertFalse(result, "블랙리스트에 토큰이 포함되지 않아야 합니다.");
 	}
+
+	@Test
+	@DisplayName("토큰 만료 시각이 지나면 블랙리스트에서 자동으로 빠짐")
+	void blacklistedToken_expiresWithToken() {
+		// given
+		String token = "testToken123";
+		expiresIn(token, Duration.ofMinutes(30));
+		blacklistService.addToBlacklist(token);
+
+		// when
+		nanos.addAndGet(TimeUnit.MINUTES.toNanos(31));
+
+		// then
+		assertFalse(blacklistService.isBlacklisted(token), "만료된 토큰은 보관하지 않아야 합니다.");
+		assertThat(blacklistService.size()).isZero();
+		assertThat(meterRegistry.get("token.blacklist.size").gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("남은 수명은 주입한 티커 기준으로 계산")
+	void blacklistedToken_lifetimeFollowsTicker() {
+		// given - 티커가 20분 흐른 뒤, 처음 시각 기준 30분 후 만료되는 토큰 추가
+		String token = "testToken123";
+		expiresIn(token, Duration.ofMinutes(30));
+		nanos.addAndGet(TimeUnit.MINUTES.toNanos(20));
+		blacklistService.addToBlacklist(token);
+
+		// when
+		nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+
+		// then
+		assertFalse(blacklistService.isBlacklisted(token), "티커 기준으로 만료 시각이 지났으므로 빠져야 합니다.");
+	}
+
+	@Test
+	@DisplayName("이미 만료되었거나 검증할 수 없는 토큰은 보관하지 않음")
+	void expiredOrInvalidToken_notStored() {
+		// given
+		expiresIn("expiredToken", Duration.ofMinutes(-1));
+		when(tokenHelper.expirationOf("invalidToken")).thenThrow(new IllegalArgumentException("Invalid Token"));
+
+		// when
+		blacklistService.addToBlacklist("expiredToken");
+		blacklistService.addToBlacklist("invalidToken");
+
+		// then
+		assertThat(blacklistService.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("최대 개수를 넘게 추가해도 상한을 넘지 않음")
+	void blacklist_isCapped() {
+		// given
+		when(tokenHelper.expirationOf(anyString())).thenReturn(Instant.now().plus(Duration.ofHours(1)));
+
+		// when
+		for (int i = 0; i < 5_000; i++) {
+			blacklistService.addToBlacklist("token-" + i);
+		}
+
+		// then
+		assertThat(blacklistService.size()).isLessThanOrEqualTo(1_000);
+		assertThat(meterRegistry.get("cache.evictions").tag("cache", "tokenBlacklist").functionCounter().count())
+			.isPositive();
+	}
+
+	@Test
+	@DisplayName("로그아웃은 DB 에 지문과 만료 시각으로 기록")
+	void addToBlacklist_persistsRevocation() {
+		// given
+		String token = "testToken123";
+		expiresIn(token, Duration.ofHours(1));
+
+		// when
+		blacklistService.addToBlacklist(token);
+
+		// then
+		ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+		verify(revokedTokenRepository).saveAndFlush(captor.capture());
+		assertThat(captor.getValue().fingerprint()).isEqualTo(TokenFingerprint.of(token));
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 폐기된 토큰을 폴링해 반영")
+	void pollRevocations_appliesOtherNodesLogouts() {
+		// given
+		String token = "otherNodeToken";
+		TokenFingerprint fingerprint = TokenFingerprint.of(token);
+		RevokedToken revoked = RevokedToken.builder()
+			.id(1)
+			.fingerprintHigh(fingerprint.high())
+			.fingerprintLow(fingerprint.low())
+			.expiresAt(LocalDateTime.now().plusHours(1))
+			.revokedAt(LocalDateTime.now())
+			.build();
+		when(revokedTokenRepository.findRevokedAfter(any(), anyInt(), any(), any())).thenReturn(List.of(revoked));
+		assertFalse(blacklistService.isBlacklisted(token));
+
+		// when
+		blacklistService.pollRevocations();
+
+		// then
+		assertTrue(blacklistService.isBlacklisted(token), "다른 노드의 로그아웃이 반영되어야 합니다.");
+	}
+
+	@Test
+	@DisplayName("Bloom 필터를 다시 만들어도 보관 중인 토큰은 계속 차단")
+	void rebuildBloomFilter_keepsBlacklistedTokens() {
+		// given
+		expiresIn("keptToken", Duration.ofHours(1));
+		blacklistService.addToBlacklist("keptToken");
+
+		// when
+		blacklistService.rebuildBloomFilter();
+
+		// then
+		assertTrue(blacklistService.isBlacklisted("keptToken"));
+		assertFalse(blacklistService.isBlacklisted("otherToken"));
+	}
+
+	@Test
+	@DisplayName("Bloom 필터를 다시 만드는 동안 추가한 토큰도 빠짐없이 차단")
+	void rebuildBloomFilter_keepsTokensAddedConcurrently() throws Exception {
+		// given
+		BlacklistService service = new BlacklistService(tokenHelper, revokedTokenRepository, new SimpleMeterRegistry(),
+			100_000, nanos::get);
+		when(tokenHelper.expirationOf(anyString())).thenReturn(Instant.now().plus(Duration.ofHours(1)));
+		ExecutorService executor = Executors.newFixedThreadPool(5);
+		AtomicBoolean adding = new AtomicBoolean(true);
+
+		// when - 4스레드가 로그아웃하는 동안 재구성을 계속 반복
+		Future<?> rebuilder = executor.submit(() -> {
+			while (adding.get()) {
+				service.rebuildBloomFilter();
+			}
+		});
+		List<Future<?>> adders = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			int thread = t;
+			adders.add(executor.submit(() -> {
+				for (int i = 0; i < 2_000; i++) {
+					service.addToBlacklist("token-" + thread + "-" + i);
+				}
+			}));
+		}
+		for (Future<?> adder : adders) {
+			adder.get(30, TimeUnit.SECONDS);
+		}
+		adding.set(false);
+		rebuilder.get(30, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		// then
+		for (int t = 0; t < 4; t++) {
+			for (int i = 0; i < 2_000; i++) {
+				assertTrue(service.isBlacklisted("token-" + t + "-" + i), "token-" + t + "-" + i);
+			}
+		}
+	}
+
+	private void expiresIn(String token, Duration duration) {
+		when(tokenHelper.expirationOf(token)).thenReturn(Instant.now().plus(duration));
+	}
 }
@@ -0,0 +1,108 @@
+package domain.owner.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.samples.petclinic.domain.owner.service.BlacklistService;
+import org.springframework.samples.petclinic.domain.token.Interface.TokenHelperInterface;
+import org.springframework.samples.petclinic.domain.token.dto.TokenDto;
+import org.springframework.samples.petclinic.domain.token.helper.VerifiedToken;
+import org.springframework.samples.petclinic.domain.token.repository.RevokedTokenRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 토큰 블랙리스트 소크 테스트 - 로그아웃 500만 건
+ * <p>
+ * 토큰 수명(1시간) 동안 약 10만 건씩 로그아웃되는 상황을 시계를 앞당겨 재현하고,
+ * 구간마다 GC 후 힙 사용량과 보관 중인 토큰 수를 출력한다. 만료가 동작하면 힙은 처음 구간 수준에서 평평해야 한다.<br>
+ * 실행: ./gradlew test --tests '*BlacklistSoakTest' -Dbenchmark=true
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BlacklistSoakTest {
+
+	private static final int LOGOUTS = 5_000_000;
+	private static final int CHECKPOINT = 500_000;
+	private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+	// 로그아웃 한 건마다 앞당길 시간 (1시간 / 10만 건)
+	private static final long NANOS_PER_LOGOUT = TOKEN_LIFETIME.toNanos() / 100_000;
+
+	@Test
+	@DisplayName("로그아웃 500만 건 동안 힙과 보관 수가 평평하게 유지")
+	void soak() {
+		AtomicLong nanos = new AtomicLong();
+		// 모든 토큰은 로그아웃 시점부터 1시간 뒤 만료
+		TokenHelperInterface tokenHelper = new FixedLifetimeTokenHelper();
+		BlacklistService blacklistService = new BlacklistService(tokenHelper,
+			mock(RevokedTokenRepository.class, withSettings().stubOnly()), new SimpleMeterRegistry(), 1_000_000, nanos::get);
+
+		List<Long> heapAtCheckpoints = new ArrayList<>();
+		for (int i = 1; i <= LOGOUTS; i++) {
+			blacklistService.addToBlacklist("header.payload-" + i + ".signature-" + Long.toHexString(i * 31L));
+			nanos.addAndGet(NANOS_PER_LOGOUT);
+
+			if (i % CHECKPOINT == 0) {
+				long size = blacklistService.size();
+				long heap = usedHeap();
+				heapAtCheckpoints.add(heap);
+				System.out.printf("logouts %,d: blacklisted %,d, heap %,d MB%n", i, size, heap >> 20);
+				assertThat(size).isLessThanOrEqualTo(110_000);
+			}
+		}
+
+		// 첫 구간 이후로는 힙이 계속 늘지 않아야 함
+		long settled = heapAtCheckpoints.get(1);
+		long last = heapAtCheckpoints.get(heapAtCheckpoints.size() - 1);
+		assertThat(last).isLessThan(settled + (settled / 2) + (32L << 20));
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * 항상 지금부터 1시간 뒤를 만료 시각으로 돌려주는 토큰 헬퍼
+	 */
+	private static final class FixedLifetimeTokenHelper implements TokenHelperInterface {
+
+		@Override
+		public TokenDto issueAccessToken(Map<String, Object> data) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public TokenDto issueRefreshToken(Map<String, Object> data) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Map<String, Object> validationTokenWithThrow(String token) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public VerifiedToken verify(String token) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant expirationOf(String token) {
+			return Instant.now().plus(TOKEN_LIFETIME);
+		}
+	}
+}
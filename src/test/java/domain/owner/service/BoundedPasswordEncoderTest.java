@@ -0,0 +1,101 @@
+package domain.owner.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
+import org.springframework.samples.petclinic.common.exception.RetryableApiException;
+import org.springframework.samples.petclinic.config.security.BoundedPasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * BoundedPasswordEncoder 단위 테스트
+ */
+class BoundedPasswordEncoderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private BoundedPasswordEncoder encoder;
+
+	@AfterEach
+	void tearDown() {
+		encoder.shutdown();
+	}
+
+	@Test
+	@DisplayName("해싱 전용 스레드에서 인코딩/검증하고 해싱 시간과 대기 시간을 기록")
+	void encodeAndMatches_RecordsHistograms() {
+		// given
+		encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 4, 2, 4, Duration.ofSeconds(1), meterRegistry);
+
+		// when
+		String encoded = encoder.encode("password");
+
+		// then
+		assertTrue(encoder.matches("password", encoded));
+		assertFalse(encoder.matches("wrong", encoded));
+		assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count());
+		assertEquals(2, meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count());
+		assertEquals(3, meterRegistry.get("password.hash.queue.wait").timer().count());
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 기다리지 않고 503 재시도 예외")
+	void encode_FailsFastWhenQueueIsFull() throws Exception {
+		// given - 스레드 1개, 대기열 1칸: 하나는 실행 중, 하나는 대기 중
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder slow = mock(PasswordEncoder.class);
+		when(slow.encode(any())).thenAnswer(invocation -> {
+			running.countDown();
+			release.await();
+			return "encoded";
+		});
+		encoder = new BoundedPasswordEncoder(slow, 10, 1, 1, Duration.ofSeconds(3), meterRegistry);
+
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+		assertTrue(running.await(5, TimeUnit.SECONDS));
+		CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+		while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1) {
+			Thread.onSpinWait();
+		}
+
+		// when
+		RetryableApiException exception = assertThrows(RetryableApiException.class, () -> encoder.encode("c"));
+
+		// then
+		assertEquals(OwnerErrorCode.PASSWORD_HASHING_BUSY, exception.getErrorCodeInterface());
+		assertEquals(503, exception.getErrorCodeInterface().getHttpStatusCode());
+		assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+		assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+
+		release.countDown();
+		assertEquals("encoded", first.get(5, TimeUnit.SECONDS));
+		assertEquals("encoded", second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("저장된 해시의 cost 가 설정값과 다를 때만 재해싱 대상")
+	void upgradeEncoding_ComparesCost() {
+		// given
+		encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 12, 1, 1, Duration.ofSeconds(1), meterRegistry);
+
+		// when & then
+		assertTrue(encoder.upgradeEncoding("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234"));
+		assertTrue(encoder.upgradeEncoding("$2a$14$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234"));
+		assertFalse(encoder.upgradeEncoding("$2a$12$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234"));
+		assertFalse(encoder.upgradeEncoding("plain"));
+		assertFalse(encoder.upgradeEncoding(null));
+	}
+}
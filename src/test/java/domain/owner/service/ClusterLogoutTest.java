@@ -0,0 +1,126 @@
+package domain.owner.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.domain.owner.service.BlacklistService;
+import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 두 노드(애플리케이션 컨텍스트)가 하나의 DB 를 공유할 때 로그아웃 전파 테스트
+ * <p>
+ * 노드 A 에서 로그아웃한 토큰이 노드 B 의 폴링 이후 B 의 JwtAuthenticationFilter 에서 거부되는지 확인한다.
+ * </p>
+ */
+class ClusterLogoutTest {
+
+	static final MySQLContainer<?> mysqlContainer;
+
+	static {
+		mysqlContainer = new MySQLContainer<>("mysql:8.0.32")
+			.withDatabaseName("testdb")
+			.withUsername("test")
+			.withPassword("test");
+		mysqlContainer.start();
+	}
+
+	private static ConfigurableApplicationContext nodeA;
+	private static ConfigurableApplicationContext nodeB;
+
+	@BeforeAll
+	static void startNodes() {
+		// 스키마/데이터는 첫 노드만 초기화
+		nodeA = startNode("always");
+		nodeB = startNode("never");
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		if (nodeB != null) {
+			nodeB.close();
+		}
+		if (nodeA != null) {
+			nodeA.close();
+		}
+	}
+
+	@Test
+	@DisplayName("노드 A 에서 로그아웃한 토큰은 노드 B 가 폴링한 뒤 B 에서도 거부")
+	void logoutOnOneNode_rejectedOnOtherNode() throws Exception {
+		// given
+		String token = issueToken(nodeA, 1);
+		MockMvc mockMvcA = mockMvc(nodeA);
+		MockMvc mockMvcB = mockMvc(nodeB);
+		assertThat(status(mockMvcB, token)).isEqualTo(200);
+
+		// when
+		int logoutStatus = mockMvcA.perform(post("/owner/logout").header("Authorization", token))
+			.andReturn().getResponse().getStatus();
+		nodeB.getBean(BlacklistService.class).pollRevocations();
+
+		// then
+		assertThat(logoutStatus).isEqualTo(200);
+		assertThat(status(mockMvcA, token)).isEqualTo(401);
+		assertThat(status(mockMvcB, token)).isEqualTo(401);
+		assertThat(status(mockMvcB, issueToken(nodeB, 3))).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("새로 뜬 노드는 시작 시 만료되지 않은 폐기 토큰을 모두 읽음")
+	void newNode_loadsExistingRevocations() {
+		// given
+		String token = issueToken(nodeA, 2);
+		nodeA.getBean(BlacklistService.class).addToBlacklist(token);
+
+		// when
+		try (ConfigurableApplicationContext nodeC = startNode("never")) {
+			// then
+			assertThat(nodeC.getBean(BlacklistService.class).isBlacklisted(token)).isTrue();
+		}
+	}
+
+	private static ConfigurableApplicationContext startNode(String sqlInitMode) {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("server.port", "0");
+		properties.put("spring.datasource.url", mysqlContainer.getJdbcUrl());
+		properties.put("spring.datasource.username", mysqlContainer.getUsername());
+		properties.put("spring.datasource.password", mysqlContainer.getPassword());
+		properties.put("spring.jpa.hibernate.ddl-auto", "none");
+		properties.put("spring.sql.init.mode", sqlInitMode);
+		properties.put("spring.sql.init.schema-locations", "classpath:db/mysql/schema.sql");
+		properties.put("spring.sql.init.data-locations", "classpath:db/mysql/data.sql");
+		// 폴링은 테스트에서 직접 호출
+		properties.put("token.revocation.poll-interval-ms", "3600000");
+		return new SpringApplicationBuilder(PetClinicApplication.class).properties(properties).run();
+	}
+
+	private static String issueToken(ConfigurableApplicationContext node, int ownerId) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("ownerId", ownerId);
+		return node.getBean(JwtTokenHelper.class).issueAccessToken(claims).getToken();
+	}
+
+	private static MockMvc mockMvc(ConfigurableApplicationContext node) {
+		return MockMvcBuilders.webAppContextSetup((WebApplicationContext) node).apply(springSecurity()).build();
+	}
+
+	private static int status(MockMvc mockMvc, String token) throws Exception {
+		return mockMvc.perform(get("/vets/all").header("Authorization", token)).andReturn().getResponse().getStatus();
+	}
+}
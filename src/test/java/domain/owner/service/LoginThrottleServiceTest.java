@@ -0,0 +1,135 @@
+package domain.owner.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
+import org.springframework.samples.petclinic.common.exception.RetryableApiException;
+import org.springframework.samples.petclinic.domain.owner.service.LoginThrottleService;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoginThrottleService 단위 테스트
+ */
+class LoginThrottleServiceTest {
+
+	private static final long WINDOW_SECONDS = 60;
+
+	private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+	private SimpleMeterRegistry meterRegistry;
+	private LoginThrottleService loginThrottleService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		loginThrottleService = new LoginThrottleService(WINDOW_SECONDS, 3, 5, 1024, meterRegistry, now::get);
+	}
+
+	@Test
+	@DisplayName("사용자 ID 별 실패가 한도에 도달하면 429")
+	void checkAllowed_RejectsUserOverLimit() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			loginThrottleService.checkAllowed("victim", "10.0.0." + i);
+			loginThrottleService.recordFailure("victim", "10.0.0." + i);
+		}
+
+		// when & then
+		RetryableApiException exception = assertThrows(RetryableApiException.class,
+			() -> loginThrottleService.checkAllowed("victim", "10.0.0.99"));
+		assertEquals(OwnerErrorCode.TOO_MANY_LOGIN_ATTEMPTS, exception.getErrorCodeInterface());
+		assertEquals(429, exception.getErrorCodeInterface().getHttpStatusCode());
+		assertEquals(Duration.ofSeconds(WINDOW_SECONDS / 10), exception.getRetryAfter());
+		assertDoesNotThrow(() -> loginThrottleService.checkAllowed("someoneElse", "10.0.0.99"));
+		assertEquals(1.0, meterRegistry.get("login.throttle.rejected").tag("scope", "user").counter().count());
+	}
+
+	@Test
+	@DisplayName("IP 별 실패가 한도에 도달하면 다른 사용자 ID 로 시도해도 429")
+	void checkAllowed_RejectsIpOverLimit() {
+		// given
+		for (int i = 0; i < 5; i++) {
+			loginThrottleService.recordFailure("user" + i, "198.51.100.1");
+		}
+
+		// when & then
+		assertThrows(RetryableApiException.class, () -> loginThrottleService.checkAllowed("fresh", "198.51.100.1"));
+		assertDoesNotThrow(() -> loginThrottleService.checkAllowed("fresh", "198.51.100.2"));
+		assertEquals(1.0, meterRegistry.get("login.throttle.rejected").tag("scope", "ip").counter().count());
+	}
+
+	@Test
+	@DisplayName("윈도우가 지나면 오래된 실패는 빠짐")
+	void checkAllowed_WindowSlides() {
+		// given - 윈도우 앞쪽에 2번, 끝 무렵에 1번
+		loginThrottleService.recordFailure("user", "10.0.0.1");
+		loginThrottleService.recordFailure("user", "10.0.0.1");
+		now.addAndGet(TimeUnit.SECONDS.toMillis(WINDOW_SECONDS - 6));
+		loginThrottleService.recordFailure("user", "10.0.0.1");
+		assertThrows(RetryableApiException.class, () -> loginThrottleService.checkAllowed("user", "10.0.0.1"));
+
+		// when - 첫 두 번이 윈도우 밖으로 밀려날 만큼만 경과
+		now.addAndGet(TimeUnit.SECONDS.toMillis(12));
+
+		// then
+		assertDoesNotThrow(() -> loginThrottleService.checkAllowed("user", "10.0.0.1"));
+		loginThrottleService.recordFailure("user", "10.0.0.1");
+		loginThrottleService.recordFailure("user", "10.0.0.1");
+		assertThrows(RetryableApiException.class, () -> loginThrottleService.checkAllowed("user", "10.0.0.1"));
+	}
+
+	@Test
+	@DisplayName("한 사용자 ID 가 잠겨도 다른 사용자 ID 는 제한되지 않음")
+	void checkAllowed_LockoutDoesNotSpillToOtherKeys() {
+		// given - 서로 다른 키를 많이 확인해도 잠긴 키만 거절
+		for (int i = 0; i < 3; i++) {
+			loginThrottleService.recordFailure("victim", null);
+		}
+
+		// when & then
+		assertThrows(RetryableApiException.class, () -> loginThrottleService.checkAllowed("victim", null));
+		for (int i = 0; i < 10_000; i++) {
+			String userId = "user" + i;
+			assertDoesNotThrow(() -> loginThrottleService.checkAllowed(userId, null));
+		}
+	}
+
+	@Test
+	@DisplayName("동시에 기록한 실패가 누락 없이 집계")
+	void recordFailure_ConcurrentIncrementsAreNotLost() throws Exception {
+		// given
+		LoginThrottleService throttle = new LoginThrottleService(WINDOW_SECONDS, 8_000, 8_000, 1024,
+			new SimpleMeterRegistry(), now::get);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		for (int t = 0; t < 8; t++) {
+			executor.submit(() -> {
+				for (int i = 0; i < 1_000; i++) {
+					throttle.recordFailure("shared", null);
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		// then - 8스레드 x 1,000회가 모두 집계되어야 한도(8,000)에 도달
+		assertThrows(RetryableApiException.class, () -> throttle.checkAllowed("shared", null));
+	}
+
+	@Test
+	@DisplayName("설정된 한도와 윈도우를 메트릭으로 노출")
+	void exposesConfiguredThresholds() {
+		assertEquals(3.0, meterRegistry.get("login.throttle.max-failures").tag("scope", "user").gauge().value());
+		assertEquals(5.0, meterRegistry.get("login.throttle.max-failures").tag("scope", "ip").gauge().value());
+		assertEquals(60.0, meterRegistry.get("login.throttle.window").gauge().value());
+	}
+}
@@ -1,5 +1,6 @@
 package domain.owner.service;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,19 +9,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
+import org.springframework.samples.petclinic.config.security.OwnerPrincipal;
+import org.springframework.samples.petclinic.config.security.TokenBasedAuthentication;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.exception.RetryableApiException;
 import org.springframework.samples.petclinic.domain.owner.dto.LoginRequestDto;
 import org.springframework.samples.petclinic.domain.owner.dto.RegisterRequestDto;
 import org.springframework.samples.petclinic.domain.owner.mapper.OwnerMapper;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
 import org.springframework.samples.petclinic.domain.owner.repository.OwnerRepository;
+import org.springframework.samples.petclinic.domain.owner.service.LoginThrottleService;
 import org.springframework.samples.petclinic.domain.owner.service.OwnerAuthService;
 import org.springframework.samples.petclinic.domain.token.dto.TokenResponseDto;
 import org.springframework.samples.petclinic.domain.token.service.TokenService;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.Assert.assertThrows;
@@ -33,6 +38,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class OwnerAuthServiceTest {
 
+	private static final String CLIENT_IP = "203.0.113.7";
+
 	@Mock
 	private OwnerRepository ownerRepository;
 
@@ -45,6 +52,9 @@ public class OwnerAuthServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private LoginThrottleService loginThrottleService;
+
 	@InjectMocks
 	private OwnerAuthService ownerAuthService;
 
@@ -95,7 +105,7 @@ public class OwnerAuthServiceTest {
 		when(tokenService.issueToken(owner.getId())).thenReturn(new TokenResponseDto("accessToken", null, "refreshToken", null));
 
 		// when
-		TokenResponseDto tokenResponseDto = ownerAuthService.login(loginRequestDto);
+		TokenResponseDto tokenResponseDto = ownerAuthService.login(loginRequestDto, CLIENT_IP);
 
 		// then
 		assertNotNull(tokenResponseDto);
@@ -103,6 +113,44 @@ public class OwnerAuthServiceTest {
 		assertEquals("refreshToken", tokenResponseDto.getRefreshToken());
 	}
 
+	@Test
+	@DisplayName("로그인 성공 - BCrypt cost 가 바뀐 비밀번호는 재해싱")
+	void login_RehashesOutdatedPassword() {
+		// given
+		when(ownerRepository.findByUserId(loginRequestDto.getUserId())).thenReturn(Optional.of(owner));
+		when(passwordEncoder.matches(loginRequestDto.getPassword(), "encryptedPassword")).thenReturn(true);
+		when(passwordEncoder.upgradeEncoding("encryptedPassword")).thenReturn(true);
+		when(passwordEncoder.encode(loginRequestDto.getPassword())).thenReturn("rehashedPassword");
+		when(tokenService.issueToken(owner.getId())).thenReturn(new TokenResponseDto("accessToken", null, "refreshToken", null));
+
+		// when
+		ownerAuthService.login(loginRequestDto, CLIENT_IP);
+
+		// then
+		assertEquals("rehashedPassword", owner.getPassword());
+		verify(ownerRepository).save(owner);
+	}
+
+	@Test
+	@DisplayName("로그인 성공 - 해싱 대기열이 가득 차면 재해싱을 미루고 로그인은 진행")
+	void login_DefersRehashWhenHashingBusy() {
+		// given
+		when(ownerRepository.findByUserId(loginRequestDto.getUserId())).thenReturn(Optional.of(owner));
+		when(passwordEncoder.matches(loginRequestDto.getPassword(), "encryptedPassword")).thenReturn(true);
+		when(passwordEncoder.upgradeEncoding("encryptedPassword")).thenReturn(true);
+		when(passwordEncoder.encode(loginRequestDto.getPassword()))
+			.thenThrow(new RetryableApiException(OwnerErrorCode.PASSWORD_HASHING_BUSY, Duration.ofSeconds(1)));
+		when(tokenService.issueToken(owner.getId())).thenReturn(new TokenResponseDto("accessToken", null, "refreshToken", null));
+
+		// when
+		TokenResponseDto tokenResponseDto = ownerAuthService.login(loginRequestDto, CLIENT_IP);
+
+		// then
+		assertEquals("accessToken", tokenResponseDto.getAccessToken());
+		assertEquals("encryptedPassword", owner.getPassword());
+		verify(ownerRepository, never()).save(any(Owner.class));
+	}
+
 	@Test
 	@DisplayName("로그인 실패 - Owner ID가 존재하지 않을 때")
 	void login_UserNotFound() {
@@ -110,7 +158,8 @@ public class OwnerAuthServiceTest {
 		when(ownerRepository.findByUserId(loginRequestDto.getUserId())).thenThrow(new ApiException(OwnerErrorCode.NO_OWNER));
 
 		// when & then
-		assertThrows(ApiException.class, () -> ownerAuthService.login(loginRequestDto));
+		assertThrows(ApiException.class, () -> ownerAuthService.login(loginRequestDto, CLIENT_IP));
+		verify(loginThrottleService).recordFailure(loginRequestDto.getUserId(), CLIENT_IP);
 	}
 
 	@Test
@@ -121,16 +170,28 @@ public class OwnerAuthServiceTest {
 		when(passwordEncoder.matches(loginRequestDto.getPassword(), owner.getPassword())).thenThrow(new ApiException(OwnerErrorCode.INVALID_PASSWORD));
 
 		// when & then
-		assertThrows(ApiException.class, () -> ownerAuthService.login(loginRequestDto));
+		assertThrows(ApiException.class, () -> ownerAuthService.login(loginRequestDto, CLIENT_IP));
+		verify(loginThrottleService).recordFailure(loginRequestDto.getUserId(), CLIENT_IP);
+	}
+
+	@Test
+	@DisplayName("로그인 실패 - 최근 실패가 한도를 넘으면 회원 조회 없이 거절")
+	void login_Throttled() {
+		// given
+		doThrow(new RetryableApiException(OwnerErrorCode.TOO_MANY_LOGIN_ATTEMPTS, Duration.ofSeconds(30)))
+			.when(loginThrottleService).checkAllowed(loginRequestDto.getUserId(), CLIENT_IP);
+
+		// when & then
+		assertThrows(RetryableApiException.class, () -> ownerAuthService.login(loginRequestDto, CLIENT_IP));
+		verifyNoInteractions(ownerRepository, passwordEncoder);
+		verify(loginThrottleService, never()).recordFailure(any(), any());
 	}
 
 	@Test
 	@DisplayName("토큰 재발급 성공")
 	void tokens_Success() {
 		// given
-		RequestAttributes requestAttributes = mock(RequestAttributes.class);
-		when(requestAttributes.getAttribute("ownerId", RequestAttributes.SCOPE_REQUEST)).thenReturn(1);
-		RequestContextHolder.setRequestAttributes(requestAttributes);
+		SecurityContextHolder.getContext().setAuthentication(new TokenBasedAuthentication(new OwnerPrincipal(1)));
 		when(tokenService.issueToken(1)).thenReturn(new TokenResponseDto("accessToken", null, "refreshToken", null));
 
 		// when
@@ -141,4 +202,9 @@ public class OwnerAuthServiceTest {
 		assertEquals("accessToken", tokenResponseDto.getAccessToken());
 		assertEquals("refreshToken", tokenResponseDto.getRefreshToken());
 	}
+
+	@AfterEach
+	void clearSecurityContext() {
+		SecurityContextHolder.clearContext();
+	}
 }
@@ -0,0 +1,190 @@
+package domain.owner.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.domain.appointment.dto.AppointmentResponseDto;
+import org.springframework.samples.petclinic.domain.owner.dto.OwnerDashboardResponseDto;
+import org.springframework.samples.petclinic.domain.owner.service.OwnerDashboardService;
+import org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto;
+import org.springframework.samples.petclinic.domain.visit.dto.VisitResponseDto;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원 홈 화면 조회 테스트
+ * <p>
+ * 펫이 1마리인 회원과 12마리인 회원의 홈 화면을 조회해, 실행된 SQL 문 수가 펫 수와 무관하게 같은지 확인한다.
+ * </p>
+ */
+@SpringBootTest(classes = PetClinicApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+public class OwnerDashboardServiceTest {
+
+	private static final int SMALL_OWNER = 100;
+	private static final int LARGE_OWNER = 101;
+	private static final int LARGE_OWNER_PETS = 12;
+	private static final int EXPECTED_STATEMENTS = 5;
+
+	static final MySQLContainer<?> mysqlContainer;
+
+	static {
+		mysqlContainer = new MySQLContainer<>("mysql:8.0.32")
+			.withDatabaseName("testdb")
+			.withUsername("test")
+			.withPassword("test");
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+		registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+		registry.add("spring.sql.init.mode", () -> "always");
+		registry.add("spring.sql.init.schema-locations", () -> "classpath:db/mysql/schema.sql");
+		registry.add("spring.sql.init.data-locations", () -> "classpath:db/mysql/data.sql");
+	}
+
+	@Autowired
+	private OwnerDashboardService ownerDashboardService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private int nextPetId = 1000;
+	private int nextVisitId = 1000;
+	private int nextAppointmentId = 1000;
+	private LocalDateTime nextSlot;
+	private LocalDateTime pastSlot;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("DELETE FROM appointment WHERE id >= 1000");
+		jdbcTemplate.update("DELETE FROM history WHERE id >= 1000");
+		jdbcTemplate.update("DELETE FROM visits WHERE id >= 1000");
+		jdbcTemplate.update("DELETE FROM pets WHERE id >= 1000");
+		jdbcTemplate.update("DELETE FROM owner WHERE id IN (?, ?)", SMALL_OWNER, LARGE_OWNER);
+		nextSlot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+		pastSlot = LocalDateTime.now().minusDays(3).truncatedTo(ChronoUnit.HOURS);
+
+		insertOwner(SMALL_OWNER);
+		insertPetWithRecords(SMALL_OWNER, "REGISTERED");
+
+		insertOwner(LARGE_OWNER);
+		for (int i = 0; i < LARGE_OWNER_PETS; i++) {
+			insertPetWithRecords(LARGE_OWNER, "REGISTERED");
+		}
+		insertPetWithRecords(LARGE_OWNER, "DELETED");
+	}
+
+	@Test
+	@DisplayName("홈 화면 조회 - 실행되는 SQL 문 수가 펫 수와 무관하게 일정")
+	void getDashboard_statementCountDoesNotGrowWithPets() {
+		// when
+		long smallStatements = countStatements(() -> ownerDashboardService.getDashboard(SMALL_OWNER, SMALL_OWNER));
+		long largeStatements = countStatements(() -> ownerDashboardService.getDashboard(LARGE_OWNER, LARGE_OWNER));
+
+		// then
+		assertThat(smallStatements).isEqualTo(EXPECTED_STATEMENTS);
+		assertThat(largeStatements).isEqualTo(EXPECTED_STATEMENTS);
+	}
+
+	@Test
+	@DisplayName("홈 화면 조회 - 등록된 펫만, 최근 방문은 최신순, 다가오는 예약은 가까운 순으로 최대 개수까지")
+	void getDashboard_assemblesSections() {
+		// when
+		OwnerDashboardResponseDto dashboard = ownerDashboardService.getDashboard(LARGE_OWNER, LARGE_OWNER);
+
+		// then
+		assertThat(dashboard.getOwner().getId()).isEqualTo(LARGE_OWNER);
+		assertThat(dashboard.getPets()).hasSize(LARGE_OWNER_PETS)
+			.extracting(PetResponseDto::getOwnerId).containsOnly(LARGE_OWNER);
+		assertThat(dashboard.getRecentVisits()).hasSize(10)
+			.isSortedAccordingTo(Comparator.comparing(VisitResponseDto::getVisitDate).reversed());
+		assertThat(dashboard.getRecentHistories()).hasSize(10);
+		assertThat(dashboard.getUpcomingAppointments()).hasSize(10)
+			.isSortedAccordingTo(Comparator.comparing(AppointmentResponseDto::getApptDateTime))
+			.allSatisfy(appointment -> assertThat(appointment.getApptDateTime()).isAfter(LocalDateTime.now()));
+	}
+
+	@Test
+	@DisplayName("홈 화면 조회 실패 - 없는 회원")
+	void getDashboard_unknownOwner() {
+		assertThatThrownBy(() -> ownerDashboardService.getDashboard(999_999, 999_999))
+			.isInstanceOf(ApiException.class);
+	}
+
+	@Test
+	@DisplayName("홈 화면 조회 실패 - 다른 회원의 홈 화면은 쿼리 없이 거절")
+	void getDashboard_otherOwner() {
+		long statements = countStatements(() -> assertThatThrownBy(
+			() -> ownerDashboardService.getDashboard(LARGE_OWNER, SMALL_OWNER))
+			.isInstanceOf(ApiException.class)
+			.hasMessageContaining("본인의 정보만 조회할 수 있습니다."));
+
+		assertThat(statements).isZero();
+	}
+
+	private long countStatements(Runnable action) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void insertOwner(int ownerId) {
+		jdbcTemplate.update("INSERT INTO owner (id, user_id, password, name, address, city, telephone) "
+			+ "VALUES (?, ?, 'pw', '대시보드', '주소', '서울', '010-0000-0000')", ownerId, "dashboard" + ownerId);
+	}
+
+	// 펫 1마리 + 방문 2건(각각 진료 기록) + 지난 예약 1건, 다가오는 예약 1건, 취소된 예약 1건
+	private void insertPetWithRecords(int ownerId, String status) {
+		int petId = nextPetId++;
+		jdbcTemplate.update("INSERT INTO pets (id, name, birth_date, type_id, owner_id, status) "
+			+ "VALUES (?, ?, '2020-01-01', 1, ?, ?)", petId, "펫" + petId, ownerId, status);
+
+		for (int i = 0; i < 2; i++) {
+			int visitId = nextVisitId++;
+			jdbcTemplate.update("INSERT INTO visits (id, visit_date, description, pet_id) VALUES (?, ?, '검진', ?)",
+				visitId, LocalDateTime.now().minusDays(visitId), petId);
+			jdbcTemplate.update("INSERT INTO history (id, symptoms, content, vet_id, visit_id) "
+				+ "VALUES (?, '기침', '처방', 1, ?)", visitId, visitId);
+		}
+
+		insertAppointment(petId, pastSlot.minusMinutes(30L * (petId - 1000)), null);
+		insertAppointment(petId, nextSlot, null);
+		nextSlot = nextSlot.plusMinutes(30);
+		insertAppointment(petId, nextSlot, "CANCEL");
+		nextSlot = nextSlot.plusMinutes(30);
+	}
+
+	private void insertAppointment(int petId, LocalDateTime apptDate, String status) {
+		jdbcTemplate.update("INSERT INTO appointment (id, appt_date, status, symptoms, pet_id, vet_id) "
+			+ "VALUES (?, ?, ?, '증상', ?, 1)", nextAppointmentId++, apptDate, status, petId);
+	}
+}
@@ -7,8 +7,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.samples.petclinic.common.error.OwnerErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.owner.dto.OwnerResponseDto;
 import org.springframework.samples.petclinic.domain.owner.exception.OwnerNotFoundException;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
@@ -60,18 +63,34 @@ class OwnerReadServiceTest {
 	@DisplayName("모든 회원 조회 성공")
 	void findAll_Success() {
 		// given
-		when(ownerRepository.findAll()).thenReturn(Arrays.asList(owner1, owner2));
+		when(ownerRepository.findByIdGreaterThanOrderById(0, Limit.of(21))).thenReturn(Arrays.asList(owner1, owner2));
 
 		// when
-		List<OwnerResponseDto> result = ownerReadService.findAll();
+		CursorPage<OwnerResponseDto> result = ownerReadService.findAll(CursorRequest.first());
 
 		// then
 		assertNotNull(result);
-		assertEquals(2, result.size());
+		assertEquals(2, result.getContent().size());
+		assertNull(result.getNextCursor());
 
-		assertEquals("구름", result.get(0).getName());
-		assertEquals("구르미", result.get(1).getName());
-		verify(ownerRepository, times(1)).findAll();
+		assertEquals("구름", result.getContent().get(0).getName());
+		assertEquals("구르미", result.getContent().get(1).getName());
+		verify(ownerRepository, times(1)).findByIdGreaterThanOrderById(0, Limit.of(21));
+	}
+
+	@Test
+	@DisplayName("회원 목록 조회 - 다음 페이지가 있으면 마지막 아이디를 커서로 반환")
+	void findAll_nextCursor() {
+		// given
+		when(ownerRepository.findByIdGreaterThanOrderById(0, Limit.of(2))).thenReturn(Arrays.asList(owner1, owner2));
+
+		// when
+		CursorPage<OwnerResponseDto> result = ownerReadService.findAll(CursorRequest.of(null, 1));
+
+		// then
+		assertEquals(1, result.getContent().size());
+		assertEquals("구름", result.getContent().get(0).getName());
+		assertEquals("1", result.getNextCursor());
 	}
 
 	@Test
@@ -10,6 +10,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.samples.petclinic.common.error.PetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.pet.controller.PetController;
 import org.springframework.samples.petclinic.domain.pet.dto.PetRequestDto;
 import org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto;
@@ -54,16 +56,16 @@ public class PetControllerTest {
 	@Test
 	@DisplayName("모든 Pet 조회 성공")
 	void getAllPets_Success() {
-		when(petService.getAllPets()).thenReturn(List.of(petResponseDto));
+		when(petService.getAllPets(CursorRequest.of(null, 10))).thenReturn(new CursorPage<>(List.of(petResponseDto), null));
 
-		ResponseEntity<List<PetResponseDto>> response = petController.getAllPets();
+		ResponseEntity<CursorPage<PetResponseDto>> response = petController.getAllPets(null, 10);
 
 		assertThat(response.getStatusCodeValue()).isEqualTo(200);
 		assertThat(response.getBody()).isNotNull();
-		assertThat(response.getBody().size()).isEqualTo(1);
-		assertThat(response.getBody().get(0).getId()).isEqualTo(petResponseDto.getId());
+		assertThat(response.getBody().getContent().size()).isEqualTo(1);
+		assertThat(response.getBody().getContent().get(0).getId()).isEqualTo(petResponseDto.getId());
 
-		verify(petService, times(1)).getAllPets();
+		verify(petService, times(1)).getAllPets(CursorRequest.of(null, 10));
 		verifyNoMoreInteractions(petService);
 	}
 
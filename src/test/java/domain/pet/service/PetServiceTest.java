@@ -7,8 +7,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.samples.petclinic.common.error.PetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.pet.dto.PetRequestDto;
 import org.springframework.samples.petclinic.domain.pet.dto.PetResponseDto;
 import org.springframework.samples.petclinic.domain.pet.enums.PetStatus;
@@ -16,14 +19,17 @@ import org.springframework.samples.petclinic.domain.pet.mapper.PetMapper;
 import org.springframework.samples.petclinic.domain.pet.model.Pet;
 import org.springframework.samples.petclinic.domain.pet.model.PetType;
 import org.springframework.samples.petclinic.domain.pet.repository.PetRepository;
-import org.springframework.samples.petclinic.domain.pet.repository.PetTypeRepository;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
 import org.springframework.samples.petclinic.domain.owner.repository.OwnerRepository;
+import org.springframework.samples.petclinic.domain.reference.registry.ReferenceDataRegistry;
 import org.springframework.samples.petclinic.domain.pet.service.PetService;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,7 +46,7 @@ public class PetServiceTest {
 	private PetRepository petRepository;
 
 	@Mock
-	private PetTypeRepository petTypeRepository;
+	private ReferenceDataRegistry referenceDataRegistry;
 
 	@Mock
 	private OwnerRepository ownerRepository;
@@ -84,19 +90,36 @@ public class PetServiceTest {
 	@Test
 	@DisplayName("모든 Pet 조회 성공")
 	void getAllPets_Success() {
-		when(petRepository.findAllByStatusOrderById(PetStatus.REGISTERED)).thenReturn(List.of(pet));
+		when(petRepository.findByStatusAndIdGreaterThanOrderById(PetStatus.REGISTERED, 0, Limit.of(21)))
+			.thenReturn(List.of(pet));
 		when(petMapper.toDto(any(Pet.class))).thenReturn(petResponseDto);
 
-		List<PetResponseDto> result = petService.getAllPets();
+		CursorPage<PetResponseDto> result = petService.getAllPets(CursorRequest.first());
 
 		assertThat(result).isNotNull();
-		assertThat(result).hasSize(1);
-		assertThat(result.get(0).getId()).isEqualTo(pet.getId());
+		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.getContent().get(0).getId()).isEqualTo(pet.getId());
+		assertThat(result.getNextCursor()).isNull();
 
-		verify(petRepository, times(1)).findAllByStatusOrderById(PetStatus.REGISTERED);
+		verify(petRepository, times(1)).findByStatusAndIdGreaterThanOrderById(PetStatus.REGISTERED, 0, Limit.of(21));
 		verify(petMapper, times(1)).toDto(any(Pet.class));
 	}
 
+	@Test
+	@DisplayName("모든 Pet 조회 - 다음 페이지가 있으면 마지막 아이디를 커서로 반환")
+	void getAllPets_nextCursor() {
+		Pet nextPet = Pet.builder().id(2).name("다음").build();
+		when(petRepository.findByStatusAndIdGreaterThanOrderById(PetStatus.REGISTERED, 0, Limit.of(2)))
+			.thenReturn(List.of(pet, nextPet));
+		when(petMapper.toDto(pet)).thenReturn(petResponseDto);
+
+		CursorPage<PetResponseDto> result = petService.getAllPets(CursorRequest.of(null, 1));
+
+		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.getNextCursor()).isEqualTo("1");
+		verify(petMapper, never()).toDto(nextPet);
+	}
+
 	@Test
 	@DisplayName("단일 Pet 조회 성공")
 	void getPetById_Success() {
@@ -130,9 +153,8 @@ public class PetServiceTest {
 	@Test
 	@DisplayName("주인의 펫 조회 성공")
 	void getPetsByOwnerId_Success() {
-		when(ownerRepository.findById(1)).thenReturn(Optional.of(owner));
-		when(petRepository.findAllByStatusOrderById(PetStatus.REGISTERED)).thenReturn(List.of(pet));
-		when(petMapper.toDto(any(Pet.class))).thenReturn(petResponseDto);
+		when(ownerRepository.existsById(1)).thenReturn(true);
+		when(petRepository.findResponsesByOwnerId(1, PetStatus.REGISTERED)).thenReturn(List.of(petResponseDto));
 
 		List<PetResponseDto> result = petService.getPetsByOwnerId(1);
 
@@ -140,30 +162,63 @@ public class PetServiceTest {
 		assertThat(result).hasSize(1);
 		assertThat(result.get(0).getOwnerId()).isEqualTo(1);
 
-		verify(ownerRepository, times(1)).findById(1);
-		verify(petRepository, times(1)).findAllByStatusOrderById(PetStatus.REGISTERED);
-		verify(petMapper, times(1)).toDto(any(Pet.class));
+		verify(ownerRepository, times(1)).existsById(1);
+		verify(petRepository, times(1)).findResponsesByOwnerId(1, PetStatus.REGISTERED);
+		verifyNoInteractions(petMapper);
 	}
 
 	@Test
 	@DisplayName("주인의 펫 조회 실패 - Invalid Owner")
 	void getPetsByOwnerId_Failure_InvalidOwner() {
 		// Given
-		when(ownerRepository.findById(99)).thenReturn(Optional.empty());
+		when(ownerRepository.existsById(99)).thenReturn(false);
 
 		// When, Then
 		assertThatThrownBy(() -> petService.getPetsByOwnerId(99))
 			.isInstanceOf(ApiException.class)
 			.hasMessage(PetErrorCode.INVALID_OWNER.getDescription());
 
-		verify(ownerRepository, times(1)).findById(99);
+		verify(ownerRepository, times(1)).existsById(99);
 		verifyNoInteractions(petRepository, petMapper);
 	}
 
+	@Test
+	@DisplayName("여러 주인의 펫 조회 - 한 번의 조회로 요청 순서대로 묶고 펫이 없는 주인은 빈 목록")
+	void getPetsByOwnerIds_GroupsInRequestOrder() {
+		// Given
+		PetResponseDto otherPet = PetResponseDto.builder().id(2).name("고양이").typeId(2).ownerId(3).build();
+		when(petRepository.findResponsesByOwnerIdIn(Set.of(3, 1, 2), PetStatus.REGISTERED))
+			.thenReturn(List.of(petResponseDto, otherPet));
+
+		// When
+		Map<Integer, List<PetResponseDto>> result = petService.getPetsByOwnerIds(List.of(3, 1, 2, 1));
+
+		// Then
+		assertThat(result.keySet()).containsExactly(3, 1, 2);
+		assertThat(result.get(3)).extracting(PetResponseDto::getId).containsExactly(2);
+		assertThat(result.get(1)).extracting(PetResponseDto::getId).containsExactly(1);
+		assertThat(result.get(2)).isEmpty();
+		verify(petRepository, times(1)).findResponsesByOwnerIdIn(Set.of(3, 1, 2), PetStatus.REGISTERED);
+	}
+
+	@Test
+	@DisplayName("여러 주인의 펫 조회 실패 - 아이디가 없거나 100개 초과")
+	void getPetsByOwnerIds_Failure_InvalidIds() {
+		List<Integer> tooMany = IntStream.rangeClosed(1, 101).boxed().toList();
+
+		assertThatThrownBy(() -> petService.getPetsByOwnerIds(List.of()))
+			.isInstanceOf(ApiException.class)
+			.hasMessage(PetErrorCode.INVALID_OWNER_IDS.getDescription());
+		assertThatThrownBy(() -> petService.getPetsByOwnerIds(tooMany))
+			.isInstanceOf(ApiException.class)
+			.hasMessage(PetErrorCode.INVALID_OWNER_IDS.getDescription());
+		verifyNoInteractions(petRepository);
+	}
+
 	@Test
 	@DisplayName("Pet 생성 성공")
 	void createPet_Success() {
-		when(petTypeRepository.findById(1)).thenReturn(Optional.of(petType));
+		when(referenceDataRegistry.findPetType(1)).thenReturn(Optional.of(petType));
 		when(ownerRepository.findById(1)).thenReturn(Optional.of(owner));
 		when(petMapper.toEntity(any(PetRequestDto.class), any(PetType.class), any(Owner.class))).thenReturn(pet);
 		when(petRepository.save(any(Pet.class))).thenReturn(pet);
@@ -174,7 +229,7 @@ public class PetServiceTest {
 		assertThat(result).isNotNull();
 		assertThat(result.getId()).isEqualTo(pet.getId());
 
-		verify(petTypeRepository, times(1)).findById(1);
+		verify(referenceDataRegistry, times(1)).findPetType(1);
 		verify(ownerRepository, times(1)).findById(1);
 		verify(petMapper, times(1)).toEntity(any(PetRequestDto.class), any(PetType.class), any(Owner.class));
 		verify(petRepository, times(1)).save(any(Pet.class));
@@ -184,21 +239,21 @@ public class PetServiceTest {
 	@Test
 	@DisplayName("Pet 생성 실패 - Invalid PetType")
 	void createPet_Failure_InvalidPetType() {
-		when(petTypeRepository.findById(99)).thenReturn(Optional.empty());
+		when(referenceDataRegistry.findPetType(99)).thenReturn(Optional.empty());
 		petRequestDto.setTypeId(99);
 
 		assertThatThrownBy(() -> petService.createPet(petRequestDto))
 			.isInstanceOf(ApiException.class)
 			.hasMessage(PetErrorCode.INVALID_PET_TYPE.getDescription());
 
-		verify(petTypeRepository, times(1)).findById(99);
+		verify(referenceDataRegistry, times(1)).findPetType(99);
 		verifyNoInteractions(ownerRepository, petRepository, petMapper);
 	}
 
 	@Test
 	@DisplayName("Pet 생성 실패 - Invalid Owner")
 	void createPet_Failure_InvalidOwner() {
-		when(petTypeRepository.findById(1)).thenReturn(Optional.of(petType));
+		when(referenceDataRegistry.findPetType(1)).thenReturn(Optional.of(petType));
 		when(ownerRepository.findById(99)).thenReturn(Optional.empty());
 		petRequestDto.setOwnerId(99);
 
@@ -206,7 +261,7 @@ public class PetServiceTest {
 			.isInstanceOf(ApiException.class)
 			.hasMessage(PetErrorCode.INVALID_OWNER.getDescription());
 
-		verify(petTypeRepository, times(1)).findById(1);
+		verify(referenceDataRegistry, times(1)).findPetType(1);
 		verify(ownerRepository, times(1)).findById(99);
 		verifyNoInteractions(petRepository, petMapper);
 	}
@@ -215,7 +270,7 @@ public class PetServiceTest {
 	@DisplayName("Pet 수정 성공")
 	void updatePet_Success() {
 		when(petRepository.findByIdAndStatus(1,PetStatus.REGISTERED)).thenReturn(Optional.of(pet));
-		when(petTypeRepository.findById(1)).thenReturn(Optional.of(petType));
+		when(referenceDataRegistry.findPetType(1)).thenReturn(Optional.of(petType));
 		when(ownerRepository.findById(1)).thenReturn(Optional.of(owner));
 		when(petRepository.save(any(Pet.class))).thenReturn(pet);
 		when(petMapper.toDto(any(Pet.class))).thenReturn(petResponseDto);
@@ -226,7 +281,7 @@ public class PetServiceTest {
 		assertThat(result.getId()).isEqualTo(pet.getId());
 
 		verify(petRepository, times(1)).findByIdAndStatus(1,PetStatus.REGISTERED);
-		verify(petTypeRepository, times(1)).findById(1);
+		verify(referenceDataRegistry, times(1)).findPetType(1);
 		verify(ownerRepository, times(1)).findById(1);
 		verify(petRepository, times(1)).save(any(Pet.class));
 		verify(petMapper, times(1)).toDto(any(Pet.class));
@@ -242,14 +297,14 @@ public class PetServiceTest {
 			.hasMessage(PetErrorCode.NO_PET.getDescription());
 
 		verify(petRepository, times(1)).findByIdAndStatus(99,PetStatus.REGISTERED);
-		verifyNoInteractions(petTypeRepository, ownerRepository, petMapper);
+		verifyNoInteractions(referenceDataRegistry, ownerRepository, petMapper);
 	}
 
 	@Test
 	@DisplayName("Pet 수정 실패 - Invalid PetType")
 	void updatePet_Failure_InvalidPetType() {
 		when(petRepository.findByIdAndStatus(1,PetStatus.REGISTERED)).thenReturn(Optional.of(pet));
-		when(petTypeRepository.findById(99)).thenReturn(Optional.empty());
+		when(referenceDataRegistry.findPetType(99)).thenReturn(Optional.empty());
 		petRequestDto.setTypeId(99);
 
 		assertThatThrownBy(() -> petService.updatePet(1, petRequestDto))
@@ -257,7 +312,7 @@ public class PetServiceTest {
 			.hasMessage(PetErrorCode.INVALID_PET_TYPE.getDescription());
 
 		verify(petRepository, times(1)).findByIdAndStatus(1,PetStatus.REGISTERED);
-		verify(petTypeRepository, times(1)).findById(99);
+		verify(referenceDataRegistry, times(1)).findPetType(99);
 		verifyNoInteractions(ownerRepository, petMapper);
 	}
 
@@ -265,7 +320,7 @@ public class PetServiceTest {
 	@DisplayName("Pet 수정 실패 - Invalid Owner")
 	void updatePet_Failure_InvalidOwner() {
 		when(petRepository.findByIdAndStatus(1,PetStatus.REGISTERED)).thenReturn(Optional.of(pet));
-		when(petTypeRepository.findById(1)).thenReturn(Optional.of(petType));
+		when(referenceDataRegistry.findPetType(1)).thenReturn(Optional.of(petType));
 		when(ownerRepository.findById(99)).thenReturn(Optional.empty());
 		petRequestDto.setOwnerId(99);
 
@@ -274,7 +329,7 @@ public class PetServiceTest {
 			.hasMessage(PetErrorCode.INVALID_OWNER.getDescription());
 
 		verify(petRepository, times(1)).findByIdAndStatus(1,PetStatus.REGISTERED);
-		verify(petTypeRepository, times(1)).findById(1);
+		verify(referenceDataRegistry, times(1)).findPetType(1);
 		verify(ownerRepository, times(1)).findById(99);
 		verifyNoInteractions(petMapper);
 	}
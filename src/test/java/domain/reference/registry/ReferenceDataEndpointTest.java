@@ -0,0 +1,96 @@
+package domain.reference.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.domain.reference.dto.ReferenceDataResponseDto;
+import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
+import org.springframework.samples.petclinic.domain.vet.model.Specialty;
+import org.springframework.samples.petclinic.domain.vet.repository.SpecialtyRepository;
+import org.springframework.samples.petclinic.domain.pet.repository.PetTypeRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(classes = PetClinicApplication.class, properties = "actuator.admin.password={noop}test-admin")
+@AutoConfigureMockMvc
+@Transactional
+public class ReferenceDataEndpointTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JwtTokenHelper jwtTokenHelper;
+
+	@Autowired
+	private SpecialtyRepository specialtyRepository;
+
+	@Autowired
+	private PetTypeRepository petTypeRepository;
+
+	@Test
+	@DisplayName("POST /actuator/referencedata - 새로 추가된 전문분야까지 다시 적재")
+	void reload_shouldPickUpNewRows() throws Exception {
+		// given
+		specialtyRepository.save(Specialty.builder().name("치과").build());
+
+		// when
+		MockHttpServletResponse response = mockMvc.perform(
+			post("/actuator/referencedata")
+				.with(httpBasic("admin", "test-admin"))
+		).andReturn().getResponse();
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		ReferenceDataResponseDto responseDto =
+			objectMapper.readValue(response.getContentAsString(), ReferenceDataResponseDto.class);
+		assertThat(responseDto.getSpecialtyCount()).isEqualTo((int) specialtyRepository.count());
+		assertThat(responseDto.getPetTypeCount()).isEqualTo((int) petTypeRepository.count());
+	}
+
+	@Test
+	@DisplayName("POST /actuator/referencedata - 사용자 토큰으로는 다시 적재할 수 없음")
+	void reload_rejectsOwnerToken() throws Exception {
+		// when
+		MockHttpServletResponse response = mockMvc.perform(
+			post("/actuator/referencedata")
+				.header("Authorization", generateTestToken())
+		).andReturn().getResponse();
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+	}
+
+	@Test
+	@DisplayName("POST /actuator/referencedata - 인증 없이는 다시 적재할 수 없음")
+	void reload_rejectsAnonymous() throws Exception {
+		// when
+		MockHttpServletResponse response = mockMvc.perform(post("/actuator/referencedata")).andReturn().getResponse();
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+	}
+
+	private String generateTestToken() {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("ownerId", 1);
+		claims.put("role", "ROLE_USER");
+		return jwtTokenHelper.issueAccessToken(claims).getToken();
+	}
+}
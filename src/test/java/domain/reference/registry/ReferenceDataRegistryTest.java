@@ -0,0 +1,82 @@
+package domain.reference.registry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.domain.pet.model.PetType;
+import org.springframework.samples.petclinic.domain.pet.repository.PetTypeRepository;
+import org.springframework.samples.petclinic.domain.reference.dto.ReferenceDataResponseDto;
+import org.springframework.samples.petclinic.domain.reference.registry.ReferenceDataRegistry;
+import org.springframework.samples.petclinic.domain.vet.model.Specialty;
+import org.springframework.samples.petclinic.domain.vet.repository.SpecialtyRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReferenceDataRegistry 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+	@Mock
+	private SpecialtyRepository specialtyRepository;
+
+	@Mock
+	private PetTypeRepository petTypeRepository;
+
+	@InjectMocks
+	private ReferenceDataRegistry referenceDataRegistry;
+
+	@BeforeEach
+	void setUp() {
+		when(specialtyRepository.findAll()).thenReturn(List.of(
+			Specialty.builder().id(1).name("외과").build(),
+			Specialty.builder().id(3).name("피부과").build()));
+		when(petTypeRepository.findAll()).thenReturn(List.of(PetType.builder().id(2).name("고양이").build()));
+		referenceDataRegistry.load();
+	}
+
+	@Test
+	@DisplayName("아이디로 조회 - DB 를 다시 조회하지 않음")
+	void find_servedFromMemory() {
+		assertThat(referenceDataRegistry.findSpecialty(3)).get().extracting(Specialty::getName).isEqualTo("피부과");
+		assertThat(referenceDataRegistry.findPetType(2)).get().extracting(PetType::getName).isEqualTo("고양이");
+
+		verify(specialtyRepository, times(1)).findAll();
+		verify(petTypeRepository, times(1)).findAll();
+	}
+
+	@Test
+	@DisplayName("없는 아이디 조회 - 빈 값")
+	void find_unknownId() {
+		assertThat(referenceDataRegistry.findSpecialty(2)).isEmpty();
+		assertThat(referenceDataRegistry.findSpecialty(99)).isEmpty();
+		assertThat(referenceDataRegistry.findSpecialty(-1)).isEmpty();
+		assertThat(referenceDataRegistry.findSpecialty(null)).isEmpty();
+		assertThat(referenceDataRegistry.findPetType(1)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다시 적재 - 새 스냅샷으로 교체")
+	void reload_replacesSnapshot() {
+		when(specialtyRepository.findAll()).thenReturn(List.of(Specialty.builder().id(4).name("안과").build()));
+		when(petTypeRepository.findAll()).thenReturn(List.of(
+			PetType.builder().id(1).name("개").build(),
+			PetType.builder().id(2).name("고양이").build()));
+
+		ReferenceDataResponseDto response = referenceDataRegistry.reload();
+
+		assertThat(response.getSpecialtyCount()).isEqualTo(1);
+		assertThat(response.getPetTypeCount()).isEqualTo(2);
+		assertThat(referenceDataRegistry.findSpecialty(1)).isEmpty();
+		assertThat(referenceDataRegistry.findSpecialty(4)).isPresent();
+		assertThat(referenceDataRegistry.findPetType(1)).isPresent();
+	}
+}
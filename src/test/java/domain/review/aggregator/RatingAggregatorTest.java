@@ -0,0 +1,155 @@
+package domain.review.aggregator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
+import org.springframework.samples.petclinic.domain.review.dto.RatingChangeBacklog;
+import org.springframework.samples.petclinic.domain.review.model.RatingChange;
+import org.springframework.samples.petclinic.domain.review.repository.RatingChangeRepository;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
+import org.springframework.samples.petclinic.domain.vet.service.VetService;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RatingAggregator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RatingAggregatorTest {
+
+	private static final int BATCH_SIZE = 3;
+
+	@Mock
+	private RatingChangeRepository ratingChangeRepository;
+
+	@Mock
+	private VetService vetService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private MeterRegistry meterRegistry;
+	private RatingAggregator ratingAggregator;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		ratingAggregator = new RatingAggregator(ratingChangeRepository, vetService, transactionManager, meterRegistry,
+			BATCH_SIZE);
+	}
+
+	@Test
+	@DisplayName("변경은 리뷰 트랜잭션 안에서 rating_change 에 기록되고, 점수가 그대로면 기록하지 않음")
+	void submit_recordsChange() {
+		ratingAggregator.submit(1, RatingDelta.added(5));
+		ratingAggregator.submit(1, RatingDelta.changed(3, 3));
+
+		verify(ratingChangeRepository).save(any(RatingChange.class));
+		verify(vetService, never()).addRatings(anyMap());
+	}
+
+	@Test
+	@DisplayName("같은 수의사의 변경은 UPDATE 한 번으로 합쳐 반영하고, 읽은 변경은 같은 트랜잭션에서 삭제")
+	void flush_coalescesPerVet() {
+		when(ratingChangeRepository.findPendingForUpdate(BATCH_SIZE)).thenReturn(
+			List.of(change(10, 1, RatingDelta.added(5)), change(11, 1, RatingDelta.added(3)),
+				change(12, 2, RatingDelta.added(4))),
+			List.of(change(13, 1, RatingDelta.removed(5))),
+			List.of());
+		when(vetService.addRatings(anyMap())).thenAnswer(invocation -> ((Map<?, ?>) invocation.getArgument(0)).size());
+		when(ratingChangeRepository.findBacklog()).thenReturn(backlog(0, 0, 0));
+
+		ratingAggregator.flush();
+
+		verify(vetService).addRatings(Map.of(1, RatingDelta.added(5).plus(RatingDelta.added(3)), 2, RatingDelta.added(4)));
+		verify(vetService).addRatings(Map.of(1, RatingDelta.removed(5)));
+		verify(ratingChangeRepository).deleteAllByIdInBatch(List.of(10, 11, 12));
+		verify(ratingChangeRepository).deleteAllByIdInBatch(List.of(13));
+		assertThat(meterRegistry.get("rating.aggregator.flushed").counter().count()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("서로 상쇄된 변경은 UPDATE 없이 삭제만")
+	void flush_skipsNetZeroChange() {
+		when(ratingChangeRepository.findPendingForUpdate(BATCH_SIZE))
+			.thenReturn(List.of(change(10, 1, RatingDelta.added(5)), change(11, 1, RatingDelta.removed(5))));
+		when(ratingChangeRepository.findBacklog()).thenReturn(backlog(0, 0, 0));
+
+		ratingAggregator.flush();
+
+		verify(vetService, never()).addRatings(anyMap());
+		verify(vetService, never()).addRatings(anyInt(), any(RatingDelta.class));
+		verify(ratingChangeRepository).deleteAllByIdInBatch(List.of(10, 11));
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 변경을 지우지 않으므로 다음 주기에 다시 반영")
+	void flush_keepsFailedChange() {
+		when(ratingChangeRepository.findPendingForUpdate(BATCH_SIZE))
+			.thenReturn(List.of(change(10, 1, RatingDelta.added(5))));
+		when(vetService.addRatings(anyMap())).thenThrow(new IllegalStateException("db down")).thenReturn(1);
+		when(ratingChangeRepository.findBacklog()).thenReturn(backlog(1, 1, 2_500), backlog(0, 0, 0));
+
+		ratingAggregator.flush();
+		verify(ratingChangeRepository, never()).deleteAllByIdInBatch(any());
+		assertThat(gauge("rating.aggregator.queue.depth")).isEqualTo(1);
+		assertThat(gauge("rating.aggregator.pending.vets")).isEqualTo(1);
+		assertThat(gauge("rating.aggregator.lag")).isEqualTo(2.5);
+
+		ratingAggregator.flush();
+		verify(ratingChangeRepository).deleteAllByIdInBatch(List.of(10));
+		assertThat(gauge("rating.aggregator.queue.depth")).isZero();
+		assertThat(gauge("rating.aggregator.lag")).isZero();
+	}
+
+	private static RatingChange change(int id, int vetId, RatingDelta delta) {
+		return RatingChange.builder()
+			.id(id)
+			.vetId(vetId)
+			.star1(delta.star1())
+			.star2(delta.star2())
+			.star3(delta.star3())
+			.star4(delta.star4())
+			.star5(delta.star5())
+			.build();
+	}
+
+	private static RatingChangeBacklog backlog(long depth, long vets, long lagMillis) {
+		return new RatingChangeBacklog() {
+			@Override
+			public Long getDepth() {
+				return depth;
+			}
+
+			@Override
+			public Long getVets() {
+				return vets;
+			}
+
+			@Override
+			public Long getLagMillis() {
+				return lagMillis;
+			}
+		};
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).gauge().value();
+	}
+}
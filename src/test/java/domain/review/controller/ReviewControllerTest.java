@@ -13,12 +13,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.common.page.CursorPage;
 import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
 import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
 import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.HashMap;
@@ -110,10 +112,10 @@ public class ReviewControllerTest {
 
 		// then: 응답 상태 코드가 200이고, 리뷰 데이터가 반환되어야 한다
 		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
-		ReviewResponseDto[] reviewResponseDtos = objectMapper.readValue(response.getContentAsString(), ReviewResponseDto[].class);
-		assertThat(reviewResponseDtos).hasSize(2);
-		assertThat(reviewResponseDtos[0].getContent()).isEqualTo("이 분 믿을만합니다 아주 실력이 좋아요");
-		assertThat(reviewResponseDtos[1].getContent()).isEqualTo("베리 굳입니다 굳굳 재방문의사있음");
+		CursorPage<ReviewResponseDto> reviewResponseDtos = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
+		assertThat(reviewResponseDtos.getContent()).hasSize(2);
+		assertThat(reviewResponseDtos.getContent().get(0).getContent()).isEqualTo("이 분 믿을만합니다 아주 실력이 좋아요");
+		assertThat(reviewResponseDtos.getContent().get(1).getContent()).isEqualTo("베리 굳입니다 굳굳 재방문의사있음");
 	}
 
 	@Test
@@ -162,9 +164,45 @@ public class ReviewControllerTest {
 
 		// then: 응답 상태 코드가 200이고, 사용자의 예약 데이터가 반횐되어야 한다
 		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
-		ReviewResponseDto[] reviewResponseDto = objectMapper.readValue(response.getContentAsString(), ReviewResponseDto[].class);
-		assertThat(reviewResponseDto[0].getOwnerId()).isEqualTo(1);
-		assertThat(reviewResponseDto[0].getContent()).isEqualTo("Test Review");
+		CursorPage<ReviewResponseDto> reviews = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
+		assertThat(reviews.getContent()).hasSize(1);
+		assertThat(reviews.getContent().get(0).getOwnerId()).isEqualTo(1);
+		assertThat(reviews.getContent().get(0).getContent()).isEqualTo("Test Review");
+		assertThat(reviews.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("GET /review/my - 최신순으로 조회하고 nextCursor 로 다음 페이지를 이어서 조회한다")
+	void readMyReviews_shouldPageNewestFirst() throws Exception {
+		// given: 세 개의 리뷰를 순서대로 생성
+		for (int i = 1; i <= 3; i++) {
+			mockMvc.perform(post("/review")
+					.header("Authorization", token)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(createReviewRequestDto(5, "Review " + i, 1))))
+				.andReturn().getResponse();
+		}
+
+		// when: 두 개씩 조회
+		CursorPage<ReviewResponseDto> first = readPage("/review/my?limit=2");
+		CursorPage<ReviewResponseDto> second = readPage("/review/my?limit=2&after=" + first.getNextCursor());
+
+		// then: 가장 최근 리뷰부터 반환되고 마지막 페이지에는 커서가 없어야 한다
+		assertThat(first.getContent()).extracting(ReviewResponseDto::getContent).containsExactly("Review 3", "Review 2");
+		assertThat(first.getNextCursor()).isNotNull();
+		assertThat(second.getContent()).extracting(ReviewResponseDto::getContent).containsExactly("Review 1");
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("GET /review/my - 잘못된 커서로 조회하면 400 을 반환한다")
+	void readMyReviews_withInvalidCursor_shouldReturnBadRequest() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(get("/review/my")
+				.param("after", "not-a-cursor")
+				.header("Authorization", token))
+			.andReturn().getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
 	}
 
 	@Test
@@ -190,8 +228,18 @@ public class ReviewControllerTest {
 
 		// then: 응답 상태 코드가 200이고, 반환된 데이터 수의사 ID가 일치해야 한다
 		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
-		ReviewResponseDto[] reviewResponseDto = objectMapper.readValue(response.getContentAsString(), ReviewResponseDto[].class);
-		assertThat(reviewResponseDto[0].getVetId()).isEqualTo(vetId);
+		CursorPage<ReviewResponseDto> reviews = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
+		assertThat(reviews.getContent()).isNotEmpty();
+		assertThat(reviews.getContent()).allMatch(review -> review.getVetId().equals(vetId));
+	}
+
+	private CursorPage<ReviewResponseDto> readPage(String url) throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(get(url)
+				.header("Authorization", token)
+				.contentType(MediaType.APPLICATION_JSON))
+			.andReturn().getResponse();
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		return objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
 	}
 
 	@Test
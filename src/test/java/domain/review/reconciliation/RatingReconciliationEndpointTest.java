@@ -0,0 +1,96 @@
+package domain.review.reconciliation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.domain.review.reconciliation.RatingReconciliationJob;
+import org.springframework.samples.petclinic.domain.review.reconciliation.RatingReconciliationResult;
+import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * actuator 엔드포인트 접근 제어 테스트
+ */
+@SpringBootTest(classes = PetClinicApplication.class, properties = "actuator.admin.password={noop}test-admin")
+@AutoConfigureMockMvc
+public class RatingReconciliationEndpointTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenHelper jwtTokenHelper;
+
+	@MockitoBean
+	private RatingReconciliationJob ratingReconciliationJob;
+
+	@Test
+	@DisplayName("POST /actuator/ratingreconciliation - 사용자 토큰으로는 실행할 수 없음")
+	void reconcile_rejectsOwnerToken() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(
+			post("/actuator/ratingreconciliation")
+				.header("Authorization", generateTestToken())
+		).andReturn().getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+		verify(ratingReconciliationJob, never()).reconcile();
+	}
+
+	@Test
+	@DisplayName("POST /actuator/ratingreconciliation - 운영자 계정이 아니면 거절")
+	void reconcile_rejectsWrongPassword() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(
+			post("/actuator/ratingreconciliation")
+				.with(httpBasic("admin", "wrong"))
+		).andReturn().getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+		verify(ratingReconciliationJob, never()).reconcile();
+	}
+
+	@Test
+	@DisplayName("POST /actuator/ratingreconciliation - 운영자 계정으로 실행")
+	void reconcile_allowsAdmin() throws Exception {
+		when(ratingReconciliationJob.reconcile()).thenReturn(new RatingReconciliationResult(0, 0, 0, 0, 0));
+
+		MockHttpServletResponse response = mockMvc.perform(
+			post("/actuator/ratingreconciliation")
+				.with(httpBasic("admin", "test-admin"))
+		).andReturn().getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		verify(ratingReconciliationJob).reconcile();
+	}
+
+	@Test
+	@DisplayName("GET /actuator/health - 인증 없이 접근 가능")
+	void health_isPublic() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(get("/actuator/health")).andReturn().getResponse();
+
+		assertThat(response.getStatus()).isNotEqualTo(HttpStatus.UNAUTHORIZED.value());
+	}
+
+	private String generateTestToken() {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("ownerId", 1);
+		claims.put("role", "ROLE_USER");
+		return jwtTokenHelper.issueAccessToken(claims).getToken();
+	}
+}
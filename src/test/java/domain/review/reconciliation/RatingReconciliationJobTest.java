@@ -0,0 +1,147 @@
+package domain.review.reconciliation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewScoreRow;
+import org.springframework.samples.petclinic.domain.review.reconciliation.RatingReconciliationJob;
+import org.springframework.samples.petclinic.domain.review.reconciliation.RatingReconciliationResult;
+import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
+import org.springframework.samples.petclinic.domain.vet.model.RatingHistogram;
+import org.springframework.samples.petclinic.domain.vet.model.Vet;
+import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
+import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.vet.service.VetService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RatingReconciliationJob 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RatingReconciliationJobTest {
+
+	private static final int CHUNK_SIZE = 3;
+
+	@Mock
+	private ReviewRepository reviewRepository;
+
+	@Mock
+	private VetRepository vetRepository;
+
+	@Mock
+	private VetService vetService;
+
+	@Mock
+	private RatingAggregator ratingAggregator;
+
+	private MeterRegistry meterRegistry;
+	private RatingReconciliationJob job;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		job = new RatingReconciliationJob(reviewRepository, vetRepository, vetService, ratingAggregator,
+			meterRegistry, CHUNK_SIZE, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		job.shutdown();
+	}
+
+	@Test
+	@DisplayName("청크 단위로 세어 집계가 어긋난 수의사만 재계산")
+	void reconcile_rebuildsOnlyDriftedVets() {
+		// 수의사 1: 5, 4, 4 / 수의사 2: 1, 3 / 수의사 3: 리뷰 없음
+		when(reviewRepository.findScoreRowsAfter(0, Limit.of(CHUNK_SIZE)))
+			.thenReturn(List.of(row(1, 1, 5), row(2, 2, 1), row(3, 1, 4)));
+		when(reviewRepository.findScoreRowsAfter(3, Limit.of(CHUNK_SIZE)))
+			.thenReturn(List.of(row(4, 1, 4), row(6, 2, 3)));
+		when(vetRepository.findByIdGreaterThanOrderById(eq(0), any(Limit.class))).thenReturn(List.of(
+			vet(1, 13L, 3, new RatingHistogram(0, 0, 0, 2, 1)),
+			vet(2, 5L, 2, new RatingHistogram(1, 0, 0, 1, 0)),
+			vet(3, 4L, 1, new RatingHistogram(0, 0, 0, 1, 0))));
+
+		RatingReconciliationResult result = job.reconcile();
+
+		assertThat(result.scannedReviews()).isEqualTo(5);
+		assertThat(result.checkedVets()).isEqualTo(3);
+		assertThat(result.correctedVets()).isEqualTo(2);
+		assertThat(result.rowsPerSecond()).isPositive();
+		verify(ratingAggregator).flush();
+		verify(vetService).rebuildRatings(List.of(2, 3));
+		assertThat(meterRegistry.get("rating.reconciliation.corrected").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("rating.reconciliation.rows").counter().count()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("나눠서 센 큰 청크도 정확히 합산되며, 어긋난 수의사가 없으면 재계산하지 않음")
+	void reconcile_splitsLargeChunks() {
+		job = new RatingReconciliationJob(reviewRepository, vetRepository, vetService, ratingAggregator,
+			meterRegistry, 10_000, 4);
+		List<ReviewScoreRow> rows = new ArrayList<>();
+		for (int id = 1; id <= 9_000; id++) {
+			rows.add(row(id, id % 2 + 1, id % 5 + 1));
+		}
+		when(reviewRepository.findScoreRowsAfter(0, Limit.of(10_000))).thenReturn(rows);
+		// id % 2 == 1 -> 수의사 2, id % 5 로 별점이 고르게 분포 (수의사마다 별점당 900건)
+		when(vetRepository.findByIdGreaterThanOrderById(eq(0), any(Limit.class))).thenReturn(List.of(
+			vet(1, 13_500L, 4_500, new RatingHistogram(900, 900, 900, 900, 900)),
+			vet(2, 13_500L, 4_500, new RatingHistogram(900, 900, 900, 900, 900))));
+
+		RatingReconciliationResult result = job.reconcile();
+
+		assertThat(result.scannedReviews()).isEqualTo(9_000);
+		assertThat(result.correctedVets()).isZero();
+		verify(vetService, never()).rebuildRatings(anyList());
+	}
+
+	@Test
+	@DisplayName("리뷰가 없으면 모든 수의사의 집계가 0 이어야 함")
+	void reconcile_withoutReviews() {
+		when(reviewRepository.findScoreRowsAfter(anyInt(), any(Limit.class))).thenReturn(List.of());
+		when(vetRepository.findByIdGreaterThanOrderById(eq(0), any(Limit.class))).thenReturn(List.of(
+			vet(1, 0L, 0, RatingHistogram.empty()),
+			vet(2, 3L, 1, new RatingHistogram(0, 0, 1, 0, 0))));
+
+		RatingReconciliationResult result = job.reconcile();
+
+		assertThat(result.scannedReviews()).isZero();
+		assertThat(result.correctedVets()).isEqualTo(1);
+		verify(vetService).rebuildRatings(List.of(2));
+	}
+
+	private static ReviewScoreRow row(int id, int vetId, int score) {
+		return new ReviewScoreRow(id, vetId, score);
+	}
+
+	private static Vet vet(int id, long scoreSum, int reviewCount, RatingHistogram histogram) {
+		return Vet.builder()
+			.id(id)
+			.name("수의사" + id)
+			.scoreSum(scoreSum)
+			.reviewCount(reviewCount)
+			.ratingHistogram(histogram)
+			.status(VetStatus.REGISTERED)
+			.build();
+	}
+}
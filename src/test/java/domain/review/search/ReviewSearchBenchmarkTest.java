@@ -0,0 +1,90 @@
+package domain.review.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchFilter;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchIndex;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 검색 색인 벤치마크 - 합성 리뷰 100만 건
+ * <p>
+ * 색인 구축 시간과 힙 사용량, 질의 유형별 지연 시간(p50/p99)을 출력한다.<br>
+ * 실행: ./gradlew test --tests '*ReviewSearchBenchmarkTest' -Dbenchmark=true
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReviewSearchBenchmarkTest {
+
+	private static final int REVIEWS = 1_000_000;
+	private static final int VETS = 500;
+	private static final int QUERIES = 2_000;
+
+	private static final String[] PHRASES = {
+		"선생님이 정말 친절하세요", "설명을 자세히 해주셨어요", "대기 시간이 길었어요", "주차가 불편했습니다",
+		"강아지가 무서워하지 않았어요", "고양이 중성화 수술 잘 받았습니다", "진료비가 합리적이에요", "예약이 편리했어요",
+		"the vet was very kind", "clean clinic and friendly staff", "waiting time was too long", "great with cats",
+		"피부 질환 치료 효과가 좋았어요", "야간 진료가 가능해서 다행이었어요", "재방문 의사 있습니다", "x-ray 검사 결과를 꼼꼼히 설명"
+	};
+
+	private static final String[] QUERIES_BY_KIND = {"친절", "중성화 수술", "friendly staff", "야간 진료 가능"};
+
+	@Test
+	@DisplayName("합성 리뷰 100만 건 색인 후 검색 지연 시간 측정")
+	void benchmark() {
+		Random random = new Random(42);
+		ReviewSearchIndex index = new ReviewSearchIndex(null);
+
+		long heapBefore = usedHeap();
+		long buildStart = System.nanoTime();
+		StringBuilder content = new StringBuilder();
+		for (int id = 1; id <= REVIEWS; id++) {
+			content.setLength(0);
+			int phrases = 2 + random.nextInt(3);
+			for (int i = 0; i < phrases; i++) {
+				content.append(PHRASES[random.nextInt(PHRASES.length)]).append(' ');
+			}
+			index.upsert(id, 1 + random.nextInt(VETS), 1 + random.nextInt(5), content.toString());
+		}
+		long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStart);
+		System.out.printf("build: %,d reviews in %,d ms (%,.0f reviews/s), heap +%,d MB%n",
+			REVIEWS, buildMillis, REVIEWS * 1000.0 / Math.max(buildMillis, 1), (usedHeap() - heapBefore) >> 20);
+		assertThat(index.size()).isEqualTo(REVIEWS);
+
+		for (String query : QUERIES_BY_KIND) {
+			measure(index, query, ReviewSearchFilter.NONE, "all vets");
+			measure(index, query, new ReviewSearchFilter(7, 4, 5), "vet 7, score 4-5");
+		}
+	}
+
+	private static void measure(ReviewSearchIndex index, String query, ReviewSearchFilter filter, String label) {
+		for (int i = 0; i < QUERIES / 10; i++) {
+			index.search(query, filter, 20);
+		}
+		long[] latencies = new long[QUERIES];
+		int hits = 0;
+		for (int i = 0; i < QUERIES; i++) {
+			long start = System.nanoTime();
+			hits = index.search(query, filter, 20).size();
+			latencies[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(latencies);
+		System.out.printf("query '%s' (%s): %d hits, p50 %.2f ms, p99 %.2f ms%n", query, label, hits,
+			latencies[QUERIES / 2] / 1e6, latencies[QUERIES * 99 / 100] / 1e6);
+		assertThat(hits).isPositive();
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,142 @@
+package domain.review.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
+import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchFilter;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchHit;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchIndex;
+import org.springframework.samples.petclinic.domain.review.search.ReviewTokenizer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReviewSearchIndex / ReviewTokenizer 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReviewSearchIndexTest {
+
+	@Mock
+	private ReviewRepository reviewRepository;
+
+	private ReviewSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ReviewSearchIndex(reviewRepository);
+	}
+
+	@Test
+	@DisplayName("한글은 두 글자씩, 영문은 소문자 단어로 토큰화")
+	void tokenize_koreanBigramsAndEnglishWords() {
+		assertThat(ReviewTokenizer.tokenize("선생님이 Very 친절해요! x-ray 검사"))
+			.containsExactly("선생", "생님", "님이", "very", "친절", "절해", "해요", "ray", "검사");
+		assertThat(ReviewTokenizer.tokenize("개")).containsExactly("개");
+		assertThat(ReviewTokenizer.tokenize("  !! ")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("조사/어미가 달라도 검색되고, 더 많이 일치하는 리뷰가 먼저 나옴")
+	void search_ranksByRelevance() {
+		index.upsert(1, 10, 5, "선생님이 정말 친절하시고 설명을 잘 해주셨어요");
+		index.upsert(2, 10, 4, "대기 시간이 길었지만 진료는 꼼꼼했습니다");
+		index.upsert(3, 20, 2, "친절한 선생님 덕분에 강아지가 편안했어요");
+		index.upsert(4, 20, 5, "The vet was very kind and the clinic was clean");
+
+		List<ReviewSearchHit> hits = index.search("친절한 선생님", ReviewSearchFilter.NONE, 10);
+
+		assertThat(hits).extracting(ReviewSearchHit::reviewId).containsExactly(3, 1);
+		assertThat(hits.get(0).relevance()).isGreaterThan(hits.get(1).relevance());
+		assertThat(index.search("KIND vet", ReviewSearchFilter.NONE, 10))
+			.extracting(ReviewSearchHit::reviewId).containsExactly(4);
+	}
+
+	@Test
+	@DisplayName("수의사와 점수 범위로 결과를 거름")
+	void search_appliesFilters() {
+		index.upsert(1, 10, 5, "친절하고 꼼꼼한 진료");
+		index.upsert(2, 20, 5, "친절하고 빠른 진료");
+		index.upsert(3, 20, 1, "친절했지만 비쌌어요");
+
+		assertThat(index.search("친절", new ReviewSearchFilter(20, 1, 5), 10))
+			.extracting(ReviewSearchHit::reviewId).containsExactlyInAnyOrder(2, 3);
+		assertThat(index.search("친절", new ReviewSearchFilter(20, 4, 5), 10))
+			.extracting(ReviewSearchHit::reviewId).containsExactly(2);
+		assertThat(index.search("친절", ReviewSearchFilter.NONE, 1)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("수정하면 이전 내용으로는 검색되지 않고, 삭제하면 결과에서 빠짐")
+	void upsertAndRemove_updateIncrementally() {
+		index.upsert(1, 10, 5, "주차가 편리해요");
+		index.upsert(1, 10, 3, "대기실이 넓어요");
+
+		assertThat(index.search("주차", ReviewSearchFilter.NONE, 10)).isEmpty();
+		assertThat(index.search("대기실", ReviewSearchFilter.NONE, 10)).extracting(ReviewSearchHit::reviewId).containsExactly(1);
+
+		index.remove(1);
+
+		assertThat(index.search("대기실", ReviewSearchFilter.NONE, 10)).isEmpty();
+		assertThat(index.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안의 변경은 커밋된 뒤에만 반영")
+	void upsert_appliesAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			index.upsert(1, 10, 5, "주차가 편리해요");
+			assertThat(index.size()).isZero();
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			assertThat(index.size()).isEqualTo(1);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("재구성 시 review 테이블 전체를 다시 색인")
+	void rebuild_replacesIndexFromTable() {
+		index.upsert(99, 10, 5, "사라질 리뷰 내용입니다");
+		when(reviewRepository.findSearchRowsAfter(0, Limit.of(5_000))).thenReturn(List.of(
+			new ReviewResponseDto(1, 5, "주차가 편리해요", null, 10, 1),
+			new ReviewResponseDto(2, 4, "대기실이 넓어요", null, 10, 2)));
+
+		index.rebuild();
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.search("사라질", ReviewSearchFilter.NONE, 10)).isEmpty();
+		assertThat(index.search("주차", ReviewSearchFilter.NONE, 10)).extracting(ReviewSearchHit::reviewId).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("재구성 중 반영된 등록/삭제는 교체 후에도 유지")
+	void rebuild_keepsMutationsMadeDuringRebuild() {
+		when(reviewRepository.findSearchRowsAfter(0, Limit.of(5_000))).thenAnswer(invocation -> {
+			// 테이블을 읽은 뒤, 교체 전에 커밋된 변경
+			index.upsert(3, 20, 5, "진료실이 깨끗해요");
+			index.remove(1);
+			return List.of(
+				new ReviewResponseDto(1, 5, "주차가 편리해요", null, 10, 1),
+				new ReviewResponseDto(2, 4, "대기실이 넓어요", null, 10, 2));
+		});
+
+		index.rebuild();
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.search("주차", ReviewSearchFilter.NONE, 10)).isEmpty();
+		assertThat(index.search("진료실", ReviewSearchFilter.NONE, 10)).extracting(ReviewSearchHit::reviewId).containsExactly(3);
+	}
+}
@@ -12,12 +12,15 @@ import org.springframework.samples.petclinic.common.error.VetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
 import org.springframework.samples.petclinic.domain.owner.repository.OwnerRepository;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewRequestDto;
 import org.springframework.samples.petclinic.domain.review.mapper.ReviewMapper;
 import org.springframework.samples.petclinic.domain.review.model.Review;
 import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchIndex;
 import org.springframework.samples.petclinic.domain.review.service.CreateReviewService;
 import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
 
@@ -26,6 +29,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +44,12 @@ public class CreateReviewServiceTest {
 	@Mock
 	private VetService vetService;
 
+	@Mock
+	private RatingAggregator ratingAggregator;
+
+	@Mock
+	private ReviewSearchIndex reviewSearchIndex;
+
 	@Mock
 	private VetRepository vetRepository;
 
@@ -67,7 +77,7 @@ public class CreateReviewServiceTest {
 	void validRequest_createReview_createSuccessfully() {
 		// given
 		when(ownerRepository.findById(1)).thenReturn(Optional.of(mockOwner));
-		when(vetService.getVetOrThrow(1)).thenReturn(mockVet);
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
 		when(reviewMapper.toEntity(request, mockOwner, mockVet)).thenReturn(mockReview);
 		when(reviewRepository.save(any(Review.class))).thenReturn(mockReview);
 
@@ -79,6 +89,8 @@ public class CreateReviewServiceTest {
 		assertThat(review.getContent()).isEqualTo("Test Review");
 		assertThat(review.getOwner()).isEqualTo(mockOwner);
 		assertThat(review.getVet()).isEqualTo(mockVet);
+		verify(ratingAggregator).submit(1, RatingDelta.added(5));
+		verify(reviewSearchIndex).upsert(1, 1, 5, "Test Review");
 	}
 
 	@Test
@@ -95,7 +107,7 @@ public class CreateReviewServiceTest {
 	@DisplayName("리뷰 생성 실패 - 유효하지 않은 수의사 ID가 제공되었을 때, 예외가 발생한다")
 	void invalidVetId_createReview_throwsException() {
 		// given
-		when(vetService.getVetOrThrow(1)).thenThrow(new ApiException(VetErrorCode.NO_VET));
+		when(vetService.getVetReferenceOrThrow(1)).thenThrow(new ApiException(VetErrorCode.NO_VET));
 
 		// when & then
 		assertThrows(ApiException.class, () -> createReviewService.createReview(request, mockOwner.getId()));
@@ -207,6 +219,7 @@ public class CreateReviewServiceTest {
 
 	private void createMockReviewTestData() {
 		mockReview = Review.builder()
+			.id(1)
 			.score(request.getScore())
 			.content(request.getContent())
 			.owner(mockOwner)
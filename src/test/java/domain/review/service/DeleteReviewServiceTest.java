@@ -12,9 +12,12 @@ import org.springframework.samples.petclinic.common.error.ReviewErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
 import org.springframework.samples.petclinic.domain.owner.repository.OwnerRepository;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
 import org.springframework.samples.petclinic.domain.review.model.Review;
 import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchIndex;
 import org.springframework.samples.petclinic.domain.review.service.DeleteReviewService;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
@@ -37,6 +40,12 @@ public class DeleteReviewServiceTest {
 	@Mock
 	private VetService vetService;
 
+	@Mock
+	private RatingAggregator ratingAggregator;
+
+	@Mock
+	private ReviewSearchIndex reviewSearchIndex;
+
 	@Mock
 	private OwnerRepository ownerRepository;
 
@@ -59,7 +68,7 @@ public class DeleteReviewServiceTest {
 		// given
 		when(ownerRepository.findById(1)).thenReturn(Optional.of(mockOwner));
 		when(reviewRepository.findById(1)).thenReturn(Optional.of(mockReview));
-		when(vetService.getVetOrThrow(1)).thenReturn(mockReview.getVet());
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockReview.getVet());
 
 		// when
 		deleteReviewService.deleteReview(1, 1);
@@ -68,7 +77,9 @@ public class DeleteReviewServiceTest {
 		verify(ownerRepository, times(1)).findById(1);
 		verify(reviewRepository, times(1)).findById(1);
 		verify(reviewRepository, times(1)).delete(mockReview);
-		verify(vetService, times(1)).getVetOrThrow(1);
+		verify(vetService, times(1)).getVetReferenceOrThrow(1);
+		verify(ratingAggregator, times(1)).submit(1, RatingDelta.removed(5));
+		verify(reviewSearchIndex, times(1)).remove(1);
 	}
 
 	@Test
@@ -7,9 +7,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.samples.petclinic.common.error.ReviewErrorCode;
+import org.springframework.data.domain.Limit;
+import org.springframework.samples.petclinic.common.error.PageErrorCode;
 import org.springframework.samples.petclinic.common.error.VetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.common.page.TimeCursorRequest;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
 import org.springframework.samples.petclinic.domain.review.mapper.ReviewMapper;
@@ -20,6 +24,7 @@ import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
 import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +35,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class ReadReviewServiceTest {
 
+	private static final TimeCursorRequest FIRST_PAGE = TimeCursorRequest.first();
+
 	@InjectMocks
 	private ReadReviewService readReviewService;
 
@@ -60,72 +67,95 @@ public class ReadReviewServiceTest {
 	@DisplayName("리뷰 조회 성공 - 전체 리뷰 반환")
 	void findAllReviews_returnReviewList() {
 		// given
-		when(reviewRepository.findAll()).thenReturn(List.of(mockReview));
+		when(reviewRepository.findByIdGreaterThanOrderById(0, Limit.of(21))).thenReturn(List.of(mockReview));
 		when(reviewMapper.toDto(mockReview)).thenReturn(mockResponse);
 
 		// when
-		List<ReviewResponseDto> reviews = readReviewService.findAllReviews();
+		CursorPage<ReviewResponseDto> reviews = readReviewService.findAllReviews(CursorRequest.first());
 
 		// then
-		assertThat(reviews).hasSize(1);
-		assertThat(reviews.get(0).getOwnerId()).isEqualTo(1);
-		assertThat(reviews.get(0).getContent()).isEqualTo("Test Review");
+		assertThat(reviews.getContent()).hasSize(1);
+		assertThat(reviews.getContent().get(0).getOwnerId()).isEqualTo(1);
+		assertThat(reviews.getContent().get(0).getContent()).isEqualTo("Test Review");
+		assertThat(reviews.getNextCursor()).isNull();
 	}
 
 	@Test
 	@DisplayName("리뷰 조회 실패 - 리뷰가 없으면 빈 리스트 반환")
 	void findAllReviews_returnEmptyList() {
 		// given
-		when(reviewRepository.findAll()).thenReturn(List.of());
+		when(reviewRepository.findByIdGreaterThanOrderById(0, Limit.of(21))).thenReturn(List.of());
 
 		// when
-		List<ReviewResponseDto> reviews = readReviewService.findAllReviews();
+		CursorPage<ReviewResponseDto> reviews = readReviewService.findAllReviews(CursorRequest.first());
 
 		// then
-		assertThat(reviews).isEmpty();
+		assertThat(reviews.getContent()).isEmpty();
+		assertThat(reviews.getNextCursor()).isNull();
 	}
 
 	@Test
-	@DisplayName("리뷰 조회 성공 - 유효한 Owner ID로 리뷰를 조회하면 해당 리뷰 목록을 반환한다")
-	void validOwnerId_findMyReviews_returnReviewList() {
+	@DisplayName("리뷰 조회 성공 - 유효한 Owner ID로 리뷰를 조회하면 최신순 리뷰 페이지를 반환한다")
+	void validOwnerId_findMyReviews_returnReviewPage() {
 		// given
-		when(reviewRepository.findByOwnerId(1)).thenReturn(Optional.of(List.of(mockReview)));
-		when(reviewMapper.toDto(mockReview)).thenReturn(mockResponse);
+		when(reviewRepository.findOwnerFeed(1, FIRST_PAGE.createdAtBound(), Integer.MAX_VALUE, Limit.of(21)))
+			.thenReturn(List.of(mockResponse));
 
 		// when
-		List<ReviewResponseDto> reviews = readReviewService.findMyReviews(1);
+		CursorPage<ReviewResponseDto> reviews = readReviewService.findMyReviews(1, FIRST_PAGE);
 
 		// then
-		assertThat(reviews).hasSize(1);
-		assertThat(reviews.get(0).getOwnerId()).isEqualTo(1);
-		assertThat(reviews.get(0).getContent()).isEqualTo("Test Review");
+		assertThat(reviews.getContent()).hasSize(1);
+		assertThat(reviews.getContent().get(0).getOwnerId()).isEqualTo(1);
+		assertThat(reviews.getContent().get(0).getContent()).isEqualTo("Test Review");
+		assertThat(reviews.getNextCursor()).isNull();
 	}
 
 	@Test
-	@DisplayName("리뷰 조회 실패 - Owner ID로 조회 시 리뷰가 없으면 예외가 발생한다")
-	void invalidOwnerId_findMyReviews_throwApiException() {
+	@DisplayName("리뷰 조회 성공 - 다음 페이지가 있으면 마지막 항목의 (작성 시각, 아이디) 를 커서로 반환한다")
+	void findMyReviews_returnNextCursor() {
 		// given
-		when(reviewRepository.findByOwnerId(1)).thenThrow(new ApiException(ReviewErrorCode.NO_REVIEW));
+		LocalDateTime createdAt = LocalDateTime.of(2026, 1, 2, 10, 30, 15);
+		ReviewResponseDto newest = ReviewResponseDto.builder().id(9).ownerId(1).createAt(createdAt).build();
+		ReviewResponseDto older = ReviewResponseDto.builder().id(4).ownerId(1).createAt(createdAt.minusDays(1)).build();
+		when(reviewRepository.findOwnerFeed(1, FIRST_PAGE.createdAtBound(), Integer.MAX_VALUE, Limit.of(2)))
+			.thenReturn(List.of(newest, older));
 
-		// when & then
-		assertThrows(ApiException.class, () -> readReviewService.findMyReviews(1));
+		// when
+		CursorPage<ReviewResponseDto> reviews = readReviewService.findMyReviews(1, TimeCursorRequest.of(null, 1));
+
+		// then
+		assertThat(reviews.getContent()).containsExactly(newest);
+		assertThat(reviews.getNextCursor()).isEqualTo("2026-01-02T10:30:15_9");
+
+		TimeCursorRequest next = TimeCursorRequest.of(reviews.getNextCursor(), 1);
+		assertThat(next.createdAtBound()).isEqualTo(createdAt);
+		assertThat(next.idBound()).isEqualTo(9);
+	}
+
+	@Test
+	@DisplayName("리뷰 조회 실패 - 형식이 잘못된 커서는 예외가 발생한다")
+	void invalidCursor_throwApiException() {
+		ApiException exception = assertThrows(ApiException.class, () -> TimeCursorRequest.of("2026-01-02_abc", 10));
+
+		assertThat(exception.getErrorCodeInterface()).isEqualTo(PageErrorCode.INVALID_CURSOR);
 	}
 
 	@Test
-	@DisplayName("수의사 리뷰 조회 성공 - 유효한 Vet ID로 리뷰를 조회하면 해당 리뷰 목록을 반환한다")
-	void validVetId_findVetReviews_returnReviewList() {
+	@DisplayName("수의사 리뷰 조회 성공 - 유효한 Vet ID로 리뷰를 조회하면 해당 리뷰 페이지를 반환한다")
+	void validVetId_findVetReviews_returnReviewPage() {
 		// given
 		when(vetRepository.findByIdAndStatus(1, VetStatus.REGISTERED)).thenReturn(Optional.of(mockVet));
-		when(reviewRepository.findByVetId(1)).thenReturn(Optional.of(List.of(mockReview)));
-		when(reviewMapper.toDto(mockReview)).thenReturn(mockResponse);
+		when(reviewRepository.findVetFeed(1, FIRST_PAGE.createdAtBound(), Integer.MAX_VALUE, Limit.of(21)))
+			.thenReturn(List.of(mockResponse));
 
 		// when
-		List<ReviewResponseDto> reviews = readReviewService.findVetReviews(1);
+		CursorPage<ReviewResponseDto> reviews = readReviewService.findVetReviews(1, FIRST_PAGE);
 
 		// then
-		assertThat(reviews).hasSize(1);
-		assertThat(reviews.get(0).getVetId()).isEqualTo(1);
-		assertThat(reviews.get(0).getContent()).isEqualTo("Test Review");
+		assertThat(reviews.getContent()).hasSize(1);
+		assertThat(reviews.getContent().get(0).getVetId()).isEqualTo(1);
+		assertThat(reviews.getContent().get(0).getContent()).isEqualTo("Test Review");
 	}
 
 	@Test
@@ -135,18 +165,23 @@ public class ReadReviewServiceTest {
 		when(vetRepository.findByIdAndStatus(1,VetStatus.REGISTERED)).thenThrow(new ApiException(VetErrorCode.NO_VET));
 
 		// when & then
-		assertThrows(ApiException.class, () -> readReviewService.findVetReviews(1));
+		assertThrows(ApiException.class, () -> readReviewService.findVetReviews(1, FIRST_PAGE));
 	}
 
 	@Test
-	@DisplayName("수의사 리뷰 조회 실패 - 유효한 Vet ID지만 리뷰가 없으면 예외가 발생한다")
-	void validVetIdNoReviews_findVetReviews_throwApiException() {
+	@DisplayName("수의사 리뷰 조회 성공 - 유효한 Vet ID지만 리뷰가 없으면 빈 페이지를 반환한다")
+	void validVetIdNoReviews_findVetReviews_returnEmptyPage() {
 		// given
 		when(vetRepository.findByIdAndStatus(1,VetStatus.REGISTERED)).thenReturn(Optional.of(mockVet));
-		when(reviewRepository.findByVetId(1)).thenThrow(new ApiException(ReviewErrorCode.NO_REVIEW));
+		when(reviewRepository.findVetFeed(1, FIRST_PAGE.createdAtBound(), Integer.MAX_VALUE, Limit.of(21)))
+			.thenReturn(List.of());
 
-		// when & then
-		assertThrows(ApiException.class, () -> readReviewService.findVetReviews(1));
+		// when
+		CursorPage<ReviewResponseDto> reviews = readReviewService.findVetReviews(1, FIRST_PAGE);
+
+		// then
+		assertThat(reviews.getContent()).isEmpty();
+		assertThat(reviews.getNextCursor()).isNull();
 	}
 
 	private void createMockOwnerTestData() {
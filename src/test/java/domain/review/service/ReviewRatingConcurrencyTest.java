@@ -0,0 +1,211 @@
+package domain.review.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
+import org.springframework.samples.petclinic.domain.review.dto.ReviewRequestDto;
+import org.springframework.samples.petclinic.domain.review.service.CreateReviewService;
+import org.springframework.samples.petclinic.domain.review.service.DeleteReviewService;
+import org.springframework.samples.petclinic.domain.review.service.UpdateReviewService;
+import org.springframework.samples.petclinic.domain.vet.dto.VetResponseDto;
+import org.springframework.samples.petclinic.domain.vet.service.VetService;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 평점 집계 동시성 테스트
+ * <p>
+ * 같은 수의사에게 리뷰 생성/수정/삭제를 동시에 보내도, 지연 반영분을 내보낸 뒤의 점수 합계와 리뷰 수가
+ * review 테이블과 정확히 일치하는지 확인한다.
+ * </p>
+ */
+@SpringBootTest(classes = PetClinicApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+public class ReviewRatingConcurrencyTest {
+
+	private static final int VET_ID = 1;
+	private static final int REVIEWS = 400;
+	private static final int THREADS = 32;
+
+	static final MySQLContainer<?> mysqlContainer;
+
+	static {
+		mysqlContainer = new MySQLContainer<>("mysql:8.0.32")
+			.withDatabaseName("testdb")
+			.withUsername("test")
+			.withPassword("test");
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(THREADS));
+		// 반영 시점을 테스트에서 정하도록 주기 반영은 사실상 끔
+		registry.add("rating.aggregator.flush-interval-ms", () -> String.valueOf(TimeUnit.HOURS.toMillis(1)));
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+		registry.add("spring.sql.init.mode", () -> "always");
+		registry.add("spring.sql.init.schema-locations", () -> "classpath:db/mysql/schema.sql");
+		registry.add("spring.sql.init.data-locations", () -> "classpath:db/mysql/data.sql");
+	}
+
+	@Autowired
+	private CreateReviewService createReviewService;
+
+	@Autowired
+	private UpdateReviewService updateReviewService;
+
+	@Autowired
+	private DeleteReviewService deleteReviewService;
+
+	@Autowired
+	private VetService vetService;
+
+	@Autowired
+	private RatingAggregator ratingAggregator;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("동시 리뷰 생성/수정/삭제 - 점수 합계와 리뷰 수가 유실 없이 반영됨")
+	void concurrentReviewWrites_noLostUpdates() throws Exception {
+		Map<String, Object> before = jdbcTemplate.queryForMap(
+			"SELECT score_sum, review_count FROM vets WHERE id = ?", VET_ID);
+		long initialSum = ((Number) before.get("score_sum")).longValue();
+		int initialCount = ((Number) before.get("review_count")).intValue();
+
+		// 1단계: 동시 생성
+		List<Callable<Integer>> creates = new ArrayList<>();
+		for (int i = 0; i < REVIEWS; i++) {
+			int score = i % 5 + 1;
+			int ownerId = i % 2 + 1;
+			creates.add(() -> createReviewService.createReview(request(score), ownerId).getId());
+		}
+		List<Integer> reviewIds = runConcurrently(creates);
+		ratingAggregator.flush();
+
+		assertThat(vetTotals()).containsExactly(initialSum + expectedCreatedSum(), initialCount + REVIEWS);
+
+		// 2단계: 짝수 번째는 점수 수정, 4의 배수 번째 다음 리뷰는 삭제
+		List<Callable<Integer>> changes = new ArrayList<>();
+		for (int i = 0; i < REVIEWS; i++) {
+			int reviewId = reviewIds.get(i);
+			int ownerId = i % 2 + 1;
+			if (i % 2 == 0) {
+				changes.add(() -> updateReviewService.updateReview(request(5), ownerId, reviewId).getId());
+			} else if (i % 4 == 1) {
+				changes.add(() -> {
+					deleteReviewService.deleteReview(reviewId, ownerId);
+					return reviewId;
+				});
+			}
+		}
+		runConcurrently(changes);
+		ratingAggregator.flush();
+
+		Map<String, Object> fromReviews = jdbcTemplate.queryForMap(
+			"SELECT COALESCE(SUM(score), 0) AS total, COUNT(*) AS cnt FROM review WHERE vet_id = ? AND id >= ?",
+			VET_ID, reviewIds.stream().mapToInt(Integer::intValue).min().orElseThrow());
+		long expectedSum = initialSum + ((Number) fromReviews.get("total")).longValue();
+		int expectedCount = initialCount + ((Number) fromReviews.get("cnt")).intValue();
+
+		assertThat(vetTotals()).containsExactly(expectedSum, expectedCount);
+
+		VetResponseDto vet = vetService.findById(VET_ID);
+		assertThat(vet.getReviewCount()).isEqualTo(expectedCount);
+		assertThat(vet.getAverageRatings()).isEqualByComparingTo(
+			BigDecimal.valueOf(expectedSum).divide(BigDecimal.valueOf(expectedCount), 2, RoundingMode.HALF_UP));
+
+		// 별점 분포도 합계와 같은 UPDATE 로 반영되므로 개수/가중합이 일치해야 한다
+		Map<Integer, Integer> histogram = vetService.findRatings(VET_ID).getHistogram();
+		assertThat(histogram.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(expectedCount);
+		assertThat(histogram.entrySet().stream().mapToLong(e -> (long) e.getKey() * e.getValue()).sum())
+			.isEqualTo(expectedSum);
+	}
+
+	@Test
+	@DisplayName("반영 대기 변경이 남은 채로 재계산한 뒤 반영해도 두 번 세지 않음")
+	void rebuildWithPendingChanges_doesNotDoubleCount() {
+		ratingAggregator.flush();
+		for (int i = 0; i < 10; i++) {
+			createReviewService.createReview(request(i % 5 + 1), i % 2 + 1);
+		}
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rating_change", Integer.class)).isEqualTo(10);
+
+		vetService.rebuildRatings(List.of(VET_ID));
+		ratingAggregator.flush();
+
+		Map<String, Object> fromReviews = jdbcTemplate.queryForMap(
+			"SELECT COALESCE(SUM(score), 0) AS total, COUNT(*) AS cnt FROM review WHERE vet_id = ?", VET_ID);
+		assertThat(vetTotals()).containsExactly(
+			((Number) fromReviews.get("total")).longValue(), ((Number) fromReviews.get("cnt")).intValue());
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rating_change", Integer.class)).isZero();
+	}
+
+	private Object[] vetTotals() {
+		Map<String, Object> row = jdbcTemplate.queryForMap("SELECT score_sum, review_count FROM vets WHERE id = ?", VET_ID);
+		return new Object[]{((Number) row.get("score_sum")).longValue(), ((Number) row.get("review_count")).intValue()};
+	}
+
+	private static long expectedCreatedSum() {
+		long sum = 0;
+		for (int i = 0; i < REVIEWS; i++) {
+			sum += i % 5 + 1;
+		}
+		return sum;
+	}
+
+	private static <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<T>> futures = new ArrayList<>();
+		for (Callable<T> task : tasks) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				return task.call();
+			}));
+		}
+		start.countDown();
+
+		List<T> results = new ArrayList<>();
+		for (Future<T> future : futures) {
+			results.add(future.get());
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		return results;
+	}
+
+	private static ReviewRequestDto request(int score) {
+		return ReviewRequestDto.builder()
+			.vetId(VET_ID)
+			.score(score)
+			.content("동시성 테스트용 리뷰 내용입니다.")
+			.build();
+	}
+}
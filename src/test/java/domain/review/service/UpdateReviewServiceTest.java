@@ -13,13 +13,16 @@ import org.springframework.samples.petclinic.common.error.VetErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
 import org.springframework.samples.petclinic.domain.owner.model.Owner;
 import org.springframework.samples.petclinic.domain.owner.repository.OwnerRepository;
+import org.springframework.samples.petclinic.domain.review.aggregator.RatingAggregator;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewRequestDto;
 import org.springframework.samples.petclinic.domain.review.dto.ReviewResponseDto;
 import org.springframework.samples.petclinic.domain.review.mapper.ReviewMapper;
 import org.springframework.samples.petclinic.domain.review.model.Review;
 import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
+import org.springframework.samples.petclinic.domain.review.search.ReviewSearchIndex;
 import org.springframework.samples.petclinic.domain.review.service.UpdateReviewService;
 import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
 import org.springframework.samples.petclinic.domain.vet.model.Vet;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
 
@@ -28,6 +31,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +49,12 @@ public class UpdateReviewServiceTest {
 	@Mock
 	private VetService vetService;
 
+	@Mock
+	private RatingAggregator ratingAggregator;
+
+	@Mock
+	private ReviewSearchIndex reviewSearchIndex;
+
 	@Mock
 	private VetRepository vetRepository;
 
@@ -72,7 +82,7 @@ public class UpdateReviewServiceTest {
 		// given
 		when(ownerRepository.findById(1)).thenReturn(Optional.of(mockOwner));
 		when(reviewRepository.findById(1)).thenReturn(Optional.of(mockReview));
-		when(vetService.getVetOrThrow(1)).thenReturn(mockVet);
+		when(vetService.getVetReferenceOrThrow(1)).thenReturn(mockVet);
 		when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
 		when(reviewMapper.toDto(any(Review.class))).thenReturn(mockResponse);
 
@@ -81,6 +91,8 @@ public class UpdateReviewServiceTest {
 
 		// then
 		assertThat(response.getContent()).isEqualTo("Test Updated Review");
+		verify(ratingAggregator).submit(1, RatingDelta.changed(1, 5));
+		verify(reviewSearchIndex).upsert(1, 1, 5, "Test Updated Review");
 	}
 
 	@Test
@@ -125,7 +137,7 @@ public class UpdateReviewServiceTest {
 		// given
 		when(reviewRepository.findById(1)).thenReturn(Optional.of(mockReview));
 		when(ownerRepository.findById(1)).thenReturn(Optional.of(mockOwner));
-		when(vetService.getVetOrThrow(1)).thenThrow(new ApiException(VetErrorCode.NO_VET));
+		when(vetService.getVetReferenceOrThrow(1)).thenThrow(new ApiException(VetErrorCode.NO_VET));
 
 		// when & then
 		assertThrows(ApiException.class, () -> updateReviewService.updateReview(request, 1, 1));
@@ -0,0 +1,89 @@
+package domain.token.helper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
+import org.springframework.samples.petclinic.domain.token.helper.VerifiedToken;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtTokenHelper 단위 테스트 - 검증된 토큰 캐시
+ */
+class JwtTokenHelperTest {
+
+	private static final String SECRET_KEY = "SpringBoot.JWTHelperTokenSecretKeyValue";
+
+	private SimpleMeterRegistry meterRegistry;
+	private JwtTokenHelper jwtTokenHelper;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		jwtTokenHelper = new JwtTokenHelper(SECRET_KEY, 1L, 12L, 100, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("토큰 검증 - ownerId 와 만료 시각 반환")
+	void verify_ReturnsOwnerIdAndExpiry() {
+		// given
+		var issued = jwtTokenHelper.issueAccessToken(Map.of("ownerId", 7));
+
+		// when
+		VerifiedToken verified = jwtTokenHelper.verify(issued.getToken());
+
+		// then
+		assertEquals(7, verified.ownerId());
+		assertTrue(verified.expiresAt().isAfter(Instant.now()));
+		assertEquals(verified.expiresAt(), jwtTokenHelper.expirationOf(issued.getToken()));
+	}
+
+	@Test
+	@DisplayName("토큰 검증 - 두 번째 요청부터 캐시에서 반환")
+	void verify_SecondCallHitsCache() {
+		// given
+		var token = jwtTokenHelper.issueAccessToken(Map.of("ownerId", 7)).getToken();
+
+		// when
+		VerifiedToken first = jwtTokenHelper.verify(token);
+		VerifiedToken second = jwtTokenHelper.verify(token);
+
+		// then
+		assertSame(first, second);
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "hit")
+			.functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("토큰 검증 실패 - 다른 키로 서명된 토큰은 캐시되지 않음")
+	void verify_Fail_ForeignSignatureNotCached() {
+		// given
+		var foreign = new JwtTokenHelper("Another.JWTHelperTokenSecretKeyValue.000", 1L, 12L, 100,
+			new SimpleMeterRegistry());
+		var token = foreign.issueAccessToken(Map.of("ownerId", 7)).getToken();
+
+		// when & then
+		for (int i = 0; i < 2; i++) {
+			var exception = assertThrows(IllegalArgumentException.class, () -> jwtTokenHelper.verify(token));
+			assertEquals("Invalid Token", exception.getMessage());
+		}
+	}
+
+	@Test
+	@DisplayName("토큰 검증 실패 - 만료된 토큰")
+	void verify_Fail_Expired() {
+		// given
+		var expiredIssuer = new JwtTokenHelper(SECRET_KEY, -1L, -1L, 100, new SimpleMeterRegistry());
+		var token = expiredIssuer.issueAccessToken(Map.of("ownerId", 7)).getToken();
+
+		// when & then
+		var exception = assertThrows(IllegalArgumentException.class, () -> jwtTokenHelper.verify(token));
+		assertEquals("Expired Token", exception.getMessage());
+		assertTrue(jwtTokenHelper.expirationOf(token).isBefore(Instant.now()));
+	}
+}
@@ -11,8 +11,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.samples.petclinic.domain.token.Interface.TokenHelperInterface;
 import org.springframework.samples.petclinic.domain.token.dto.TokenDto;
 import org.springframework.samples.petclinic.domain.token.dto.TokenResponseDto;
+import org.springframework.samples.petclinic.domain.token.helper.VerifiedToken;
 import org.springframework.samples.petclinic.domain.token.service.TokenService;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -69,10 +71,9 @@ class TokenServiceTest {
 	void validationToken_Success() {
 		// given
 		String token = "validToken123";
-		Map<String, Object> claims = new HashMap<>();
-		claims.put("ownerId", 1);
+		VerifiedToken verified = new VerifiedToken(1, Instant.now().plusSeconds(3600));
 
-		when(tokenHelperInterface.validationTokenWithThrow(token)).thenReturn(claims);
+		when(tokenHelperInterface.verify(token)).thenReturn(verified);
 
 		// when
 		Integer ownerId = tokenService.validationToken(token);
@@ -80,7 +81,7 @@ class TokenServiceTest {
 		// then
 		assertNotNull(ownerId);
 		assertEquals(1, ownerId);
-		verify(tokenHelperInterface).validationTokenWithThrow(token);
+		verify(tokenHelperInterface).verify(token);
 	}
 
 	@Test
@@ -88,9 +89,9 @@ class TokenServiceTest {
 	void validationToken_Fail_NullOwnerId() {
 		// given
 		String token = "invalidToken123";
-		Map<String, Object> claims = new HashMap<>();
+		VerifiedToken verified = new VerifiedToken(null, Instant.now().plusSeconds(3600));
 
-		when(tokenHelperInterface.validationTokenWithThrow(token)).thenReturn(claims);
+		when(tokenHelperInterface.verify(token)).thenReturn(verified);
 
 		// when & then
 		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
@@ -13,14 +13,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
 import org.springframework.samples.petclinic.domain.appointment.repository.AppointmentRepository;
 import org.springframework.samples.petclinic.domain.history.repository.HistoryRepository;
+import org.springframework.samples.petclinic.domain.reference.registry.ReferenceDataRegistry;
 import org.springframework.samples.petclinic.domain.review.repository.ReviewRepository;
 import org.springframework.samples.petclinic.domain.token.helper.JwtTokenHelper;
 import org.springframework.samples.petclinic.domain.vet.repository.SpecialtyRepository;
 import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.vet.dto.VetRatingsResponseDto;
 import org.springframework.samples.petclinic.domain.vet.dto.VetRequestDto;
 import org.springframework.samples.petclinic.domain.vet.dto.VetResponseDto;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
 import org.springframework.samples.petclinic.domain.vet.model.Specialty;
 import org.springframework.samples.petclinic.domain.vet.repository.VetSpecialtyRepository;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
@@ -66,6 +71,9 @@ public class VetControllerTest {
 	@Autowired
 	private AppointmentRepository appointmentRepository;
 
+	@Autowired
+	private ReferenceDataRegistry referenceDataRegistry;
+
 	private VetRequestDto vetRequestDto;
 
 	private String token;
@@ -84,6 +92,8 @@ public class VetControllerTest {
 
 		token = generateTestToken();
 		sampleVetRequestDto();
+		// 테스트용 전문분야를 직접 저장했으므로 레지스트리를 다시 적재 (테스트 롤백 시 원복)
+		referenceDataRegistry.reload();
 	}
 
 	void sampleVetRequestDto() {
@@ -126,9 +136,38 @@ public class VetControllerTest {
 
 		// then
 		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
-		VetResponseDto[] vets = objectMapper.readValue(response.getContentAsString(), VetResponseDto[].class);
-		assertThat(vets).hasSize(1);
-		assertThat(vets[0].getName()).isEqualTo("테스트");
+		CursorPage<VetResponseDto> vets = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
+		assertThat(vets.getContent()).hasSize(1);
+		assertThat(vets.getContent().get(0).getName()).isEqualTo("테스트");
+		assertThat(vets.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("GET /vets/all?after=&limit= - 커서 기반 페이지 조회")
+	void getAllVets_withCursor() throws Exception {
+		// given
+		VetResponseDto first = vetService.register(vetRequestDto);
+		VetResponseDto second = vetService.register(vetRequestDto);
+
+		// when
+		MockHttpServletResponse firstPage = performRequest("/vets/all?limit=1", HttpMethod.GET);
+		CursorPage<VetResponseDto> page1 = objectMapper.readValue(firstPage.getContentAsString(), new TypeReference<>() {});
+		MockHttpServletResponse secondPage = performRequest("/vets/all?limit=1&after=" + page1.getNextCursor(), HttpMethod.GET);
+		CursorPage<VetResponseDto> page2 = objectMapper.readValue(secondPage.getContentAsString(), new TypeReference<>() {});
+
+		// then
+		assertThat(page1.getContent()).extracting(VetResponseDto::getId).containsExactly(first.getId());
+		assertThat(page1.getNextCursor()).isEqualTo(String.valueOf(first.getId()));
+		assertThat(page2.getContent()).extracting(VetResponseDto::getId).containsExactly(second.getId());
+		assertThat(page2.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("GET /vets/all?limit=0 - 조회 개수 오류")
+	void getAllVets_invalidLimit() throws Exception {
+		MockHttpServletResponse response = performRequest("/vets/all?limit=0", HttpMethod.GET);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
 	}
 
 	@Test
@@ -195,7 +234,7 @@ public class VetControllerTest {
 
 		// then
 		assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
-		assertThat(vetService.findAll()).isEmpty();
+		assertThat(vetService.findAll(CursorRequest.first()).getContent()).isEmpty();
 	}
 
 	private String generateTestToken() {
@@ -205,6 +244,48 @@ public class VetControllerTest {
 		return jwtTokenHelper.issueAccessToken(claims).getToken();
 	}
 
+	@Test
+	@DisplayName("GET /vets/{vetId}/ratings - 반영된 별점 분포와 평균 조회")
+	void getRatings_shouldReturnHistogram() throws Exception {
+		// given
+		VetResponseDto vet = objectMapper.readValue(
+			performRequest("/vets", vetRequestDto, HttpMethod.POST).getContentAsString(), VetResponseDto.class);
+		vetService.addRatings(vet.getId(), RatingDelta.added(5).plus(RatingDelta.added(4)).plus(RatingDelta.added(4)));
+
+		// when
+		MockHttpServletResponse response = performRequest("/vets/" + vet.getId() + "/ratings", HttpMethod.GET);
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		VetRatingsResponseDto ratings = objectMapper.readValue(response.getContentAsString(), VetRatingsResponseDto.class);
+		assertThat(ratings.getReviewCount()).isEqualTo(3);
+		assertThat(ratings.getAverageRatings()).isEqualByComparingTo("4.33");
+		assertThat(ratings.getHistogram()).containsExactly(
+			Map.entry(1, 0), Map.entry(2, 0), Map.entry(3, 0), Map.entry(4, 2), Map.entry(5, 1));
+	}
+
+	@Test
+	@DisplayName("GET /vets/ratings?vetIds= - 여러 수의사의 별점 분포를 요청 순서대로 조회, 없는 수의사는 제외")
+	void getRatingsBatch_shouldKeepRequestOrder() throws Exception {
+		// given
+		VetResponseDto first = objectMapper.readValue(
+			performRequest("/vets", vetRequestDto, HttpMethod.POST).getContentAsString(), VetResponseDto.class);
+		VetResponseDto second = objectMapper.readValue(
+			performRequest("/vets", vetRequestDto, HttpMethod.POST).getContentAsString(), VetResponseDto.class);
+		vetService.addRatings(second.getId(), RatingDelta.added(1));
+
+		// when
+		MockHttpServletResponse response = performRequest(
+			"/vets/ratings?vetIds=" + second.getId() + "," + first.getId() + ",999999", HttpMethod.GET);
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		List<VetRatingsResponseDto> ratings = objectMapper.readValue(response.getContentAsString(), new TypeReference<>() {});
+		assertThat(ratings).extracting(VetRatingsResponseDto::getVetId).containsExactly(second.getId(), first.getId());
+		assertThat(ratings.get(0).getHistogram()).containsEntry(1, 1);
+		assertThat(ratings.get(1).getReviewCount()).isZero();
+	}
+
 	private MockHttpServletResponse performRequest(String url, Object request, HttpMethod method) throws Exception {
 		return mockMvc.perform(
 			request(HttpMethod.valueOf(method.name()), url)
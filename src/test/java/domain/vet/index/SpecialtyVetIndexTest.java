@@ -0,0 +1,111 @@
+package domain.vet.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.samples.petclinic.domain.vet.dto.VetSpecialtyIdView;
+import org.springframework.samples.petclinic.domain.vet.index.SpecialtyVetIndex;
+import org.springframework.samples.petclinic.domain.vet.model.enums.SpecialtyMatch;
+import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
+import org.springframework.samples.petclinic.domain.vet.repository.VetSpecialtyRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * SpecialtyVetIndex 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SpecialtyVetIndexTest {
+
+	@Mock
+	private VetSpecialtyRepository vetSpecialtyRepository;
+
+	@InjectMocks
+	private SpecialtyVetIndex specialtyVetIndex;
+
+	@BeforeEach
+	void setUp() {
+		// 수의사 1: 외과(1), 피부과(3) / 수의사 2: 소아과(2), 안과(4) / 수의사 3: 외과(1)
+		when(vetSpecialtyRepository.findAllIdsByVetStatus(VetStatus.REGISTERED)).thenReturn(List.of(
+			link(1, 1), link(1, 3), link(2, 2), link(2, 4), link(3, 1)));
+		specialtyVetIndex.rebuild();
+	}
+
+	@Test
+	@DisplayName("단일 전문분야 조회 - 아이디 오름차순")
+	void findVetIds_singleSpecialty() {
+		assertThat(specialtyVetIndex.findVetIds(1)).containsExactly(1, 3);
+		assertThat(specialtyVetIndex.findVetIds(99)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("여러 전문분야 조회 - ALL 은 교집합, ANY 는 합집합")
+	void findVetIds_allAndAny() {
+		assertThat(specialtyVetIndex.findVetIds(List.of(1, 3), SpecialtyMatch.ALL)).containsExactly(1);
+		assertThat(specialtyVetIndex.findVetIds(List.of(1, 2), SpecialtyMatch.ALL)).isEmpty();
+		assertThat(specialtyVetIndex.findVetIds(List.of(1, 2), SpecialtyMatch.ANY)).containsExactly(1, 2, 3);
+		assertThat(specialtyVetIndex.findVetIds(List.of(1, 99), SpecialtyMatch.ALL)).isEmpty();
+		assertThat(specialtyVetIndex.findVetIds(List.of(2, 99), SpecialtyMatch.ANY)).containsExactly(2);
+	}
+
+	@Test
+	@DisplayName("증분 갱신 - 등록, 전문분야 교체, 삭제")
+	void putAndRemove_updateIncrementally() {
+		specialtyVetIndex.put(4, List.of(2, 3));
+		assertThat(specialtyVetIndex.findVetIds(2)).containsExactly(2, 4);
+
+		specialtyVetIndex.put(1, List.of(4));
+		assertThat(specialtyVetIndex.findVetIds(1)).containsExactly(3);
+		assertThat(specialtyVetIndex.findVetIds(3)).containsExactly(4);
+		assertThat(specialtyVetIndex.findVetIds(4)).containsExactly(1, 2);
+
+		specialtyVetIndex.remove(2);
+		assertThat(specialtyVetIndex.findVetIds(2)).containsExactly(4);
+		assertThat(specialtyVetIndex.findVetIds(4)).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("수의사의 전문분야 조회 - 갱신 결과 반영")
+	void findSpecialtyIds_followsUpdates() {
+		assertThat(specialtyVetIndex.findSpecialtyIds(1)).containsExactlyInAnyOrder(1, 3);
+		assertThat(specialtyVetIndex.findSpecialtyIds(99)).isEmpty();
+
+		specialtyVetIndex.put(1, List.of(4));
+		assertThat(specialtyVetIndex.findSpecialtyIds(1)).containsExactly(4);
+
+		specialtyVetIndex.remove(1);
+		assertThat(specialtyVetIndex.findSpecialtyIds(1)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("조회 결과는 이후 갱신의 영향을 받지 않음")
+	void findVetIds_returnsSnapshot() {
+		List<Integer> before = specialtyVetIndex.findVetIds(List.of(1), SpecialtyMatch.ANY);
+
+		specialtyVetIndex.put(5, List.of(1));
+
+		assertThat(before).containsExactly(1, 3);
+		assertThat(specialtyVetIndex.findVetIds(1)).containsExactly(1, 3, 5);
+	}
+
+	private static VetSpecialtyIdView link(int vetId, int specialtyId) {
+		return new VetSpecialtyIdView() {
+			@Override
+			public Integer getVetId() {
+				return vetId;
+			}
+
+			@Override
+			public Integer getSpecialtyId() {
+				return specialtyId;
+			}
+		};
+	}
+}
@@ -0,0 +1,156 @@
+package domain.vet.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.domain.vet.mapper.VetSpecialtyMapper;
+import org.springframework.samples.petclinic.domain.vet.model.Specialty;
+import org.springframework.samples.petclinic.domain.vet.model.Vet;
+import org.springframework.samples.petclinic.domain.vet.model.VetSpeciality;
+import org.springframework.samples.petclinic.domain.vet.repository.SpecialtyRepository;
+import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.vet.repository.VetSpecialtyRepository;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 INSERT 벤치마크 - 한 건씩 INSERT(IDENTITY 방식) vs JDBC 배치
+ * <p>
+ * 수의사 전공 10,000건을 {@code saveAll} 로 저장하며 초당 저장 건수를 비교한다.<br>
+ * IDENTITY 전략에서는 INSERT 마다 생성된 키를 받아야 해서 Hibernate 가 배치를 끄므로,
+ * 변경 전 경로는 세션의 배치 크기를 1로 두어 한 건씩 왕복하도록 재현한다.
+ * 두 경로 모두 아이디는 시퀀스 테이블에서 50개 단위로 할당받는다.<br>
+ * 실행: ./gradlew test --tests '*BulkInsertBenchmarkTest' -Dbenchmark=true
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = PetClinicApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+public class BulkInsertBenchmarkTest {
+
+	private static final int ROWS = 10_000;
+	private static final int WARMUP_ROWS = 1_000;
+	private static final int ROW_BY_ROW = 1;
+	private static final int BATCHED = 50;
+
+	static final MySQLContainer<?> mysqlContainer;
+
+	static {
+		mysqlContainer = new MySQLContainer<>("mysql:8.0.32")
+			.withDatabaseName("testdb")
+			.withUsername("test")
+			.withPassword("test");
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+		registry.add("spring.jpa.show-sql", () -> "false");
+		registry.add("spring.sql.init.mode", () -> "always");
+		registry.add("spring.sql.init.schema-locations", () -> "classpath:db/mysql/schema.sql");
+		registry.add("spring.sql.init.data-locations", () -> "classpath:db/mysql/data.sql");
+		registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+	}
+
+	@Autowired
+	private VetRepository vetRepository;
+
+	@Autowired
+	private SpecialtyRepository specialtyRepository;
+
+	@Autowired
+	private VetSpecialtyRepository vetSpecialtyRepository;
+
+	@Autowired
+	private VetSpecialtyMapper vetSpecialtyMapper;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("전공 10,000건 저장 - 한 건씩 vs 배치")
+	void compareRowByRowWithBatched() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Vet vet = vetRepository.findById(1).orElseThrow();
+		List<Specialty> specialties = specialtyRepository.findAll();
+
+		insert(transactionTemplate, vet, specialties, WARMUP_ROWS, ROW_BY_ROW);
+		insert(transactionTemplate, vet, specialties, WARMUP_ROWS, BATCHED);
+
+		Result rowByRow = measure(statistics, () -> insert(transactionTemplate, vet, specialties, ROWS, ROW_BY_ROW));
+		Result batched = measure(statistics, () -> insert(transactionTemplate, vet, specialties, ROWS, BATCHED));
+
+		System.out.printf("%-12s %12s %12s %14s%n", "mode", "statements", "millis", "rows/s");
+		rowByRow.print("row-by-row");
+		batched.print("batched");
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vet_specialties WHERE vet_id = 1", Long.class))
+			.isGreaterThanOrEqualTo(2L * (ROWS + WARMUP_ROWS));
+		assertThat(batched.statements()).isLessThan(rowByRow.statements());
+	}
+
+	private void insert(TransactionTemplate transactionTemplate, Vet vet, List<Specialty> specialties, int rows,
+						int batchSize) {
+		List<Specialty> assigned = IntStream.range(0, rows)
+			.mapToObj(i -> specialties.get(i % specialties.size()))
+			.toList();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+			List<VetSpeciality> vetSpecialties = vetSpecialtyMapper.toEntityList(vet, assigned);
+			vetSpecialtyRepository.saveAll(vetSpecialties);
+		});
+	}
+
+	private static Result measure(Statistics statistics, Runnable insert) {
+		statistics.clear();
+		long startedAt = System.nanoTime();
+		insert.run();
+		long elapsed = System.nanoTime() - startedAt;
+
+		return new Result(statistics.getPrepareStatementCount(), elapsed / 1_000_000.0);
+	}
+
+	private record Result(long statements, double millis) {
+
+		void print(String mode) {
+			System.out.printf("%-12s %12d %12.0f %14.0f%n", mode, statements, millis, ROWS / (millis / 1_000.0));
+		}
+	}
+}
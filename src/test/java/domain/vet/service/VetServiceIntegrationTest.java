@@ -1,5 +1,8 @@
 package domain.vet.service;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,8 +11,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.samples.petclinic.PetClinicApplication;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.domain.vet.dto.VetRatingsResponseDto;
 import org.springframework.samples.petclinic.domain.vet.dto.VetRequestDto;
 import org.springframework.samples.petclinic.domain.vet.dto.VetResponseDto;
+import org.springframework.samples.petclinic.domain.vet.model.RatingDelta;
+import org.springframework.samples.petclinic.domain.vet.model.Specialty;
+import org.springframework.samples.petclinic.domain.vet.model.enums.SpecialtyMatch;
 import org.springframework.samples.petclinic.domain.vet.service.VetService;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -50,11 +59,15 @@ public class VetServiceIntegrationTest {
 		registry.add("spring.sql.init.mode", () -> "always");
 		registry.add("spring.sql.init.schema-locations", () -> "classpath:db/mysql/schema.sql");
 		registry.add("spring.sql.init.data-locations", () -> "classpath:db/mysql/data.sql");
+		registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
 	}
 
 	@Autowired
 	private VetService vetService;
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	private VetRequestDto vetRequestDto;
 
 	@BeforeEach
@@ -79,6 +92,21 @@ public class VetServiceIntegrationTest {
 		assertThat(responseDto.getSpecialties()).hasSize(2);
 	}
 
+	@Test
+	@DisplayName("수의사 등록 - 전문분야 테이블 조회 없이 등록")
+	void registerVet_noReferenceTableQueries() {
+		// 아이디 블록을 미리 할당받아 시퀀스 테이블 조회를 측정에서 제외
+		vetService.register(vetRequestDto);
+		Statistics statistics = statistics();
+
+		VetResponseDto responseDto = vetService.register(vetRequestDto);
+
+		assertThat(responseDto.getSpecialties()).extracting(Specialty::getName).containsExactly("외과", "소아과");
+		assertThat(statistics.getEntityStatistics(Specialty.class.getName()).getLoadCount()).isZero();
+		// vets insert 1 + vet_specialties 일괄 insert 1 (2건)
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
 	@Test
 	@DisplayName("수의사 삭제 성공")
 	void deleteVetSuccess() {
@@ -109,10 +137,28 @@ public class VetServiceIntegrationTest {
 		assertThat(updatedVet.getSpecialties().get(1).getName()).isEqualTo("소아과");
 	}
 
+	@Test
+	@DisplayName("수의사 전공 수정 - 바뀐 전공만 삭제/추가")
+	void updateVet_appliesOnlySpecialtyDiff() {
+		VetResponseDto savedVet = vetService.register(vetRequestDto);
+
+		VetRequestDto updateRequest = new VetRequestDto();
+		updateRequest.setSpecialties(List.of(2, 3));
+
+		Statistics statistics = statistics();
+		VetResponseDto updatedVet = vetService.update(savedVet.getId(), updateRequest);
+
+		// 수의사 조회 1 + 현재 전공 조회 1 + 제거분 일괄 삭제 1 + 추가분 저장 1
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+		assertThat(updatedVet.getSpecialties()).extracting(Specialty::getName).containsExactly("소아과", "피부과");
+		assertThat(vetService.findById(savedVet.getId()).getSpecialties())
+			.extracting(Specialty::getId).containsExactlyInAnyOrder(2, 3);
+	}
+
 	@Test
 	@DisplayName("수의사 전체 조회 성공")
 	void findAllVetsSuccess() {
-		List<VetResponseDto> vets = vetService.findAll();
+		List<VetResponseDto> vets = vetService.findAll(CursorRequest.first()).getContent();
 
 		assertThat(vets).isNotEmpty();
 		assertThat(vets).hasSize(2);
@@ -140,4 +186,175 @@ public class VetServiceIntegrationTest {
 		assertThat(vets.get(0).getSpecialties().stream()
 			.anyMatch(s -> s.getName().equals("소아과"))).isTrue();
 	}
+
+	@Test
+	@DisplayName("수의사 전체 조회 - 커서를 따라 모든 페이지를 중복 없이 조회")
+	void findAllVets_followsCursor() {
+		for (int i = 0; i < 5; i++) {
+			vetService.register(vetRequestDto);
+		}
+
+		List<Integer> ids = new ArrayList<>();
+		CursorPage<VetResponseDto> page = vetService.findAll(CursorRequest.of(null, 3));
+		ids.addAll(page.getContent().stream().map(VetResponseDto::getId).toList());
+		while (page.getNextCursor() != null) {
+			page = vetService.findAll(CursorRequest.of(Integer.valueOf(page.getNextCursor()), 3));
+			ids.addAll(page.getContent().stream().map(VetResponseDto::getId).toList());
+		}
+
+		assertThat(ids).hasSize(7).isSorted().doesNotHaveDuplicates();
+	}
+
+	@Test
+	@DisplayName("수의사 전체 조회 - 최대 개수를 넘는 요청은 최대 개수까지만 조회")
+	void findAllVets_capsLimit() {
+		CursorRequest request = CursorRequest.of(null, 10_000);
+
+		assertThat(request.limit()).isEqualTo(CursorRequest.MAX_LIMIT);
+	}
+
+	@Test
+	@DisplayName("수의사 전체 조회 - 수의사 수와 무관하게 쿼리 수가 일정")
+	void findAllVets_constantStatementCount() {
+		Statistics statistics = statistics();
+		vetService.findAll(CursorRequest.first());
+		long baseline = statistics.getPrepareStatementCount();
+
+		for (int i = 0; i < 10; i++) {
+			vetService.register(vetRequestDto);
+		}
+
+		statistics.clear();
+		List<VetResponseDto> vets = vetService.findAll(CursorRequest.of(null, 50)).getContent();
+
+		assertThat(vets).hasSize(12);
+		assertThat(vets).allSatisfy(vet -> assertThat(vet.getSpecialties()).isNotEmpty());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(baseline).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("전문 분야별 수의사 조회 - 수의사 수와 무관하게 쿼리 수가 일정")
+	void findVetsBySpecialtyId_constantStatementCount() {
+		for (int i = 0; i < 10; i++) {
+			vetService.register(vetRequestDto);
+		}
+
+		Statistics statistics = statistics();
+		List<VetResponseDto> vets = vetService.findBySpecialtyId(2);
+
+		assertThat(vets).hasSize(11);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("여러 전문 분야 조건 수의사 조회 - 교집합/합집합")
+	void findVetsBySpecialtyIds_allAndAny() {
+		VetResponseDto savedVet = vetService.register(vetRequestDto);
+
+		List<VetResponseDto> all = vetService.findBySpecialtyIds(List.of(1, 2), SpecialtyMatch.ALL);
+		List<VetResponseDto> any = vetService.findBySpecialtyIds(List.of(1, 2), SpecialtyMatch.ANY);
+
+		assertThat(all).extracting(VetResponseDto::getId).containsExactly(savedVet.getId());
+		assertThat(any).extracting(VetResponseDto::getId).containsExactly(1, 2, savedVet.getId());
+	}
+
+	@Test
+	@DisplayName("수의사 삭제 - 전문 분야 색인에서도 제거됨")
+	void deleteVet_removedFromSpecialtyIndex() {
+		vetService.delete(2);
+
+		assertThatThrownBy(() -> vetService.findBySpecialtyId(2))
+			.isInstanceOf(ApiException.class)
+			.hasMessageContaining("해당 전공분야를 찾을 수 없습니다.");
+	}
+
+	@Test
+	@DisplayName("특정 수의사 조회 - 두 번째 조회는 캐시에서 응답")
+	void findVetById_servedFromCache() {
+		vetService.findById(1);
+
+		Statistics statistics = statistics();
+		VetResponseDto cachedVet = vetService.findById(1);
+
+		assertThat(cachedVet.getName()).isEqualTo("이의사");
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("수의사 평점 분포 조회 - 캐시에서 응답하고 평점 반영 시 무효화됨")
+	void findRatings_servedFromCacheUntilRatingsChange() {
+		int reviewCount = vetService.findRatings(1).getReviewCount();
+
+		Statistics statistics = statistics();
+		vetService.findRatings(1);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		vetService.addRatings(1, RatingDelta.added(5));
+
+		VetRatingsResponseDto ratings = vetService.findRatings(1);
+		assertThat(ratings.getReviewCount()).isEqualTo(reviewCount + 1);
+	}
+
+	@Test
+	@DisplayName("평점 반영 - 해당 수의사가 들어 있는 캐시 항목만 무효화")
+	void addRatings_evictsOnlyEntriesContainingVet() {
+		// 수의사 1: 외과(1), 피부과(3) / 수의사 2: 소아과(2), 안과(4)
+		int reviewCount = vetService.findById(1).getReviewCount();
+		vetService.findById(2);
+		vetService.findBySpecialtyId(1);
+		vetService.findBySpecialtyId(2);
+		vetService.findAll(CursorRequest.first());
+		vetService.findAll(CursorRequest.of(1, 1));
+
+		vetService.addRatings(1, RatingDelta.added(5));
+
+		// 수의사 1 이 없는 항목은 캐시에 남음
+		Statistics statistics = statistics();
+		vetService.findById(2);
+		vetService.findBySpecialtyId(2);
+		CursorPage<VetResponseDto> withoutVet1 = vetService.findAll(CursorRequest.of(1, 1));
+		assertThat(withoutVet1.getContent()).extracting(VetResponseDto::getId).containsExactly(2);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		// 수의사 1 이 들어 있는 항목은 새 평점으로 다시 조회
+		assertThat(vetService.findById(1).getReviewCount()).isEqualTo(reviewCount + 1);
+		assertThat(vetService.findBySpecialtyId(1)).filteredOn(vet -> vet.getId() == 1)
+			.extracting(VetResponseDto::getReviewCount).containsExactly(reviewCount + 1);
+		assertThat(vetService.findAll(CursorRequest.first()).getContent()).filteredOn(vet -> vet.getId() == 1)
+			.extracting(VetResponseDto::getReviewCount).containsExactly(reviewCount + 1);
+	}
+
+	@Test
+	@DisplayName("수의사 수정 - 캐시된 조회 결과가 무효화됨")
+	void updateVet_evictsCachedVet() {
+		vetService.findById(1);
+		vetService.findAll(CursorRequest.first());
+		vetService.findBySpecialtyId(1);
+
+		vetService.update(1, new VetRequestDto("수정테스트", null));
+
+		assertThat(vetService.findById(1).getName()).isEqualTo("수정테스트");
+		assertThat(vetService.findAll(CursorRequest.first()).getContent().get(0).getName()).isEqualTo("수정테스트");
+		assertThat(vetService.findBySpecialtyId(1).get(0).getName()).isEqualTo("수정테스트");
+	}
+
+	@Test
+	@DisplayName("수의사 삭제 - 캐시된 수의사도 함께 제거됨")
+	void deleteVet_evictsCachedVet() {
+		vetService.findById(1);
+		vetService.findAll(CursorRequest.first());
+
+		vetService.delete(1);
+
+		assertThatThrownBy(() -> vetService.findById(1))
+			.isInstanceOf(ApiException.class)
+			.hasMessageContaining("해당 수의사가 존재하지 않습니다.");
+		assertThat(vetService.findAll(CursorRequest.first()).getContent()).hasSize(1);
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
 }
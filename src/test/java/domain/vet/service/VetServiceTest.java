@@ -7,8 +7,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.samples.petclinic.common.error.SpecialityErrorCode;
 import org.springframework.samples.petclinic.common.exception.ApiException;
+import org.springframework.samples.petclinic.common.page.CursorPage;
+import org.springframework.samples.petclinic.common.page.CursorRequest;
+import org.springframework.samples.petclinic.domain.vet.index.SpecialtyVetIndex;
+import org.springframework.samples.petclinic.domain.vet.model.enums.SpecialtyMatch;
 import org.springframework.samples.petclinic.domain.vet.model.enums.VetStatus;
 import org.springframework.samples.petclinic.domain.vet.repository.SpecialtyRepository;
 import org.springframework.samples.petclinic.domain.vet.mapper.VetSpecialtyMapper;
@@ -30,6 +35,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +61,9 @@ public class VetServiceTest {
 	@Mock
 	private VetSpecialtyMapper vetSpecialtyMapper;
 
+	@Mock
+	private SpecialtyVetIndex specialtyVetIndex;
+
 	private Vet vet;
 	private Specialty specialty;
 	private Specialty specialty2;
@@ -117,7 +126,7 @@ public class VetServiceTest {
 		when(vetRepository.save(any(Vet.class))).thenReturn(vet);
 		when(specialtyService.findByIds(vetRequestDto.getSpecialties())).thenReturn(List.of(specialty));
 		when(vetSpecialtyMapper.toEntityList(vet, List.of(specialty))).thenReturn(List.of(vetSpeciality));
-		when(vetMapper.toResponse(vet)).thenReturn(expectedVetResponseDto);
+		when(vetMapper.toResponse(vet, List.of(specialty))).thenReturn(expectedVetResponseDto);
 
 		VetResponseDto vetResponseDto = vetService.register(vetRequestDto);
 
@@ -132,7 +141,7 @@ public class VetServiceTest {
 		verify(specialtyService, times(1)).findByIds(vetRequestDto.getSpecialties());
 		verify(vetSpecialtyMapper, times(1)).toEntityList(vet, List.of(specialty));
 		verify(vetSpecialtyRepository, times(1)).saveAll(any());
-		verify(vetMapper, times(1)).toResponse(vet);
+		verify(vetMapper, times(1)).toResponse(vet, List.of(specialty));
 
 		verifyNoMoreInteractions(vetRepository, specialtyService, vetSpecialtyRepository, vetMapper);
 	}
@@ -180,47 +189,69 @@ public class VetServiceTest {
 	@Test
 	@DisplayName("수의사 전체 조회 성공")
 	void viewAllVetSuccess() {
-		when(vetRepository.findAllByStatusOrderById(VetStatus.REGISTERED)).thenReturn(List.of(vet));
-		when(vetMapper.toResponse(vet)).thenReturn(expectedVetResponseDto);
+		when(vetRepository.findByStatusAndIdGreaterThanOrderById(VetStatus.REGISTERED, 0, Limit.of(21)))
+			.thenReturn(List.of(vet));
+		when(vetMapper.toResponseList(List.of(vet))).thenReturn(List.of(expectedVetResponseDto));
 
-		List<VetResponseDto> result = vetService.findAll();
+		CursorPage<VetResponseDto> result = vetService.findAll(CursorRequest.first());
 
 		assertThat(result).isNotNull();
-		assertThat(result).hasSize(1);
-		assertThat(result.get(0).getId()).isEqualTo(expectedVetResponseDto.getId());
-		assertThat(result.get(0).getName()).isEqualTo(expectedVetResponseDto.getName());
-		assertThat(result.get(0).getSpecialties()).isNotEmpty();
-		assertThat(result.get(0).getSpecialties().get(0).getName()).isEqualTo(specialty.getName());
+		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.getNextCursor()).isNull();
+		assertThat(result.getContent().get(0).getId()).isEqualTo(expectedVetResponseDto.getId());
+		assertThat(result.getContent().get(0).getName()).isEqualTo(expectedVetResponseDto.getName());
+		assertThat(result.getContent().get(0).getSpecialties()).isNotEmpty();
+		assertThat(result.getContent().get(0).getSpecialties().get(0).getName()).isEqualTo(specialty.getName());
 
-		verify(vetRepository, times(1)).findAllByStatusOrderById(VetStatus.REGISTERED);
-		verify(vetMapper, times(1)).toResponse(vet);
+		verify(vetRepository, times(1)).findByStatusAndIdGreaterThanOrderById(VetStatus.REGISTERED, 0, Limit.of(21));
+		verify(vetMapper, times(1)).toResponseList(List.of(vet));
+		verify(vetMapper, never()).toResponse(any());
 
 		verifyNoMoreInteractions(vetRepository, vetMapper);
 	}
 
+	@Test
+	@DisplayName("수의사 전체 조회 - 다음 페이지가 있으면 마지막 아이디를 커서로 반환")
+	void viewAllVetSuccess_nextCursor() {
+		Vet vet2 = Vet.builder().id(7).name("두번째").status(VetStatus.REGISTERED).build();
+		Vet vet3 = Vet.builder().id(9).name("세번째").status(VetStatus.REGISTERED).build();
+		when(vetRepository.findByStatusAndIdGreaterThanOrderById(VetStatus.REGISTERED, 1, Limit.of(3)))
+			.thenReturn(List.of(vet2, vet3, vet));
+		when(vetMapper.toResponseList(List.of(vet2, vet3))).thenReturn(List.of(expectedVetResponseDto, expectedVetResponseDto));
+
+		CursorPage<VetResponseDto> result = vetService.findAll(CursorRequest.of(1, 2));
+
+		assertThat(result.getContent()).hasSize(2);
+		assertThat(result.getNextCursor()).isEqualTo("9");
+	}
+
 	@Test
 	@DisplayName("수의사 전체 조회 실패 - 빈 리스트 반환")
 	void viewAllVetFailure_emptyList() {
-		when(vetRepository.findAllByStatusOrderById(VetStatus.REGISTERED)).thenReturn(List.of());
+		when(vetRepository.findByStatusAndIdGreaterThanOrderById(VetStatus.REGISTERED, 0, Limit.of(21)))
+			.thenReturn(List.of());
+		when(vetMapper.toResponseList(List.of())).thenReturn(List.of());
 
-		List<VetResponseDto> result = vetService.findAll();
+		CursorPage<VetResponseDto> result = vetService.findAll(CursorRequest.first());
 
 		assertThat(result).isNotNull();
-		assertThat(result).isEmpty();
+		assertThat(result.getContent()).isEmpty();
+		assertThat(result.getNextCursor()).isNull();
 
-		verify(vetRepository, times(1)).findAllByStatusOrderById(VetStatus.REGISTERED);
-		verifyNoInteractions(vetMapper);
+		verify(vetRepository, times(1)).findByStatusAndIdGreaterThanOrderById(VetStatus.REGISTERED, 0, Limit.of(21));
+		verify(vetMapper, never()).toResponse(any());
 	}
 
 	@Test
 	@DisplayName("수의사 전체 조회 실패 - 예외 발생")
 	void viewAllVetFailure_exception() {
-		when(vetRepository.findAllByStatusOrderById(VetStatus.REGISTERED)).thenThrow(new RuntimeException("수의사 전체 조회 예외 발생"));
+		when(vetRepository.findByStatusAndIdGreaterThanOrderById(VetStatus.REGISTERED, 0, Limit.of(21)))
+			.thenThrow(new RuntimeException("수의사 전체 조회 예외 발생"));
 
-		assertThatThrownBy(() -> vetService.findAll()).isInstanceOf(RuntimeException.class)
+		assertThatThrownBy(() -> vetService.findAll(CursorRequest.first())).isInstanceOf(RuntimeException.class)
 			.hasMessage("수의사 전체 조회 예외 발생");
 
-		verify(vetRepository, times(1)).findAllByStatusOrderById(VetStatus.REGISTERED);
+		verify(vetRepository, times(1)).findByStatusAndIdGreaterThanOrderById(VetStatus.REGISTERED, 0, Limit.of(21));
 		verifyNoInteractions(vetMapper);
 	}
 
@@ -257,13 +288,38 @@ public class VetServiceTest {
 		verifyNoInteractions(vetMapper);
 	}
 
+	@Test
+	@DisplayName("연관관계용 수의사 참조 조회 성공 - 행을 읽지 않고 참조만 반환")
+	void getVetReferenceSuccess() {
+		when(vetRepository.existsByIdAndStatus(1, VetStatus.REGISTERED)).thenReturn(true);
+		when(vetRepository.getReferenceById(1)).thenReturn(vet);
+
+		assertThat(vetService.getVetReferenceOrThrow(1)).isSameAs(vet);
+
+		verify(vetRepository, times(1)).existsByIdAndStatus(1, VetStatus.REGISTERED);
+		verify(vetRepository, times(1)).getReferenceById(1);
+		verifyNoMoreInteractions(vetRepository);
+	}
+
+	@Test
+	@DisplayName("연관관계용 수의사 참조 조회 실패 - 등록 상태 수의사가 없을 때")
+	void getVetReferenceFailure_notFound() {
+		when(vetRepository.existsByIdAndStatus(111, VetStatus.REGISTERED)).thenReturn(false);
+
+		assertThatThrownBy(() -> vetService.getVetReferenceOrThrow(111))
+			.isInstanceOf(ApiException.class)
+			.hasMessageContaining("해당 수의사가 존재하지 않습니다.");
+
+		verify(vetRepository, never()).getReferenceById(anyInt());
+	}
+
 	@Test
 	@DisplayName("전문 분야별 수의사 조회 성공")
 	void viewVetBySpecialtySuccess() {
 		// Given
-		when(vetSpecialtyRepository.findVetIdsBySpecialtyId_Id(1)).thenReturn(List.of(vetSpeciality));
-		when(vetRepository.findByIdAndStatus(1, VetStatus.REGISTERED)).thenReturn(Optional.of(vet));
-		when(vetMapper.toResponse(vet)).thenReturn(expectedVetResponseDto);
+		when(specialtyVetIndex.findVetIds(1)).thenReturn(List.of(1));
+		when(vetRepository.findAllByIdInAndStatusOrderById(List.of(1), VetStatus.REGISTERED)).thenReturn(List.of(vet));
+		when(vetMapper.toResponseList(List.of(vet))).thenReturn(List.of(expectedVetResponseDto));
 
 		// When
 		List<VetResponseDto> result = vetService.findBySpecialtyId(1);
@@ -276,25 +332,50 @@ public class VetServiceTest {
 		assertThat(result.get(0).getSpecialties()).isNotEmpty();
 		assertThat(result.get(0).getSpecialties().get(0).getName()).isEqualTo(specialty.getName());
 
-		verify(vetSpecialtyRepository, times(1)).findVetIdsBySpecialtyId_Id(1);
-		verify(vetRepository, times(1)).findByIdAndStatus(1, VetStatus.REGISTERED);
-		verify(vetMapper, times(1)).toResponse(vet);
+		verify(specialtyVetIndex, times(1)).findVetIds(1);
+		verify(vetRepository, times(1)).findAllByIdInAndStatusOrderById(List.of(1), VetStatus.REGISTERED);
+		verify(vetMapper, times(1)).toResponseList(List.of(vet));
 		verifyNoMoreInteractions(vetSpecialtyRepository, vetRepository, vetMapper);
 	}
 
 	@Test
 	@DisplayName("전문 분아별 수의사 조회 실패 - 전문 분야 아이디가 존재하지 않을 때")
 	void viewVetBySpecialtyFailure_specialityIdNotFound() {
-		when(vetSpecialtyRepository.findVetIdsBySpecialtyId_Id(123)).thenReturn(List.of());
+		when(specialtyVetIndex.findVetIds(123)).thenReturn(List.of());
 
 		assertThatThrownBy(() -> vetService.findBySpecialtyId(123))
 			.isInstanceOf(ApiException.class)
 			.hasMessageContaining("해당 전공분야를 찾을 수 없습니다.");
 
-		verify(vetSpecialtyRepository, times(1)).findVetIdsBySpecialtyId_Id(123);
+		verify(specialtyVetIndex, times(1)).findVetIds(123);
 		verifyNoMoreInteractions(vetSpecialtyRepository, vetRepository, vetMapper);
 	}
 
+	@Test
+	@DisplayName("여러 전문 분야 조건 수의사 조회 성공")
+	void viewVetBySpecialtiesSuccess() {
+		when(specialtyVetIndex.findVetIds(List.of(1, 2), SpecialtyMatch.ALL)).thenReturn(List.of(1));
+		when(vetRepository.findAllByIdInAndStatusOrderById(List.of(1), VetStatus.REGISTERED)).thenReturn(List.of(vet));
+		when(vetMapper.toResponseList(List.of(vet))).thenReturn(List.of(expectedVetResponseDto));
+
+		List<VetResponseDto> result = vetService.findBySpecialtyIds(List.of(1, 2), SpecialtyMatch.ALL);
+
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getId()).isEqualTo(expectedVetResponseDto.getId());
+		verifyNoInteractions(vetSpecialtyRepository);
+	}
+
+	@Test
+	@DisplayName("여러 전문 분야 조건 수의사 조회 - 조건을 만족하는 수의사가 없으면 빈 리스트")
+	void viewVetBySpecialties_noMatch() {
+		when(specialtyVetIndex.findVetIds(List.of(1, 2), SpecialtyMatch.ALL)).thenReturn(List.of());
+
+		List<VetResponseDto> result = vetService.findBySpecialtyIds(List.of(1, 2), SpecialtyMatch.ALL);
+
+		assertThat(result).isEmpty();
+		verifyNoInteractions(vetRepository, vetMapper);
+	}
+
 	@Test
 	@DisplayName("수의사 삭제 성공")
 	void deleteVetSuccess() {
@@ -319,6 +400,7 @@ public class VetServiceTest {
 
 		verify(vetRepository, times(1)).findByIdAndStatus(1, VetStatus.REGISTERED);
 		verify(vetSpecialtyRepository, times(1)).deleteAllByVetId_Id(1);
+		verify(specialtyVetIndex, times(1)).remove(1);
 		assertThat(vet.getStatus()).isEqualTo(VetStatus.DELETED);
 
 		verifyNoMoreInteractions(vetRepository, vetSpecialtyRepository);
@@ -345,8 +427,9 @@ public class VetServiceTest {
 	void updateVetSuccess_Speciality() {
 		when(vetRepository.findByIdAndStatus(1, VetStatus.REGISTERED)).thenReturn(Optional.ofNullable(vet));
 		when(specialtyService.findByIds(new ArrayList<>(List.of(2)))).thenReturn(List.of(specialty2));
+		when(vetSpecialtyRepository.findSpecialtyIdsByVetId(1)).thenReturn(List.of(1));
 		when(vetSpecialtyMapper.toEntityList(vet, List.of(specialty2))).thenReturn(List.of(vetSpeciality));
-		when(vetMapper.toResponse(vet)).thenReturn(
+		when(vetMapper.toResponse(vet, List.of(specialty2))).thenReturn(
 			new VetResponseDto(vet.getId(), vet.getName(), null, null, "REGISTERED", List.of(specialty2)));
 
 		VetRequestDto updateDto = new VetRequestDto(null, new ArrayList<>(List.of(2)));
@@ -361,16 +444,55 @@ public class VetServiceTest {
 		assertThat(result.getSpecialties().get(0).getName()).isEqualTo("소아과");
 
 		verify(vetRepository, times(1)).findByIdAndStatus(1, VetStatus.REGISTERED);
-		verify(vetSpecialtyRepository, times(1)).deleteAllByVetId_Id(1);
 		verify(specialtyService, times(1)).findByIds(new ArrayList<>(List.of(2)));
+		verify(vetSpecialtyRepository, times(1)).findSpecialtyIdsByVetId(1);
+		verify(vetSpecialtyRepository, times(1)).deleteAllByVetIdAndSpecialtyIds(1, List.of(1)); // 제거분만 삭제
 		verify(vetSpecialtyMapper, times(1)).toEntityList(vet, List.of(specialty2));
-		verify(vetSpecialtyRepository, times(1)).saveAll(List.of(vetSpeciality)); // saveAll 검증
+		verify(vetSpecialtyRepository, times(1)).saveAll(List.of(vetSpeciality)); // 추가분만 저장
+		verify(specialtyVetIndex, times(1)).put(1, List.of(2));
 		verify(vetRepository, times(1)).save(any(Vet.class));
-		verify(vetMapper, times(1)).toResponse(vet);
+		verify(vetMapper, times(1)).toResponse(vet, List.of(specialty2));
 
 		verifyNoMoreInteractions(vetRepository, vetSpecialtyRepository, vetMapper, specialtyService);
 	}
 
+	@Test
+	@DisplayName("수의사 전공 수정 - 변경 없는 전공은 삭제/저장하지 않음")
+	void updateVetSuccess_SpecialityUnchanged() {
+		when(vetRepository.findByIdAndStatus(1, VetStatus.REGISTERED)).thenReturn(Optional.ofNullable(vet));
+		when(specialtyService.findByIds(List.of(1, 2))).thenReturn(List.of(specialty, specialty2));
+		when(vetSpecialtyRepository.findSpecialtyIdsByVetId(1)).thenReturn(List.of(2, 1));
+		when(vetMapper.toResponse(vet, List.of(specialty, specialty2))).thenReturn(
+			new VetResponseDto(vet.getId(), vet.getName(), null, null, "REGISTERED", List.of(specialty, specialty2)));
+
+		VetResponseDto result = vetService.update(1, new VetRequestDto(null, List.of(1, 2)));
+
+		assertThat(result.getSpecialties()).hasSize(2);
+		verify(vetSpecialtyRepository, times(1)).findSpecialtyIdsByVetId(1);
+		verify(vetSpecialtyRepository, never()).deleteAllByVetIdAndSpecialtyIds(anyInt(), any());
+		verify(vetSpecialtyRepository, never()).saveAll(any());
+		verifyNoInteractions(vetSpecialtyMapper);
+		verifyNoMoreInteractions(vetSpecialtyRepository);
+	}
+
+	@Test
+	@DisplayName("수의사 전공 수정 - 일부만 바뀐 경우 차이만 반영")
+	void updateVetSuccess_SpecialityPartiallyChanged() {
+		Specialty specialty3 = Specialty.builder().id(3).name("피부과").build();
+		when(vetRepository.findByIdAndStatus(1, VetStatus.REGISTERED)).thenReturn(Optional.ofNullable(vet));
+		when(specialtyService.findByIds(List.of(2, 3, 3))).thenReturn(List.of(specialty2, specialty3, specialty3));
+		when(vetSpecialtyRepository.findSpecialtyIdsByVetId(1)).thenReturn(List.of(1, 2));
+		when(vetSpecialtyMapper.toEntityList(vet, List.of(specialty3))).thenReturn(List.of(vetSpeciality));
+
+		vetService.update(1, new VetRequestDto(null, List.of(2, 3, 3)));
+
+		verify(vetSpecialtyRepository, times(1)).deleteAllByVetIdAndSpecialtyIds(1, List.of(1));
+		verify(vetSpecialtyMapper, times(1)).toEntityList(vet, List.of(specialty3)); // 중복 요청은 한 번만 저장
+		verify(vetSpecialtyRepository, times(1)).saveAll(List.of(vetSpeciality));
+		verify(specialtyVetIndex, times(1)).put(1, List.of(2, 3));
+		verify(vetMapper, times(1)).toResponse(vet, List.of(specialty2, specialty3));
+	}
+
 	@Test
 	@DisplayName("수의사 이름 변경 성공")
 	void updateVetSuccess_Name() {
@@ -417,7 +539,7 @@ public class VetServiceTest {
 			.isInstanceOf(ApiException.class)
 			.hasMessageContaining("해당 전공분야를 찾을 수 없습니다.");
 
-		verify(vetSpecialtyRepository, never()).deleteAllByVetId_Id(anyInt());
+		verify(vetSpecialtyRepository, never()).deleteAllByVetIdAndSpecialtyIds(anyInt(), any());
 		verify(vetRepository, never()).save(any());
 		verify(vetSpecialtyRepository, never()).saveAll(any());
 	}
@@ -0,0 +1,175 @@
+package domain.vet.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.domain.reference.registry.ReferenceDataRegistry;
+import org.springframework.samples.petclinic.domain.vet.dto.VetRequestDto;
+import org.springframework.samples.petclinic.domain.vet.mapper.VetSpecialtyMapper;
+import org.springframework.samples.petclinic.domain.vet.model.Specialty;
+import org.springframework.samples.petclinic.domain.vet.model.Vet;
+import org.springframework.samples.petclinic.domain.vet.repository.SpecialtyRepository;
+import org.springframework.samples.petclinic.domain.vet.repository.VetRepository;
+import org.springframework.samples.petclinic.domain.vet.repository.VetSpecialtyRepository;
+import org.springframework.samples.petclinic.domain.vet.service.SpecialtyService;
+import org.springframework.samples.petclinic.domain.vet.service.VetService;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수의사 전공 수정 벤치마크 - 전체 삭제 후 재저장(기존) vs 차이만 반영(변경)
+ * <p>
+ * 전공 1~50개를 가진 수의사의 전공 하나를 바꾸는 수정을 반복하여 수정 1회당 쿼리 수와 평균 소요 시간을 비교한다.<br>
+ * 실행: ./gradlew test --tests '*VetSpecialtyUpdateBenchmarkTest' -Dbenchmark=true
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = PetClinicApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+public class VetSpecialtyUpdateBenchmarkTest {
+
+	private static final int[] SPECIALTY_COUNTS = {1, 5, 10, 25, 50};
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 20;
+
+	static final MySQLContainer<?> mysqlContainer;
+
+	static {
+		mysqlContainer = new MySQLContainer<>("mysql:8.0.32")
+			.withDatabaseName("testdb")
+			.withUsername("test")
+			.withPassword("test");
+		mysqlContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void setProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+		registry.add("spring.sql.init.mode", () -> "always");
+		registry.add("spring.sql.init.schema-locations", () -> "classpath:db/mysql/schema.sql");
+		registry.add("spring.sql.init.data-locations", () -> "classpath:db/mysql/data.sql");
+		registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+	}
+
+	@Autowired
+	private VetService vetService;
+
+	@Autowired
+	private SpecialtyService specialtyService;
+
+	@Autowired
+	private VetRepository vetRepository;
+
+	@Autowired
+	private VetSpecialtyRepository vetSpecialtyRepository;
+
+	@Autowired
+	private VetSpecialtyMapper vetSpecialtyMapper;
+
+	@Autowired
+	private SpecialtyRepository specialtyRepository;
+
+	@Autowired
+	private ReferenceDataRegistry referenceDataRegistry;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private List<Integer> specialtyIds;
+
+	@BeforeEach
+	void setUp() {
+		// 전공 하나를 바꿔 끼울 수 있도록 최대 전공 수보다 하나 더 준비
+		int required = SPECIALTY_COUNTS[SPECIALTY_COUNTS.length - 1] + 1;
+		long existing = specialtyRepository.count();
+		for (long i = existing; i < required; i++) {
+			specialtyRepository.save(Specialty.builder().name("전공" + i).build());
+		}
+		referenceDataRegistry.reload();
+
+		specialtyIds = specialtyRepository.findAll().stream().map(Specialty::getId).sorted().toList();
+	}
+
+	@Test
+	@DisplayName("전공 수정 - 기존 방식 대비 쿼리 수와 소요 시간 비교")
+	void compareReplaceAllWithDiff() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		System.out.printf("%-12s %18s %18s %16s %16s%n",
+			"specialties", "replace-all stmts", "diff stmts", "replace-all us", "diff us");
+
+		for (int count : SPECIALTY_COUNTS) {
+			List<Integer> original = specialtyIds.subList(0, count);
+			List<Integer> swapped = specialtyIds.subList(1, count + 1);
+
+			int replaceAllVetId = vetService.register(request(original)).getId();
+			int diffVetId = vetService.register(request(original)).getId();
+
+			Result replaceAll = measure(statistics, round -> transactionTemplate.executeWithoutResult(status -> {
+				// 변경 전 VetService.update 의 전공 교체 경로
+				Vet vet = vetRepository.findById(replaceAllVetId).orElseThrow();
+				List<Specialty> specialties = specialtyService.findByIds(round % 2 == 0 ? swapped : original);
+				vetSpecialtyRepository.deleteAllByVetId_Id(replaceAllVetId);
+				vetSpecialtyRepository.saveAll(vetSpecialtyMapper.toEntityList(vet, specialties));
+			}));
+			Result diff = measure(statistics,
+				round -> vetService.update(diffVetId, request(round % 2 == 0 ? swapped : original)));
+
+			System.out.printf("%-12d %18.1f %18.1f %16.0f %16.0f%n",
+				count, replaceAll.statements(), diff.statements(), replaceAll.micros(), diff.micros());
+
+			assertThat(diff.statements()).isLessThanOrEqualTo(replaceAll.statements());
+		}
+	}
+
+	private Result measure(Statistics statistics, IntConsumer update) {
+		IntStream.range(0, WARMUP_ROUNDS).forEach(update);
+
+		statistics.clear();
+		long startedAt = System.nanoTime();
+		IntStream.range(WARMUP_ROUNDS, WARMUP_ROUNDS + MEASURED_ROUNDS).forEach(update);
+		long elapsed = System.nanoTime() - startedAt;
+
+		return new Result(
+			(double) statistics.getPrepareStatementCount() / MEASURED_ROUNDS,
+			elapsed / 1_000.0 / MEASURED_ROUNDS);
+	}
+
+	private static VetRequestDto request(List<Integer> specialties) {
+		VetRequestDto request = new VetRequestDto();
+		request.setName("벤치마크");
+		request.setSpecialties(specialties);
+		return request;
+	}
+
+	private record Result(double statements, double micros) {
+	}
+}